@@ -0,0 +1,64 @@
+package org.example.plain.common.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.plain.domain.meeting.dto.MeetingChatBroadcast;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.socket.TextMessage;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 브로드캐스트 한 번에 필요한 직렬화/할당 비용을 비교한다. (-prof gc 의 gc.alloc.rate.norm 참고)
+ * legacy: Map.of 로 메시지를 만들고 문자열로 직렬화한 뒤 수신자마다 TextMessage를 새로 만들던 기존 방식
+ * frame: 타입이 있는 DTO를 바이트로 한 번만 직렬화하고 BroadcastFrame 의 TextMessage를 공유하는 방식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BroadcastEncodingBenchmark {
+
+    @Param({"6", "30"})
+    private int recipients;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        // ObjectMapper 직렬화기 캐시를 미리 채운다
+        objectMapper.writeValueAsString(Map.of("type", "chat"));
+        objectMapper.writeValueAsBytes(MeetingChatBroadcast.of("user", "name", "content"));
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) throws JsonProcessingException {
+        Map<String, Object> chatMessage = Map.of(
+                "type", "chat",
+                "userId", "user-1",
+                "userName", "홍길동",
+                "content", "안녕하세요, 오늘 회의 자료 공유드립니다.");
+        String json = objectMapper.writeValueAsString(chatMessage);
+        for (int i = 0; i < recipients; i++) {
+            // 전송 계층이 프레임을 쓸 때 수신자마다 UTF-8 인코딩이 다시 일어난다
+            blackhole.consume(new TextMessage(json).asBytes());
+        }
+    }
+
+    @Benchmark
+    public void frame(Blackhole blackhole) throws JsonProcessingException {
+        BroadcastFrame frame = BroadcastFrame.of(objectMapper,
+                MeetingChatBroadcast.of("user-1", "홍길동", "안녕하세요, 오늘 회의 자료 공유드립니다."));
+        for (int i = 0; i < recipients; i++) {
+            blackhole.consume(frame.message().asBytes());
+        }
+    }
+}
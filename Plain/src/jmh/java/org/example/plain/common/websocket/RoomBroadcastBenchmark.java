@@ -0,0 +1,75 @@
+package org.example.plain.common.websocket;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관계없는 방의 수가 늘어날 때 한 방에 대한 브로드캐스트 지연을 비교한다.
+ * legacyScan: 노드의 모든 세션을 순회하며 URI에서 방 ID를 다시 파싱하던 기존 방식
+ * indexedRegistry: RoomSessionRegistry로 대상 방의 세션만 순회하는 방식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoomBroadcastBenchmark {
+    private static final String TARGET_ROOM = "target";
+    private static final int TARGET_ROOM_SESSIONS = 30;
+
+    @Param({"10", "100", "1000", "10000"})
+    private int unrelatedRooms;
+
+    private final Map<String, WebSocketSession> flatSessions = new ConcurrentHashMap<>();
+    private final RoomSessionRegistry registry = new RoomSessionRegistry();
+    private final TextMessage message = new TextMessage("{\"type\":\"TALK\",\"content\":\"hello\"}");
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < unrelatedRooms; i++) {
+            String roomId = "room-" + i;
+            add(roomId, new StubWebSocketSession("s-" + i, "/ws/chat/" + roomId, false));
+        }
+        for (int i = 0; i < TARGET_ROOM_SESSIONS; i++) {
+            add(TARGET_ROOM, new StubWebSocketSession("t-" + i, "/ws/chat/" + TARGET_ROOM, false));
+        }
+    }
+
+    private void add(String roomId, WebSocketSession session) {
+        flatSessions.put(session.getId(), session);
+        registry.register(roomId, session);
+    }
+
+    @Benchmark
+    public void legacyScan(Blackhole blackhole) throws Exception {
+        for (WebSocketSession session : flatSessions.values()) {
+            String uri = session.getUri().toString();
+            if (uri.substring(uri.lastIndexOf("/") + 1).equals(TARGET_ROOM)) {
+                session.sendMessage(message);
+                blackhole.consume(session);
+            }
+        }
+    }
+
+    @Benchmark
+    public void indexedRegistry(Blackhole blackhole) throws Exception {
+        int delivered = 0;
+        for (WebSocketSession session : registry.sessions(TARGET_ROOM)) {
+            session.sendMessage(message);
+            blackhole.consume(session);
+            delivered++;
+        }
+        registry.recordBroadcast(TARGET_ROOM, delivered, 0);
+    }
+}
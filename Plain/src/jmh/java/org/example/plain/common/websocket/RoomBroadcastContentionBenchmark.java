@@ -0,0 +1,75 @@
+package org.example.plain.common.websocket;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 회의실에서 동시에 시그널링이 발생할 때의 전체 브로드캐스트 처리량을 비교한다.
+ * globalMonitor: 핸들러 전체에 하나의 monitor를 잡던 기존 synchronized broadcastToRoom
+ * perRoom: RoomSessionRegistry.broadcast 의 방 단위 직렬화
+ * 스레드는 방에 고르게 나뉘므로, perRoom 처리량은 방 수에 비례해 늘어나고 globalMonitor는 평평해야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class RoomBroadcastContentionBenchmark {
+    private static final int SESSIONS_PER_ROOM = 6;
+    /** 세션 하나에 프레임을 넘기는 비용을 흉내내는 CPU 작업량 */
+    private static final long SEND_COST_TOKENS = 50;
+
+    @Param({"1", "2", "4", "8"})
+    private int rooms;
+
+    private final RoomSessionRegistry registry = new RoomSessionRegistry();
+    private final Object globalLock = new Object();
+
+    @Setup
+    public void setUp() {
+        for (int room = 0; room < rooms; room++) {
+            for (int i = 0; i < SESSIONS_PER_ROOM; i++) {
+                String id = room + "-" + i;
+                registry.register("room-" + room, new StubWebSocketSession(id, "/ws/meeting/room-" + room, false));
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Sender {
+        private String roomId;
+
+        @Setup
+        public void setUp(ThreadParams threadParams, RoomBroadcastContentionBenchmark benchmark) {
+            roomId = "room-" + (threadParams.getThreadIndex() % benchmark.rooms);
+        }
+    }
+
+    @Benchmark
+    public void globalMonitor(Sender sender) {
+        synchronized (globalLock) {
+            for (WebSocketSession session : registry.sessions(sender.roomId)) {
+                Blackhole.consumeCPU(SEND_COST_TOKENS);
+            }
+        }
+    }
+
+    @Benchmark
+    public int perRoom(Sender sender) {
+        return registry.broadcast(sender.roomId, session -> {
+            Blackhole.consumeCPU(SEND_COST_TOKENS);
+            return true;
+        });
+    }
+}
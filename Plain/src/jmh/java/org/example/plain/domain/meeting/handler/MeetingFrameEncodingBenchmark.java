@@ -0,0 +1,76 @@
+package org.example.plain.domain.meeting.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.plain.domain.meeting.dto.MeetingInboundMessage;
+import org.example.plain.domain.meeting.dto.MeetingStateBroadcast;
+import org.example.plain.domain.meeting.dto.SignalMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회의 WebSocket 프레임의 JSON 과 바이너리(MeetingBinaryCodec) 형식 인코딩/파싱 비용을 비교한다.
+ * state: 서버가 보내는 음소거/비디오 상태 변경, candidate: 서버가 전달하는 ICE candidate
+ * inbound: 클라이언트가 보낸 상태 변경 프레임을 MeetingInboundMessage 로 읽는 비용
+ * 프레임 크기 비교는 MeetingBinaryCodecTest 에서 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MeetingFrameEncodingBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MeetingStateBroadcast state;
+    private SignalMessage candidate;
+    private byte[] inboundJson;
+    private byte[] inboundBinary;
+
+    @Setup
+    public void setUp() throws IOException {
+        state = MeetingStateBroadcast.of("user-1", true, false);
+        candidate = new SignalMessage("candidate", "3f2b8c7e-4d1a-4b5e-9c3f-2a1b0c9d8e7f", "user-1", "user-2",
+                "candidate:842163049 1 udp 1677729535 203.0.113.7 46154 typ srflx raddr 10.0.0.5 rport 46154");
+        MeetingInboundMessage inbound = new MeetingInboundMessage("state", null, null, null, true, false);
+        inboundJson = objectMapper.writeValueAsBytes(inbound);
+        inboundBinary = MeetingBinaryCodec.encodeInbound(inbound);
+        objectMapper.readValue(inboundJson, MeetingInboundMessage.class);
+    }
+
+    @Benchmark
+    public byte[] stateJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(state);
+    }
+
+    @Benchmark
+    public byte[] stateBinary() {
+        return MeetingBinaryCodec.encode(state);
+    }
+
+    @Benchmark
+    public byte[] candidateJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(candidate);
+    }
+
+    @Benchmark
+    public byte[] candidateBinary() {
+        return MeetingBinaryCodec.encode(candidate);
+    }
+
+    @Benchmark
+    public MeetingInboundMessage inboundJson() throws IOException {
+        return objectMapper.readValue(inboundJson, MeetingInboundMessage.class);
+    }
+
+    @Benchmark
+    public MeetingInboundMessage inboundBinary() {
+        return MeetingBinaryCodec.decodeInbound(inboundBinary);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.plain.domain.meeting.service.impl;
+
+import org.example.plain.domain.meeting.dto.ChatMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회의 채팅 기록 한 건을 Redis 에 쓰고 읽을 때의 인코딩 비용을 비교한다.
+ * legacy: ChatMessage.toString() 을 그대로 저장하던 기존 형식 (읽을 때는 문자열만 감싼다)
+ * codec: ChatMessageCodec 바이너리 레코드
+ * 레코드 크기 비교는 ChatMessageCodecTest 에서 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatRecordEncodingBenchmark {
+
+    private ChatMessage message;
+    private byte[] legacyRecord;
+    private byte[] codecRecord;
+
+    @Setup
+    public void setUp() {
+        message = ChatMessage.builder()
+                .type("chat")
+                .roomId("3f2b8c7e-4d1a-4b5e-9c3f-2a1b0c9d8e7f")
+                .senderId("user-1")
+                .senderName("홍길동")
+                .message("오늘 회의 자료 공유드립니다.")
+                .timestamp(LocalDateTime.now())
+                .build();
+        legacyRecord = legacyEncode();
+        codecRecord = codecEncode();
+    }
+
+    @Benchmark
+    public byte[] legacyEncode() {
+        return message.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] codecEncode() {
+        return ChatMessageCodec.encode(message);
+    }
+
+    @Benchmark
+    public ChatMessage legacyDecode() {
+        return ChatMessage.builder()
+                .type("chat")
+                .roomId(message.getRoomId())
+                .message(new String(legacyRecord, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    @Benchmark
+    public ChatMessage codecDecode() {
+        return ChatMessageCodec.decode(message.getRoomId(), codecRecord);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.plain.domain.meeting.service.impl;
+
+import org.example.plain.domain.meeting.dto.ParticipantState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1,000개 회의실 x 50명 참가자 상태에서 ParticipantServiceImpl 의 처리량을 측정한다.
+ * 4개 스레드가 임의의 회의실/참가자를 골라 입장-퇴장, 상태 변경, 조회를 반복한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class ParticipantStoreBenchmark {
+    private static final int ROOMS = 1_000;
+    private static final int PARTICIPANTS = 50;
+
+    private final String[] roomIds = new String[ROOMS];
+    private final String[] userIds = new String[PARTICIPANTS];
+    private ParticipantServiceImpl participantService;
+
+    @Setup
+    public void setUp() {
+        participantService = new ParticipantServiceImpl();
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            userIds[i] = "user-" + i;
+        }
+        for (int room = 0; room < ROOMS; room++) {
+            roomIds[room] = "room-" + room;
+            for (String userId : userIds) {
+                participantService.addParticipant(roomIds[room], userId);
+                participantService.updateParticipantState(roomIds[room], userId, userId, false, false);
+            }
+        }
+    }
+
+    @Benchmark
+    public void leaveAndJoin() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String roomId = roomIds[random.nextInt(ROOMS)];
+        String userId = userIds[random.nextInt(PARTICIPANTS)];
+        participantService.removeParticipant(roomId, userId);
+        participantService.addParticipant(roomId, userId);
+    }
+
+    @Benchmark
+    public void updateState() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String userId = userIds[random.nextInt(PARTICIPANTS)];
+        participantService.updateParticipantState(roomIds[random.nextInt(ROOMS)], userId, userId, random.nextBoolean(), false);
+    }
+
+    @Benchmark
+    public List<ParticipantState> readStates() {
+        return participantService.getParticipantStates(roomIds[ThreadLocalRandom.current().nextInt(ROOMS)]);
+    }
+}
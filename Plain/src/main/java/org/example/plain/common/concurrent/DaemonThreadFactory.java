@@ -0,0 +1,40 @@
+package org.example.plain.common.concurrent;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이름을 붙인 데몬 스레드를 만든다.
+ * 백그라운드 풀이 애플리케이션 종료를 막지 않도록 모든 내부 실행기가 이 팩토리를 쓴다.
+ */
+public final class DaemonThreadFactory implements ThreadFactory {
+    private final String name;
+    private final boolean numbered;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    private DaemonThreadFactory(String name, boolean numbered) {
+        this.name = name;
+        this.numbered = numbered;
+    }
+
+    /**
+     * 스레드 하나만 쓰는 실행기용. 모든 스레드가 같은 이름을 쓴다.
+     */
+    public static DaemonThreadFactory named(String name) {
+        return new DaemonThreadFactory(name, false);
+    }
+
+    /**
+     * 여러 스레드를 쓰는 실행기용. 이름 뒤에 순번이 붙는다. (file-upload-1, file-upload-2 ...)
+     */
+    public static DaemonThreadFactory numbered(String prefix) {
+        return new DaemonThreadFactory(prefix, true);
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, numbered ? name + "-" + sequence.incrementAndGet() : name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
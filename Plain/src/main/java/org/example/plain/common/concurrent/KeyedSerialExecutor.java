@@ -0,0 +1,80 @@
+package org.example.plain.common.concurrent;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키마다 순서를 지키는 고정 크기 실행기
+ * 키를 해시해 단일 스레드 실행기(stripe) 하나에 배정하므로, 같은 키의 작업은 넣은 순서대로 하나씩 실행되고
+ * 다른 키의 작업은 stripe 수만큼 동시에 실행된다. stripe 마다 큐 크기가 제한되어 있어 가득 차면 작업을 거절한다.
+ */
+public class KeyedSerialExecutor {
+    private final ThreadPoolExecutor[] stripes;
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param threadName 스레드 이름 접두사 (뒤에 stripe 번호가 붙는다)
+     * @param stripeCount 스레드 수
+     * @param queueCapacity stripe 하나에 쌓을 수 있는 최대 작업 수
+     */
+    public KeyedSerialExecutor(String threadName, int stripeCount, int queueCapacity) {
+        this.stripes = new ThreadPoolExecutor[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                    DaemonThreadFactory.named(threadName + "-" + (i + 1)));
+        }
+    }
+
+    /**
+     * 키의 이전 작업이 끝난 뒤에 작업을 실행합니다.
+     * @return 큐가 가득 찼거나 종료되어 거절되면 false
+     */
+    public boolean execute(String key, Runnable task) {
+        try {
+            stripes[Math.floorMod(key.hashCode(), stripes.length)].execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return false;
+        }
+    }
+
+    /**
+     * 아직 실행되지 않았거나 실행 중인 작업 수
+     */
+    public int pending() {
+        int pending = 0;
+        for (ThreadPoolExecutor stripe : stripes) {
+            pending += stripe.getQueue().size() + stripe.getActiveCount();
+        }
+        return pending;
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * 새 작업을 받지 않고, 이미 넣은 작업은 잠깐 (최대 5초) 기다려 끝낸 뒤 종료합니다.
+     */
+    public void shutdown() {
+        for (ThreadPoolExecutor stripe : stripes) {
+            stripe.shutdown();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        try {
+            for (ThreadPoolExecutor stripe : stripes) {
+                stripe.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (ThreadPoolExecutor stripe : stripes) {
+            stripe.shutdownNow();
+        }
+    }
+}
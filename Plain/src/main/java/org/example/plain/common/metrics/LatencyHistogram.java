@@ -0,0 +1,86 @@
+package org.example.plain.common.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 버킷 기반의 가벼운 지연 시간 히스토그램
+ * 기록은 lock 없이 LongAdder로 누적하고, 조회 시 스냅샷을 만든다.
+ */
+public class LatencyHistogram {
+    /** 버킷 상한 (마이크로초). 마지막 버킷은 상한 없음 */
+    private static final long[] BUCKET_BOUNDS_MICROS = {
+            100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000,
+            100_000, 250_000, 500_000, 1_000_000, 5_000_000
+    };
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MICROS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        int index = 0;
+        while (index < BUCKET_BOUNDS_MICROS.length && micros > BUCKET_BOUNDS_MICROS[index]) {
+            index++;
+        }
+        buckets[index].increment();
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        long sumNanos = totalNanos.sum();
+        return new Snapshot(
+                total,
+                total == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(sumNanos / total),
+                percentile(counts, total, 0.50),
+                percentile(counts, total, 0.99),
+                TimeUnit.NANOSECONDS.toMicros(maxNanos.get())
+        );
+    }
+
+    /**
+     * 백분위수가 속한 버킷의 상한을 반환합니다. (마지막 버킷이면 최댓값)
+     */
+    private long percentile(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        long threshold = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= threshold) {
+                return i < BUCKET_BOUNDS_MICROS.length
+                        ? BUCKET_BOUNDS_MICROS[i]
+                        : TimeUnit.NANOSECONDS.toMicros(maxNanos.get());
+            }
+        }
+        return TimeUnit.NANOSECONDS.toMicros(maxNanos.get());
+    }
+
+    public record Snapshot(
+            long count,
+            long meanMicros,
+            long p50Micros,
+            long p99Micros,
+            long maxMicros
+    ) {
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.plain.common.metrics;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.plain.common.concurrent.DaemonThreadFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 MetricsSource 의 지표를 metrics.log.interval-seconds 마다 한 줄씩 로그로 남긴다. (0 이면 끈다)
+ */
+@Slf4j
+@Component
+public class MetricsLogReporter {
+    private final List<MetricsSource> sources;
+    private final ScheduledExecutorService scheduler;
+
+    public MetricsLogReporter(
+            List<MetricsSource> sources,
+            @Value("${metrics.log.interval-seconds:60}") long intervalSeconds) {
+        this.sources = sources;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(DaemonThreadFactory.named("metrics-log-reporter"));
+        if (intervalSeconds > 0) {
+            scheduler.scheduleWithFixedDelay(this::reportQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 지표를 읽어 로그로 남기고, 컴포넌트 이름별 스냅샷을 반환합니다.
+     */
+    public Map<String, Object> report() {
+        Map<String, Object> snapshots = new LinkedHashMap<>();
+        for (MetricsSource source : sources) {
+            String name = ClassUtils.getUserClass(source).getSimpleName();
+            Object metrics = source.getMetrics();
+            snapshots.put(name, metrics);
+            log.info("metrics {} {}", name, metrics);
+        }
+        return snapshots;
+    }
+
+    private void reportQuietly() {
+        try {
+            report();
+        } catch (RuntimeException e) {
+            log.warn("Failed to report metrics: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
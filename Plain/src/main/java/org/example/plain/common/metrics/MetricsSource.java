@@ -0,0 +1,13 @@
+package org.example.plain.common.metrics;
+
+/**
+ * 내부 지표를 내보내는 컴포넌트
+ * MetricsLogReporter 가 주기적으로 스냅샷을 읽어 로그로 남긴다.
+ */
+public interface MetricsSource {
+
+    /**
+     * 현재 지표 스냅샷을 반환합니다. 여러 스레드에서 호출될 수 있으므로 잠금 없이 읽을 수 있어야 합니다.
+     */
+    Object getMetrics();
+}
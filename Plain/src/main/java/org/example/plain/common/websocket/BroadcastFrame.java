@@ -0,0 +1,52 @@
+package org.example.plain.common.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.socket.TextMessage;
+
+/**
+ * 한 번만 직렬화해서 모든 수신자에게 재사용하는 브로드캐스트 프레임
+ * UTF-8 바이트와 그 바이트로 만든 TextMessage를 함께 가지고 있으며 생성 후 변경되지 않는다.
+ */
+public final class BroadcastFrame {
+    private final byte[] payload;
+    private final TextMessage message;
+
+    private BroadcastFrame(byte[] payload, TextMessage message) {
+        this.payload = payload;
+        this.message = message;
+    }
+
+    /**
+     * 객체를 JSON으로 한 번 직렬화해 프레임을 만듭니다.
+     */
+    public static BroadcastFrame of(ObjectMapper objectMapper, Object payload) throws JsonProcessingException {
+        byte[] bytes = objectMapper.writeValueAsBytes(payload);
+        return new BroadcastFrame(bytes, new TextMessage(bytes));
+    }
+
+    /**
+     * 이미 받은 텍스트 메시지를 그대로 프레임으로 감쌉니다.
+     */
+    public static BroadcastFrame of(TextMessage message) {
+        return new BroadcastFrame(message.asBytes(), message);
+    }
+
+    /**
+     * 모든 수신자가 공유하는 TextMessage
+     */
+    public TextMessage message() {
+        return message;
+    }
+
+    /**
+     * 직렬화된 UTF-8 바이트. 공유 배열이므로 호출자는 수정하면 안 된다.
+     */
+    public byte[] payload() {
+        return payload;
+    }
+
+    public int length() {
+        return payload.length;
+    }
+}
@@ -0,0 +1,243 @@
+package org.example.plain.common.websocket;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.plain.common.concurrent.DaemonThreadFactory;
+import org.example.plain.common.metrics.LatencyHistogram;
+import org.example.plain.common.metrics.MetricsSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WebSocket 세션별 송신 큐
+ * 세션마다 크기가 제한된 큐를 두고, 한 번에 하나의 writer만 큐를 비우면서 전송한다.
+ * 브로드캐스트하는 스레드는 큐에 넣기만 하므로 느린 클라이언트가 다른 수신자를 막지 않는다.
+ */
+@Slf4j
+@Component
+public class OutboundMessageDispatcher implements MetricsSource {
+    /** writer가 한 번 실행될 때 연속으로 보내는 최대 메시지 수 (다른 세션에 스레드를 양보하기 위함) */
+    private static final int MAX_BATCH_PER_RUN = 64;
+
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final ThreadPoolExecutor writers;
+    private final Map<String, SessionOutbound> outbounds = new ConcurrentHashMap<>();
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder disconnected = new LongAdder();
+    private final LatencyHistogram timeToDeliver = new LatencyHistogram();
+
+    public OutboundMessageDispatcher(
+            @Value("${websocket.outbound.queue-capacity:256}") int queueCapacity,
+            @Value("${websocket.outbound.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+            @Value("${websocket.outbound.writer-threads:64}") int writerThreads) {
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.writers = new ThreadPoolExecutor(writerThreads, writerThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), DaemonThreadFactory.numbered("ws-outbound"));
+        this.writers.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 세션의 송신 큐를 생성합니다.
+     */
+    public void register(WebSocketSession session) {
+        outbounds.computeIfAbsent(session.getId(), id -> new SessionOutbound(session));
+    }
+
+    /**
+     * 세션의 송신 큐를 제거하고 아직 보내지 못한 메시지를 버립니다.
+     */
+    public void unregister(WebSocketSession session) {
+        SessionOutbound outbound = outbounds.remove(session.getId());
+        if (outbound != null) {
+            outbound.discard();
+        }
+    }
+
+    /**
+     * 메시지를 세션의 송신 큐에 넣습니다. 실제 전송은 writer 스레드에서 이루어집니다.
+     * @param session 대상 세션
+     * @param message 보낼 메시지
+     * @return 큐에 들어갔으면 true, 세션이 닫혔거나 등록되지 않았거나 (이미 unregister 됨) 연결을 끊었으면 false
+     */
+    public boolean send(WebSocketSession session, WebSocketMessage<?> message) {
+        if (!session.isOpen()) {
+            return false;
+        }
+        // unregister 된 세션의 큐를 다시 만들지 않는다
+        SessionOutbound outbound = outbounds.get(session.getId());
+        return outbound != null && outbound.offer(message);
+    }
+
+    @Override
+    public DeliveryMetrics getMetrics() {
+        return new DeliveryMetrics(
+                outbounds.size(),
+                queueDepth.get(),
+                enqueued.sum(),
+                delivered.sum(),
+                dropped.sum(),
+                failed.sum(),
+                disconnected.sum(),
+                timeToDeliver.snapshot()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writers.shutdown();
+        if (!writers.awaitTermination(5, TimeUnit.SECONDS)) {
+            writers.shutdownNow();
+        }
+    }
+
+    private final class SessionOutbound implements Runnable {
+        private final WebSocketSession session;
+        private final ArrayDeque<Pending> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        private SessionOutbound(WebSocketSession session) {
+            this.session = session;
+        }
+
+        private boolean offer(WebSocketMessage<?> message) {
+            boolean schedule = false;
+            boolean overflowed = false;
+            synchronized (this) {
+                if (closed) {
+                    return false;
+                }
+                if (queue.size() >= queueCapacity) {
+                    if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                        closed = true;
+                        overflowed = true;
+                        clear();
+                    } else {
+                        queue.pollFirst();
+                        queueDepth.decrementAndGet();
+                        dropped.increment();
+                    }
+                }
+                if (!overflowed) {
+                    queue.addLast(new Pending(message, System.nanoTime()));
+                    queueDepth.incrementAndGet();
+                    enqueued.increment();
+                    if (!draining) {
+                        draining = true;
+                        schedule = true;
+                    }
+                }
+            }
+            if (overflowed) {
+                disconnectSlowConsumer();
+                return false;
+            }
+            if (schedule) {
+                schedule();
+            }
+            return true;
+        }
+
+        @Override
+        public void run() {
+            for (int sent = 0; sent < MAX_BATCH_PER_RUN; sent++) {
+                Pending next;
+                synchronized (this) {
+                    next = queue.pollFirst();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                queueDepth.decrementAndGet();
+                deliver(next);
+            }
+            // 아직 남은 메시지가 있으면 다른 세션에 양보한 뒤 이어서 전송
+            schedule();
+        }
+
+        private void deliver(Pending pending) {
+            if (!session.isOpen()) {
+                dropped.increment();
+                return;
+            }
+            try {
+                session.sendMessage(pending.message());
+                delivered.increment();
+                timeToDeliver.record(System.nanoTime() - pending.enqueuedAt());
+            } catch (Exception e) {
+                failed.increment();
+                log.error("Failed to send message to session {}: {}", session.getId(), e.getMessage());
+            }
+        }
+
+        private void schedule() {
+            try {
+                writers.execute(this);
+            } catch (RejectedExecutionException e) {
+                log.warn("Outbound writer rejected for session {}, discarding queue", session.getId());
+                discard();
+            }
+        }
+
+        private void discard() {
+            synchronized (this) {
+                closed = true;
+                clear();
+                draining = false;
+            }
+        }
+
+        private void clear() {
+            int size = queue.size();
+            queue.clear();
+            queueDepth.addAndGet(-size);
+            dropped.add(size);
+        }
+
+        private void disconnectSlowConsumer() {
+            disconnected.increment();
+            log.warn("Outbound queue overflow, disconnecting slow session {}", session.getId());
+            try {
+                session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (Exception e) {
+                log.error("Failed to close slow session {}: {}", session.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private record Pending(WebSocketMessage<?> message, long enqueuedAt) {
+    }
+
+    public record DeliveryMetrics(
+            int sessions,
+            long queueDepth,
+            long enqueued,
+            long delivered,
+            long dropped,
+            long failed,
+            long disconnected,
+            LatencyHistogram.Snapshot timeToDeliver
+    ) {
+    }
+}
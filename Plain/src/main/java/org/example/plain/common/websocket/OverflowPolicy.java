@@ -0,0 +1,9 @@
+package org.example.plain.common.websocket;
+
+/**
+ * 세션별 송신 큐가 가득 찼을 때의 처리 정책
+ */
+public enum OverflowPolicy {
+    DROP_OLDEST,    // 가장 오래된 메시지를 버리고 새 메시지를 넣는다
+    DISCONNECT      // 느린 클라이언트로 보고 연결을 끊는다
+}
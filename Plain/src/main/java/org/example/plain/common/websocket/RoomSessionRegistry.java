@@ -0,0 +1,208 @@
+package org.example.plain.common.websocket;
+
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * 방(room) ID 기준으로 WebSocket 세션을 관리하는 레지스트리
+ * 방 ID는 연결 시점에 한 번만 계산하고, 브로드캐스트는 해당 방의 세션만 순회한다.
+ * 브로드캐스트는 방 단위로만 직렬화되므로 서로 다른 방끼리는 경합하지 않는다.
+ * 사용자 ID와 함께 등록한 세션은 방 안에서 사용자별로도 찾을 수 있어, 특정 참여자에게만 보낼 수 있다.
+ */
+public class RoomSessionRegistry {
+    private final Map<String, Room> rooms = new ConcurrentHashMap<>();
+    private final Map<String, String> sessionRooms = new ConcurrentHashMap<>();
+
+    /**
+     * 세션을 방에 등록합니다.
+     * @param roomId 방 ID
+     * @param session WebSocket 세션
+     */
+    public void register(String roomId, WebSocketSession session) {
+        register(roomId, null, session);
+    }
+
+    /**
+     * 세션을 방에 등록하고 사용자별 색인에도 추가합니다.
+     * @param roomId 방 ID
+     * @param userId 사용자 ID (null 이면 색인하지 않음)
+     * @param session WebSocket 세션
+     */
+    public void register(String roomId, String userId, WebSocketSession session) {
+        sessionRooms.put(session.getId(), roomId);
+        rooms.compute(roomId, (id, room) -> {
+            Room target = room != null ? room : new Room(id);
+            target.sessions.add(session);
+            if (userId != null) {
+                target.sessionUsers.put(session.getId(), userId);
+                target.userSessions.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(session);
+            }
+            return target;
+        });
+    }
+
+    /**
+     * 세션을 등록 해제합니다. 방에 남은 세션이 없으면 방도 제거합니다.
+     * @param session WebSocket 세션
+     * @return 세션이 속해 있던 방 ID (등록되지 않은 세션이면 null)
+     */
+    public String unregister(WebSocketSession session) {
+        String roomId = sessionRooms.remove(session.getId());
+        if (roomId == null) {
+            return null;
+        }
+        rooms.computeIfPresent(roomId, (id, room) -> {
+            room.sessions.remove(session);
+            String userId = room.sessionUsers.remove(session.getId());
+            if (userId != null) {
+                room.userSessions.computeIfPresent(userId, (key, sessions) -> {
+                    sessions.remove(session);
+                    return sessions.isEmpty() ? null : sessions;
+                });
+            }
+            return room.sessions.isEmpty() ? null : room;
+        });
+        return roomId;
+    }
+
+    /**
+     * 세션이 속한 방 ID를 반환합니다.
+     */
+    public String roomOf(WebSocketSession session) {
+        return sessionRooms.get(session.getId());
+    }
+
+    /**
+     * 방에 속한 세션 목록을 반환합니다. 방이 없으면 빈 컬렉션을 반환합니다.
+     */
+    public Collection<WebSocketSession> sessions(String roomId) {
+        Room room = rooms.get(roomId);
+        return room != null ? room.sessions : List.of();
+    }
+
+    /**
+     * 방의 브로드캐스트 통계를 반환합니다. 방이 없으면 null을 반환합니다.
+     */
+    public RoomStats stats(String roomId) {
+        Room room = rooms.get(roomId);
+        return room != null ? room.snapshot() : null;
+    }
+
+    /**
+     * 방의 모든 세션에 전송 함수를 적용합니다.
+     * 같은 방에 대한 브로드캐스트는 순서대로 실행되어 모든 세션이 같은 순서로 메시지를 받습니다.
+     * @param roomId 방 ID
+     * @param sender 세션별 전송 함수 (성공하면 true)
+     * @return 전송에 성공한 세션 수
+     */
+    public int broadcast(String roomId, Predicate<WebSocketSession> sender) {
+        return broadcast(roomId, null, sender);
+    }
+
+    /**
+     * 방의 세션 중 exclude 를 뺀 나머지에 전송 함수를 적용합니다.
+     * @param exclude 제외할 세션 (보통 보낸 사람)
+     */
+    public int broadcast(String roomId, WebSocketSession exclude, Predicate<WebSocketSession> sender) {
+        Room room = rooms.get(roomId);
+        return room != null ? deliver(room, room.sessions, exclude, sender) : 0;
+    }
+
+    /**
+     * 방에 있는 특정 사용자의 세션에만 전송 함수를 적용합니다.
+     * 같은 방의 브로드캐스트와 같은 순서로 실행됩니다.
+     * @param roomId 방 ID
+     * @param userId 받을 사용자 ID
+     * @param sender 세션별 전송 함수 (성공하면 true)
+     * @return 전송에 성공한 세션 수 (사용자가 이 방에 없으면 0)
+     */
+    public int sendTo(String roomId, String userId, Predicate<WebSocketSession> sender) {
+        Room room = rooms.get(roomId);
+        if (room == null) {
+            return 0;
+        }
+        Set<WebSocketSession> targets = room.userSessions.get(userId);
+        return targets != null ? deliver(room, targets, null, sender) : 0;
+    }
+
+    private int deliver(Room room, Collection<WebSocketSession> targets, WebSocketSession exclude,
+                        Predicate<WebSocketSession> sender) {
+        int delivered = 0;
+        int failed = 0;
+        synchronized (room) {
+            for (WebSocketSession session : targets) {
+                if (session.equals(exclude)) {
+                    continue;
+                }
+                if (sender.test(session)) {
+                    delivered++;
+                } else {
+                    failed++;
+                }
+            }
+        }
+        room.record(delivered, failed);
+        return delivered;
+    }
+
+    /**
+     * 브로드캐스트 결과를 방 통계에 기록합니다.
+     * @param roomId 방 ID
+     * @param delivered 전송에 성공한 세션 수
+     * @param failed 전송에 실패한 세션 수
+     */
+    public void recordBroadcast(String roomId, int delivered, int failed) {
+        Room room = rooms.get(roomId);
+        if (room != null) {
+            room.record(delivered, failed);
+        }
+    }
+
+    public int roomCount() {
+        return rooms.size();
+    }
+
+    public int sessionCount() {
+        return sessionRooms.size();
+    }
+
+    private static class Room {
+        private final String roomId;
+        private final Set<WebSocketSession> sessions = ConcurrentHashMap.newKeySet();
+        private final Map<String, Set<WebSocketSession>> userSessions = new ConcurrentHashMap<>();
+        private final Map<String, String> sessionUsers = new ConcurrentHashMap<>();
+        private final LongAdder broadcasts = new LongAdder();
+        private final LongAdder deliveries = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private Room(String roomId) {
+            this.roomId = roomId;
+        }
+
+        private void record(int delivered, int failed) {
+            broadcasts.increment();
+            deliveries.add(delivered);
+            failures.add(failed);
+        }
+
+        private RoomStats snapshot() {
+            return new RoomStats(roomId, sessions.size(), broadcasts.sum(), deliveries.sum(), failures.sum());
+        }
+    }
+
+    public record RoomStats(
+            String roomId,
+            int sessions,
+            long broadcasts,
+            long deliveries,
+            long failures
+    ) {
+    }
+}
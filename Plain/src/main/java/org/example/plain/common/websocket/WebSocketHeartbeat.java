@@ -0,0 +1,142 @@
+package org.example.plain.common.websocket;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.plain.common.concurrent.DaemonThreadFactory;
+import org.example.plain.common.metrics.MetricsSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서버에서 주기적으로 ping 을 보내 끊어진 연결(half-open)을 찾아 닫는다.
+ * 세션에서 pong 이나 메시지를 받을 때마다 마지막 응답 시각을 갱신하고,
+ * timeout 동안 아무 응답이 없는 세션은 닫아서 핸들러의 afterConnectionClosed 정리가 실행되게 한다.
+ * ping 은 송신 큐(OutboundMessageDispatcher)를 거치므로 다른 메시지 전송과 겹치지 않는다.
+ */
+@Slf4j
+@Component
+public class WebSocketHeartbeat implements MetricsSource {
+    private static final ByteBuffer PING_PAYLOAD = ByteBuffer.allocate(0);
+
+    private final OutboundMessageDispatcher outboundDispatcher;
+    private final long timeoutNanos;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, Tracked> sessions = new ConcurrentHashMap<>();
+
+    private final LongAdder pings = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public WebSocketHeartbeat(
+            OutboundMessageDispatcher outboundDispatcher,
+            @Value("${websocket.heartbeat.interval-seconds:15}") long intervalSeconds,
+            @Value("${websocket.heartbeat.timeout-seconds:45}") long timeoutSeconds) {
+        this.outboundDispatcher = outboundDispatcher;
+        this.timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(DaemonThreadFactory.named("websocket-heartbeat"));
+        if (intervalSeconds > 0) {
+            scheduler.scheduleWithFixedDelay(this::beatQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    public void track(WebSocketSession session) {
+        sessions.put(session.getId(), new Tracked(session, System.nanoTime()));
+    }
+
+    public void untrack(WebSocketSession session) {
+        sessions.remove(session.getId());
+    }
+
+    /**
+     * 세션에서 pong 이나 메시지를 받았음을 기록합니다.
+     */
+    public void touch(WebSocketSession session) {
+        Tracked tracked = sessions.get(session.getId());
+        if (tracked != null) {
+            tracked.lastSeen = System.nanoTime();
+        }
+    }
+
+    /**
+     * 응답이 없는 세션을 닫고 나머지 세션에 ping 을 보냅니다.
+     * @return 닫은 세션 수
+     */
+    public int beat() {
+        long now = System.nanoTime();
+        int closed = 0;
+        for (Tracked tracked : sessions.values()) {
+            WebSocketSession session = tracked.session;
+            if (!session.isOpen() || now - tracked.lastSeen > timeoutNanos) {
+                sessions.remove(session.getId(), tracked);
+                timedOut.increment();
+                closed++;
+                close(session);
+            } else if (outboundDispatcher.send(session, new PingMessage(PING_PAYLOAD.duplicate()))) {
+                pings.increment();
+            }
+        }
+        return closed;
+    }
+
+    private void beatQuietly() {
+        try {
+            int closed = beat();
+            if (closed > 0) {
+                log.info("Closed {} unresponsive WebSocket sessions", closed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("WebSocket heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    private static void close(WebSocketSession session) {
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("Failed to close unresponsive session {}: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public HeartbeatMetrics getMetrics() {
+        return new HeartbeatMetrics(sessions.size(), pings.sum(), timedOut.sum());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private static final class Tracked {
+        private final WebSocketSession session;
+        private volatile long lastSeen;
+
+        private Tracked(WebSocketSession session, long lastSeen) {
+            this.session = session;
+            this.lastSeen = lastSeen;
+        }
+    }
+
+    /**
+     * @param trackedSessions 확인 중인 세션 수
+     * @param pings 보낸 ping 수
+     * @param timedOut 응답이 없어 닫은 세션 수
+     */
+    public record HeartbeatMetrics(
+            int trackedSessions,
+            long pings,
+            long timedOut
+    ) {
+    }
+}
@@ -2,6 +2,7 @@ package org.example.plain.domain.chat.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.example.plain.domain.chat.dto.ChatMessageDTO;
+import org.example.plain.domain.chat.dto.ChatMessagePage;
 import org.example.plain.domain.chat.dto.ChatRoomDTO;
 import org.example.plain.domain.chat.service.ClassChatService;
 import org.springframework.http.ResponseEntity;
@@ -41,13 +42,27 @@ public class ChatController {
 
 
     @GetMapping("/rooms/{chatId}/messages")
-    public ResponseEntity<List<ChatMessageDTO>> getMessages(@PathVariable String chatId) {
-        return ResponseEntity.ok(classChatService.getMessages(chatId));
+    public ResponseEntity<ChatMessagePage> getMessages(
+            @PathVariable String chatId,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(classChatService.getMessages(chatId, before, limit));
     }
 
     @GetMapping("/rooms/{chatId}/messages/unread")
-    public ResponseEntity<List<ChatMessageDTO>> getUnreadMessages(@PathVariable String chatId) {
-        return ResponseEntity.ok(classChatService.getUnreadMessages(chatId));
+    public ResponseEntity<ChatMessagePage> getUnreadMessages(
+            @PathVariable String chatId,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "50") int limit,
+            Authentication authentication) {
+        return ResponseEntity.ok(classChatService.getUnreadMessages(chatId, authentication.getName(), before, limit));
+    }
+
+    @GetMapping("/rooms/{chatId}/messages/unread/count")
+    public ResponseEntity<Long> getUnreadCount(
+            @PathVariable String chatId,
+            Authentication authentication) {
+        return ResponseEntity.ok(classChatService.getUnreadCount(chatId, authentication.getName()));
     }
 
     @PostMapping("/rooms/{chatId}/messages/read")
@@ -0,0 +1,75 @@
+package org.example.plain.domain.chat.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * 채팅 메시지 keyset 페이지네이션 커서
+ * (mes_stamp, mes_id) 를 불투명한 문자열로 인코딩해 클라이언트에 전달한다.
+ */
+public record ChatMessageCursor(
+        LocalDateTime messageStamp,
+        String messageId
+) {
+    /** 최신순 정렬: mes_stamp DESC, mes_id DESC */
+    public static final Comparator<ChatMessageDTO> NEWEST_FIRST = Comparator
+            .comparing(ChatMessageDTO::getMessageStamp)
+            .thenComparing(ChatMessageDTO::getMessageId)
+            .reversed();
+
+    private static final char SEPARATOR = '|';
+
+    public static ChatMessageCursor of(ChatMessageDTO message) {
+        return new ChatMessageCursor(message.getMessageStamp(), message.getMessageId());
+    }
+
+    /**
+     * 클라이언트가 보낸 커서를 해석합니다.
+     * @param cursor 인코딩된 커서 (없으면 null)
+     * @return 해석된 커서, 입력이 비어 있으면 null
+     */
+    public static ChatMessageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException(cursor);
+            }
+            return new ChatMessageCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    decoded.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new HttpClientErrorException(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = messageStamp.toString() + SEPARATOR + messageId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 메시지가 커서보다 이전(더 오래된) 메시지인지 확인합니다.
+     */
+    public boolean isOlder(ChatMessageDTO message) {
+        int compare = message.getMessageStamp().compareTo(messageStamp);
+        return compare < 0 || (compare == 0 && message.getMessageId().compareTo(messageId) < 0);
+    }
+
+    /**
+     * 메시지가 커서보다 이후(더 최신) 메시지인지 확인합니다.
+     */
+    public boolean isNewer(ChatMessageDTO message) {
+        int compare = message.getMessageStamp().compareTo(messageStamp);
+        return compare > 0 || (compare == 0 && message.getMessageId().compareTo(messageId) > 0);
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.plain.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 채팅 메시지 한 페이지 (최신순)
+ * nextCursor 를 다음 요청의 before 로 넘기면 더 오래된 메시지를 이어서 조회한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessagePage {
+    private List<ChatMessageDTO> messages;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,10 @@
+package org.example.plain.domain.chat.dto;
+
+/**
+ * 채팅방별로 DB 에 저장된 읽지 않은 메시지 수 (write-behind 대기 메시지는 포함하지 않음)
+ */
+public record ChatUnreadCount(
+        String chatId,
+        long count
+) {
+}
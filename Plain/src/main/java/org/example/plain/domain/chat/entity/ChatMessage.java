@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "chat_message")
+@Table(name = "chat_message", indexes = {
+        @Index(name = "idx_chat_message_room_stamp", columnList = "chat_id, mes_stamp, mes_id")
+})
 public class ChatMessage {
     @Id
     @Column(name = "mes_id")
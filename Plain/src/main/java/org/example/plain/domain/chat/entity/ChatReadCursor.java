@@ -0,0 +1,29 @@
+package org.example.plain.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.plain.domain.chat.entity.id.ChatJoinId;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방별 사용자의 마지막 읽은 위치
+ * (last_read_stamp, last_read_mes_id) 보다 뒤에 있는 메시지가 읽지 않은 메시지이다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "chat_read_cursor")
+public class ChatReadCursor {
+    @EmbeddedId
+    private ChatJoinId id;
+
+    @Column(name = "last_read_stamp")
+    private LocalDateTime lastReadStamp;
+
+    @Column(name = "last_read_mes_id")
+    private String lastReadMessageId;
+}
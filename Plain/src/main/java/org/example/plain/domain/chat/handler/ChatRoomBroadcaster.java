@@ -0,0 +1,159 @@
+package org.example.plain.domain.chat.handler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.plain.common.concurrent.KeyedSerialExecutor;
+import org.example.plain.common.websocket.BroadcastFrame;
+import org.example.plain.common.websocket.OutboundMessageDispatcher;
+import org.example.plain.common.websocket.RoomSessionRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 세션 관리와 브로드캐스트를 담당한다.
+ * chat.fanout.mode=local(기본값)이면 이 노드에 접속한 세션에만 전달한다.
+ * chat.fanout.mode=redis 이면 메시지를 방 채널(chat:room:{chatId})에 한 번 publish 하고,
+ * 그 방에 접속한 세션이 있는 노드만 채널을 구독해 자기 세션에 전달한다. 발행한 노드도 구독으로 받으므로
+ * 모든 노드에서 같은 방의 메시지 순서가 같다.
+ * 구독 스레드는 받은 메시지를 방 ID 로 배정된 전달 스레드 큐에 넣기만 하므로, 같은 방의 메시지는 받은 순서대로
+ * 전달되고 전달 스레드 수는 delivery-threads 로 제한된다.
+ */
+@Slf4j
+@Component
+public class ChatRoomBroadcaster implements MessageListener {
+    private static final String CHANNEL_PREFIX = "chat:room:";
+
+    private final RoomSessionRegistry sessionRegistry = new RoomSessionRegistry();
+    private final OutboundMessageDispatcher outboundDispatcher;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    /** redis 모드에서 받은 메시지를 방마다 순서대로 전달한다 */
+    private final KeyedSerialExecutor deliveries;
+    /**
+     * redis 모드에서 이 노드가 구독 중인 채팅방. 구독/해제는 방 항목의 compute 안에서 하므로
+     * 같은 방끼리만 순서가 맞춰지고 다른 방의 입장/퇴장은 기다리지 않는다.
+     */
+    private final Map<String, Boolean> subscriptions = new ConcurrentHashMap<>();
+
+    public ChatRoomBroadcaster(
+            OutboundMessageDispatcher outboundDispatcher,
+            RedisTemplate<String, String> redisTemplate,
+            RedisConnectionFactory connectionFactory,
+            @Value("${chat.fanout.mode:local}") String mode,
+            @Value("${chat.fanout.delivery-threads:4}") int deliveryThreads,
+            @Value("${chat.fanout.delivery-queue:10000}") int deliveryQueue) {
+        this.outboundDispatcher = outboundDispatcher;
+        this.redisTemplate = redisTemplate;
+        if ("redis".equalsIgnoreCase(mode)) {
+            deliveries = new KeyedSerialExecutor("chat-fanout", deliveryThreads, deliveryQueue);
+            listenerContainer = new RedisMessageListenerContainer();
+            listenerContainer.setConnectionFactory(connectionFactory);
+            // 메시지마다 스레드를 만들지 않고 구독 스레드에서 바로 onMessage 를 호출한다
+            listenerContainer.setTaskExecutor(new SyncTaskExecutor());
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+        } else {
+            deliveries = null;
+            listenerContainer = null;
+        }
+    }
+
+    /**
+     * 세션을 채팅방에 등록합니다. 이 노드에서 방의 첫 세션이면 방 채널 구독을 시작합니다.
+     */
+    public void register(String chatId, WebSocketSession session) {
+        outboundDispatcher.register(session);
+        if (listenerContainer == null) {
+            sessionRegistry.register(chatId, session);
+            return;
+        }
+        subscriptions.compute(chatId, (id, subscribed) -> {
+            sessionRegistry.register(id, session);
+            if (subscribed == null) {
+                listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + id));
+            }
+            return Boolean.TRUE;
+        });
+    }
+
+    /**
+     * 세션 등록을 해제합니다. 이 노드에서 방의 마지막 세션이면 방 채널 구독을 끝냅니다.
+     * @return 세션이 속해 있던 채팅방 ID
+     */
+    public String unregister(WebSocketSession session) {
+        outboundDispatcher.unregister(session);
+        if (listenerContainer == null) {
+            return sessionRegistry.unregister(session);
+        }
+        String chatId = sessionRegistry.roomOf(session);
+        if (chatId == null) {
+            return null;
+        }
+        subscriptions.compute(chatId, (id, subscribed) -> {
+            sessionRegistry.unregister(session);
+            if (!sessionRegistry.sessions(id).isEmpty()) {
+                return subscribed;
+            }
+            if (subscribed != null) {
+                listenerContainer.removeMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + id));
+            }
+            return null;
+        });
+        return chatId;
+    }
+
+    public String roomOf(WebSocketSession session) {
+        return sessionRegistry.roomOf(session);
+    }
+
+    public RoomSessionRegistry.RoomStats stats(String chatId) {
+        return sessionRegistry.stats(chatId);
+    }
+
+    /**
+     * 채팅방의 모든 참여자에게 프레임을 전달합니다. redis 모드에서는 모든 노드의 참여자에게 전달됩니다.
+     */
+    public void broadcast(String chatId, BroadcastFrame frame) {
+        if (listenerContainer == null) {
+            deliverLocally(chatId, frame.message());
+            return;
+        }
+        byte[] channel = (CHANNEL_PREFIX + chatId).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute(connection -> connection.publish(channel, frame.payload()), true);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String chatId = channel.substring(CHANNEL_PREFIX.length());
+        TextMessage textMessage = new TextMessage(message.getBody());
+        if (!deliveries.execute(chatId, () -> deliverLocally(chatId, textMessage))) {
+            log.warn("Chat fan-out queue is full, dropped a message for room {}", chatId);
+        }
+    }
+
+    private void deliverLocally(String chatId, TextMessage message) {
+        sessionRegistry.broadcast(chatId, session -> outboundDispatcher.send(session, message));
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+            deliveries.shutdown();
+        }
+    }
+}
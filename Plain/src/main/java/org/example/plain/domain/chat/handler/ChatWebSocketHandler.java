@@ -3,18 +3,19 @@ package org.example.plain.domain.chat.handler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.plain.common.websocket.BroadcastFrame;
+import org.example.plain.common.websocket.WebSocketHeartbeat;
 import org.example.plain.domain.chat.dto.ChatMessageRequest;
 import org.example.plain.domain.chat.dto.ChatMessageResponse;
 import org.example.plain.domain.chat.service.ClassChatService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PongMessage;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import java.time.LocalDateTime;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
@@ -22,18 +23,21 @@ import java.util.concurrent.ConcurrentHashMap;
 public class ChatWebSocketHandler extends TextWebSocketHandler {
     private final ClassChatService classChatService;
     private final ObjectMapper objectMapper;
-    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final ChatRoomBroadcaster roomBroadcaster;
+    private final WebSocketHeartbeat heartbeat;
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) {
         String chatId = extractChatId(session);
-        sessions.put(session.getId(), session);
-        log.info("New WebSocket connection established: {}", session.getId());
+        roomBroadcaster.register(chatId, session);
+        heartbeat.track(session);
+        log.info("New WebSocket connection established: {}, chatId: {}", session.getId(), chatId);
     }
 
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
-        String chatId = extractChatId(session);
+        String chatId = roomBroadcaster.roomOf(session);
+        heartbeat.touch(session);
         String payload = message.getPayload();
         log.info("Received message: {}", payload);
 
@@ -49,9 +53,14 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
 
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
-        String chatId = extractChatId(session);
-        sessions.remove(session.getId());
-        log.info("WebSocket connection closed: {}", session.getId());
+        String chatId = roomBroadcaster.unregister(session);
+        heartbeat.untrack(session);
+        log.info("WebSocket connection closed: {}, chatId: {}", session.getId(), chatId);
+    }
+
+    @Override
+    protected void handlePongMessage(WebSocketSession session, PongMessage message) {
+        heartbeat.touch(session);
     }
 
     private String extractChatId(WebSocketSession session) {
@@ -96,16 +105,8 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
 
     private void broadcastMessage(String chatId, ChatMessageResponse message) {
         try {
-            String jsonMessage = objectMapper.writeValueAsString(message);
-            sessions.values().stream()
-                    .filter(session -> extractChatId(session).equals(chatId))
-                    .forEach(session -> {
-                        try {
-                            session.sendMessage(new TextMessage(jsonMessage));
-                        } catch (Exception e) {
-                            log.error("Error sending message to session {}: {}", session.getId(), e.getMessage());
-                        }
-                    });
+            // 한 번만 직렬화하고 모든 수신자가 같은 프레임을 공유한다
+            roomBroadcaster.broadcast(chatId, BroadcastFrame.of(objectMapper, message));
         } catch (Exception e) {
             log.error("Error broadcasting message: {}", e.getMessage());
         }
@@ -1,13 +1,70 @@
 package org.example.plain.domain.chat.repository;
 
+import org.example.plain.domain.chat.dto.ChatUnreadCount;
 import org.example.plain.domain.chat.entity.ChatMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, String> {
-    List<ChatMessage> findByChatRoomChatIdOrderByMessageStampDesc(String chatId);
-    List<ChatMessage> findByChatRoomChatIdAndIsCheckedFalseOrderByMessageStampDesc(String chatId);
-} 
\ No newline at end of file
+    // (chat_id, mes_stamp, mes_id) 인덱스를 그대로 타는 keyset 페이지 조회
+    @Query("SELECT m FROM ChatMessage m WHERE m.chatRoom.chatId = :chatId " +
+            "ORDER BY m.messageStamp DESC, m.messageId DESC")
+    List<ChatMessage> findLatest(@Param("chatId") String chatId, Pageable pageable);
+
+    @Query("SELECT m FROM ChatMessage m WHERE m.chatRoom.chatId = :chatId " +
+            "AND (m.messageStamp < :stamp OR (m.messageStamp = :stamp AND m.messageId < :messageId)) " +
+            "ORDER BY m.messageStamp DESC, m.messageId DESC")
+    List<ChatMessage> findBefore(@Param("chatId") String chatId,
+                                 @Param("stamp") LocalDateTime stamp,
+                                 @Param("messageId") String messageId,
+                                 Pageable pageable);
+
+    // 읽음 위치 이후의 메시지 (읽지 않은 메시지)
+    @Query("SELECT m FROM ChatMessage m WHERE m.chatRoom.chatId = :chatId " +
+            "AND (m.messageStamp > :stamp OR (m.messageStamp = :stamp AND m.messageId > :messageId)) " +
+            "ORDER BY m.messageStamp DESC, m.messageId DESC")
+    List<ChatMessage> findAfter(@Param("chatId") String chatId,
+                                @Param("stamp") LocalDateTime stamp,
+                                @Param("messageId") String messageId,
+                                Pageable pageable);
+
+    // 읽음 위치 이후이면서 커서 이전인 메시지 (읽지 않은 메시지의 다음 페이지)
+    @Query("SELECT m FROM ChatMessage m WHERE m.chatRoom.chatId = :chatId " +
+            "AND (m.messageStamp > :afterStamp OR (m.messageStamp = :afterStamp AND m.messageId > :afterId)) " +
+            "AND (m.messageStamp < :beforeStamp OR (m.messageStamp = :beforeStamp AND m.messageId < :beforeId)) " +
+            "ORDER BY m.messageStamp DESC, m.messageId DESC")
+    List<ChatMessage> findBetween(@Param("chatId") String chatId,
+                                  @Param("afterStamp") LocalDateTime afterStamp,
+                                  @Param("afterId") String afterId,
+                                  @Param("beforeStamp") LocalDateTime beforeStamp,
+                                  @Param("beforeId") String beforeId,
+                                  Pageable pageable);
+
+    @Query("SELECT COUNT(m) FROM ChatMessage m WHERE m.chatRoom.chatId = :chatId " +
+            "AND (m.messageStamp > :stamp OR (m.messageStamp = :stamp AND m.messageId > :messageId))")
+    long countAfter(@Param("chatId") String chatId,
+                    @Param("stamp") LocalDateTime stamp,
+                    @Param("messageId") String messageId);
+
+    long countByChatRoomChatId(String chatId);
+
+    // 여러 채팅방의 읽지 않은 메시지 수를 한 번에 센다. 읽음 위치가 없는 방은 전체가 읽지 않은 메시지다
+    // 읽지 않은 메시지가 없는 방은 결과에 없다
+    @Query("SELECT new org.example.plain.domain.chat.dto.ChatUnreadCount(m.chatRoom.chatId, COUNT(m)) " +
+            "FROM ChatMessage m LEFT JOIN ChatReadCursor c " +
+            "ON c.id.chatId = m.chatRoom.chatId AND c.id.userId = :userId " +
+            "WHERE m.chatRoom.chatId IN :chatIds " +
+            "AND (c.lastReadStamp IS NULL OR m.messageStamp > c.lastReadStamp " +
+            "OR (m.messageStamp = c.lastReadStamp AND m.messageId > c.lastReadMessageId)) " +
+            "GROUP BY m.chatRoom.chatId")
+    List<ChatUnreadCount> countUnreadByChatIds(@Param("userId") String userId,
+                                               @Param("chatIds") Collection<String> chatIds);
+}
@@ -0,0 +1,332 @@
+package org.example.plain.domain.chat.repository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.plain.common.concurrent.DaemonThreadFactory;
+import org.example.plain.common.metrics.MetricsSource;
+import org.example.plain.domain.chat.dto.ChatMessageDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅 메시지 write-behind 로그
+ * 전송된 메시지는 메모리 로그에 먼저 쌓이고, 크기(batch-size) 또는 시간(flush-interval) 기준으로
+ * chat_message 에 JDBC batch insert 된다. 채팅방 chat_stamp 갱신은 flush 한 번에 방마다 최대 한 번으로 합쳐진다.
+ * batch 가 실패하면 메시지를 하나씩 다시 기록해, 기록되지 않는 메시지만 로그 앞쪽에 남겨 다음 flush 에서 다시 시도한다.
+ * 같은 메시지가 max-attempts 번 실패하면 (제약 조건 위반 등) 더 막지 않도록 dead-letter 로그로 옮긴다.
+ * 로그가 max-pending 에 이르면 append 는 메시지를 넣기 전에 거절하므로, 거절된 메시지는 저장되지 않는다.
+ * 종료 시에는 남은 메시지를 모두 기록한다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehind implements MetricsSource {
+    private static final String INSERT_MESSAGE_SQL =
+            "INSERT INTO chat_message (mes_id, chat_id, mes_content, mes_stamp, mes_check) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_ROOM_STAMP_SQL =
+            "UPDATE chat_room SET chat_stamp = ? WHERE chat_id = ? AND (chat_stamp IS NULL OR chat_stamp < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxPending;
+    private final int maxAttempts;
+    private final int deadLetterCapacity;
+    private final ScheduledExecutorService flusher;
+
+    /** 아직 flush 되지 않은 메시지 (append 순서) */
+    private final Deque<ChatMessageDTO> pending = new ArrayDeque<>();
+    /** 현재 DB에 쓰는 중인 메시지. 커밋 전까지 조회에서 빠지지 않도록 따로 보관한다. */
+    private List<ChatMessageDTO> inFlight = List.of();
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private boolean closed;
+    /** 기록에 실패한 횟수 (메시지 ID 기준). flushLock 안에서만 쓴다 */
+    private final Map<String, Integer> attempts = new HashMap<>();
+    /** max-attempts 번 실패해 포기한 메시지 (최근 dead-letter-size 개) */
+    private final Deque<ChatMessageDTO> deadLetters = new ArrayDeque<>();
+
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder stampUpdates = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+
+    public ChatMessageWriteBehind(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${chat.write-behind.batch-size:200}") int batchSize,
+            @Value("${chat.write-behind.flush-interval-ms:200}") long flushIntervalMillis,
+            @Value("${chat.write-behind.max-pending:50000}") int maxPending,
+            @Value("${chat.write-behind.max-attempts:5}") int maxAttempts,
+            @Value("${chat.write-behind.dead-letter-size:1000}") int deadLetterCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.deadLetterCapacity = Math.max(1, deadLetterCapacity);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(DaemonThreadFactory.named("chat-write-behind"));
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 메시지를 로그에 추가합니다. 반환된 뒤에는 기록되거나, max-attempts 번 실패하면 dead-letter 로그로 옮겨집니다.
+     * 로그가 max-pending 에 이르면 (DB 장애 등) 메시지를 넣지 않고 거절하므로, 예외가 나면 메시지는 저장되지 않은 것입니다.
+     * @param message 저장할 메시지
+     */
+    public void append(ChatMessageDTO message) {
+        int size;
+        synchronized (pending) {
+            if (closed) {
+                throw new IllegalStateException("채팅 메시지 저장이 종료되었습니다.");
+            }
+            if (pending.size() + inFlight.size() >= maxPending) {
+                rejected.increment();
+                throw new IllegalStateException("채팅 메시지 저장이 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+            }
+            pending.addLast(message);
+            size = pending.size();
+        }
+        appended.increment();
+
+        if (size >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            flusher.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 채팅방의 메시지를 최신순으로 반환합니다.
+     * @param chatId 채팅방 ID
+     */
+    public List<ChatMessageDTO> pending(String chatId) {
+        List<ChatMessageDTO> result = new ArrayList<>();
+        synchronized (pending) {
+            for (ChatMessageDTO message : inFlight) {
+                if (chatId.equals(message.getChatId())) {
+                    result.add(message);
+                }
+            }
+            for (ChatMessageDTO message : pending) {
+                if (chatId.equals(message.getChatId())) {
+                    result.add(message);
+                }
+            }
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * 로그에 쌓인 메시지를 모두 DB에 기록합니다.
+     * 실패한 batch는 메시지를 하나씩 다시 기록하고, 그래도 실패한 메시지는 로그 앞쪽으로 되돌린 뒤 예외를 던집니다.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            flushScheduled.set(false);
+            while (true) {
+                List<ChatMessageDTO> batch = takeBatch();
+                if (batch.isEmpty()) {
+                    return;
+                }
+                try {
+                    write(batch);
+                } catch (RuntimeException e) {
+                    failures.increment();
+                    RuntimeException failure = writeEach(batch);
+                    if (failure != null) {
+                        throw failure;
+                    }
+                } finally {
+                    synchronized (pending) {
+                        inFlight = List.of();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * batch 의 메시지를 하나씩 기록합니다.
+     * 일부만 실패했으면 그 메시지들의 실패 횟수를 세고, max-attempts 번 실패한 메시지는 dead-letter 로 옮깁니다.
+     * 하나도 기록되지 않았으면 DB 장애로 보고 횟수를 세지 않으며, 연속으로 max-attempts 번 실패하면 나머지는 시도하지 않습니다.
+     * @return 로그로 되돌린 메시지가 있으면 마지막 실패, 없으면 null
+     */
+    private RuntimeException writeEach(List<ChatMessageDTO> batch) {
+        List<ChatMessageDTO> failed = new ArrayList<>();
+        List<RuntimeException> errors = new ArrayList<>();
+        RuntimeException lastFailure = null;
+        boolean anyWritten = false;
+        int index = 0;
+        for (; index < batch.size(); index++) {
+            if (!anyWritten && failed.size() >= maxAttempts) {
+                break;
+            }
+            ChatMessageDTO message = batch.get(index);
+            try {
+                write(List.of(message));
+                attempts.remove(message.getMessageId());
+                anyWritten = true;
+            } catch (RuntimeException e) {
+                failed.add(message);
+                errors.add(e);
+                lastFailure = e;
+            }
+        }
+
+        List<ChatMessageDTO> retry = new ArrayList<>(batch.size());
+        for (int i = 0; i < failed.size(); i++) {
+            ChatMessageDTO message = failed.get(i);
+            if (anyWritten && attempts.merge(message.getMessageId(), 1, Integer::sum) >= maxAttempts) {
+                attempts.remove(message.getMessageId());
+                deadLetter(message, errors.get(i));
+            } else {
+                retry.add(message);
+            }
+        }
+        retry.addAll(batch.subList(index, batch.size()));
+        restore(retry);
+        return retry.isEmpty() ? null : lastFailure;
+    }
+
+    private void deadLetter(ChatMessageDTO message, RuntimeException error) {
+        log.error("Giving up on chat message {} in room {} after {} attempts: {}",
+                message.getMessageId(), message.getChatId(), maxAttempts, error.getMessage());
+        synchronized (deadLetters) {
+            if (deadLetters.size() >= deadLetterCapacity) {
+                deadLetters.pollFirst();
+            }
+            deadLetters.addLast(message);
+        }
+        deadLettered.increment();
+    }
+
+    /**
+     * 기록을 포기한 메시지를 오래된 순으로 반환합니다.
+     */
+    public List<ChatMessageDTO> deadLetters() {
+        synchronized (deadLetters) {
+            return new ArrayList<>(deadLetters);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Failed to flush chat messages, will retry: {}", e.getMessage());
+        }
+    }
+
+    private List<ChatMessageDTO> takeBatch() {
+        synchronized (pending) {
+            int count = Math.min(batchSize, pending.size());
+            List<ChatMessageDTO> batch = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                batch.add(pending.pollFirst());
+            }
+            inFlight = batch;
+            return batch;
+        }
+    }
+
+    private void restore(List<ChatMessageDTO> batch) {
+        synchronized (pending) {
+            for (int i = batch.size() - 1; i >= 0; i--) {
+                pending.addFirst(batch.get(i));
+            }
+        }
+    }
+
+    private void write(List<ChatMessageDTO> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        // 채팅방마다 가장 최근 메시지 시각만 남긴다
+        Map<String, LocalDateTime> latestStamps = new LinkedHashMap<>();
+        for (ChatMessageDTO message : batch) {
+            rows.add(new Object[]{
+                    message.getMessageId(),
+                    message.getChatId(),
+                    message.getContent(),
+                    Timestamp.valueOf(message.getMessageStamp()),
+                    message.isChecked()
+            });
+            latestStamps.merge(message.getChatId(), message.getMessageStamp(),
+                    (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+        }
+
+        List<Object[]> stamps = new ArrayList<>(latestStamps.size());
+        latestStamps.forEach((chatId, stamp) -> {
+            Timestamp timestamp = Timestamp.valueOf(stamp);
+            stamps.add(new Object[]{timestamp, chatId, timestamp});
+        });
+
+        // 메시지와 chat_stamp 는 한 트랜잭션으로 기록해, 실패 후 재시도해도 중복 insert 가 생기지 않게 한다
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_MESSAGE_SQL, rows);
+            jdbcTemplate.batchUpdate(UPDATE_ROOM_STAMP_SQL, stamps);
+        });
+
+        flushed.add(batch.size());
+        batches.increment();
+        stampUpdates.add(stamps.size());
+    }
+
+    @Override
+    public WriteBehindMetrics getMetrics() {
+        int depth;
+        synchronized (pending) {
+            depth = pending.size() + inFlight.size();
+        }
+        return new WriteBehindMetrics(depth, appended.sum(), flushed.sum(), batches.sum(), stampUpdates.sum(), failures.sum(),
+                rejected.sum(), deadLettered.sum());
+    }
+
+    /**
+     * 새 메시지를 받지 않고, 남은 메시지를 모두 기록한 뒤 종료합니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        synchronized (pending) {
+            closed = true;
+        }
+        flusher.shutdown();
+        flusher.awaitTermination(5, TimeUnit.SECONDS);
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Failed to flush {} chat messages on shutdown: {}", getMetrics().pending(), e.getMessage());
+        }
+    }
+
+    public record WriteBehindMetrics(
+            int pending,
+            long appended,
+            long flushed,
+            long batches,
+            long stampUpdates,
+            long failures,
+            long rejected,
+            long deadLettered
+    ) {
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.plain.domain.chat.repository;
+
+import org.example.plain.domain.chat.entity.ChatReadCursor;
+import org.example.plain.domain.chat.entity.id.ChatJoinId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ChatReadCursorRepository extends JpaRepository<ChatReadCursor, ChatJoinId> {
+
+    // 읽음 위치를 한 번의 upsert 로 갱신한다. (stamp, id) 가 더 뒤일 때만 옮겨서 늦게 도착한 요청이 되돌리지 못한다
+    // MySQL 은 UPDATE 절을 왼쪽부터 적용하므로 mes_id 를 먼저 (바뀌기 전 stamp 와 비교해) 정하고 stamp 를 옮긴다
+    @Modifying
+    @Query(value = "INSERT INTO chat_read_cursor (chat_id, user_id, last_read_stamp, last_read_mes_id) " +
+            "VALUES (:chatId, :userId, :stamp, :messageId) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "last_read_mes_id = CASE WHEN last_read_stamp IS NULL " +
+            "OR last_read_stamp < VALUES(last_read_stamp) " +
+            "OR (last_read_stamp = VALUES(last_read_stamp) AND last_read_mes_id < VALUES(last_read_mes_id)) " +
+            "THEN VALUES(last_read_mes_id) ELSE last_read_mes_id END, " +
+            "last_read_stamp = CASE WHEN last_read_stamp IS NULL OR last_read_stamp < VALUES(last_read_stamp) " +
+            "THEN VALUES(last_read_stamp) ELSE last_read_stamp END",
+            nativeQuery = true)
+    void upsert(@Param("chatId") String chatId,
+                @Param("userId") String userId,
+                @Param("stamp") LocalDateTime stamp,
+                @Param("messageId") String messageId);
+
+    List<ChatReadCursor> findByIdUserId(String userId);
+}
@@ -0,0 +1,236 @@
+package org.example.plain.domain.chat.service;
+
+import org.example.plain.common.metrics.MetricsSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 채팅방 참여자 캐시 (chatId -> 참여자 ID 집합)
+ * 메시지 전송 시 권한 확인을 DB 조회 없이 처리한다. 캐시에 없는 방은 처음 조회할 때 한 번 읽어 채우고,
+ * 참여가 커밋되면 캐시된 집합에 참여자를 더하고, 퇴장/삭제가 커밋되면 무효화한다.
+ * chat.membership-cache.shared=true 이면 로컬 맵 대신 Redis Set 을 사용해 여러 노드가 같은 캐시를 본다.
+ * 두 모드 모두 방마다 세대를 두고(공유 캐시는 chat:members:{chatId}:gen 키) 변경할 때마다 올린다.
+ * DB 는 캐시 밖에서 읽고, 읽기 전의 세대가 채우는 시점에도 같을 때만 채우므로 읽는 도중 바뀐 참여자 목록은 캐시되지 않는다.
+ */
+@Component
+public class ChatMembershipCache implements MetricsSource {
+    private static final String KEY_PREFIX = "chat:members:";
+    /** 참여자가 없는 방도 캐시할 수 있도록 Redis Set 에 항상 넣어 두는 표시 값 */
+    private static final String ROOM_MARKER = "";
+    private static final String GENERATION_SUFFIX = ":gen";
+
+    /**
+     * 세대가 그대로일 때만 참여자 Set 을 만들고 만료 시간을 건다.
+     * KEYS: 참여자 Set, 세대 / ARGV: 읽기 전 세대, ttl(ms), 참여자... / 반환: 채웠으면 1
+     */
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('GET', KEYS[2]) or '0'
+            if generation ~= ARGV[1] then return 0 end
+            redis.call('DEL', KEYS[1])
+            redis.call('SADD', KEYS[1], unpack(ARGV, 3))
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * 세대를 올리고 참여자 Set 을 지운다. 세대 키는 진행 중인 채우기보다 오래 남도록 ttl 동안 유지한다.
+     * KEYS: 참여자 Set, 세대 / ARGV: ttl(ms)
+     */
+    /**
+     * 세대를 올리고, 참여자 Set 이 캐시되어 있으면 참여자를 더한다. (없으면 다음 조회에서 DB 로 채운다)
+     * KEYS: 참여자 Set, 세대 / ARGV: ttl(ms), 방 표시 값, 참여자
+     */
+    private static final RedisScript<Long> ADD_MEMBER_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            if redis.call('SISMEMBER', KEYS[1], ARGV[2]) == 1 then
+                redis.call('SADD', KEYS[1], ARGV[3])
+            end
+            return generation
+            """, Long.class);
+
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return generation
+            """, Long.class);
+
+    /** 무효화된 방도 세대를 잃지 않도록 참여자 없이(members=null) 항목을 남긴다 */
+    private final Map<String, LocalEntry> localMembers = new ConcurrentHashMap<>();
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean shared;
+    private final Duration ttl;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public ChatMembershipCache(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${chat.membership-cache.shared:false}") boolean shared,
+            @Value("${chat.membership-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.shared = shared;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public enum Membership {
+        MEMBER,
+        NOT_MEMBER,
+        NO_ROOM
+    }
+
+    /**
+     * 사용자의 채팅방 참여 여부를 확인합니다.
+     * @param chatId 채팅방 ID
+     * @param userId 사용자 ID
+     * @param loader 캐시에 없을 때 참여자 집합을 읽는 함수 (방이 없으면 null)
+     */
+    public Membership lookup(String chatId, String userId, Function<String, Set<String>> loader) {
+        return shared
+                ? lookupShared(chatId, userId, loader)
+                : lookupLocal(chatId, userId, loader);
+    }
+
+    private Membership lookupLocal(String chatId, String userId, Function<String, Set<String>> loader) {
+        LocalEntry entry = localMembers.get(chatId);
+        if (entry != null && entry.members() != null) {
+            hits.increment();
+            return entry.members().contains(userId) ? Membership.MEMBER : Membership.NOT_MEMBER;
+        }
+
+        misses.increment();
+        long generation = entry != null ? entry.generation() : 0;
+        Set<String> loaded = loader.apply(chatId);
+        if (loaded == null) {
+            return Membership.NO_ROOM;
+        }
+        Set<String> members = Set.copyOf(loaded);
+        localMembers.compute(chatId, (id, current) -> {
+            long now = current != null ? current.generation() : 0;
+            return now == generation ? new LocalEntry(generation, members) : current;
+        });
+        return members.contains(userId) ? Membership.MEMBER : Membership.NOT_MEMBER;
+    }
+
+    private Membership lookupShared(String chatId, String userId, Function<String, Set<String>> loader) {
+        String key = KEY_PREFIX + chatId;
+        Map<Object, Boolean> result = redisTemplate.opsForSet().isMember(key, ROOM_MARKER, userId);
+        if (result != null && Boolean.TRUE.equals(result.get(ROOM_MARKER))) {
+            hits.increment();
+            return Boolean.TRUE.equals(result.get(userId)) ? Membership.MEMBER : Membership.NOT_MEMBER;
+        }
+
+        misses.increment();
+        String generationKey = key + GENERATION_SUFFIX;
+        String generation = redisTemplate.opsForValue().get(generationKey);
+        Set<String> members = loader.apply(chatId);
+        if (members == null) {
+            return Membership.NO_ROOM;
+        }
+        Object[] args = new Object[members.size() + 3];
+        args[0] = generation != null ? generation : "0";
+        args[1] = String.valueOf(ttl.toMillis());
+        args[2] = ROOM_MARKER;
+        int i = 3;
+        for (String member : members) {
+            args[i++] = member;
+        }
+        redisTemplate.execute(FILL_SCRIPT, List.of(key, generationKey), args);
+        return members.contains(userId) ? Membership.MEMBER : Membership.NOT_MEMBER;
+    }
+
+    /**
+     * 채팅방 캐시를 무효화합니다. 트랜잭션 안에서 호출되면 커밋 후에 무효화해,
+     * 커밋 전의 참여자 목록이 다시 캐시되지 않도록 합니다.
+     * @param chatId 채팅방 ID
+     */
+    public void invalidate(String chatId) {
+        afterCommit(() -> evict(chatId));
+    }
+
+    /**
+     * 참여자를 캐시된 채팅방에 더합니다. 트랜잭션 안에서 호출되면 커밋 후에 더합니다.
+     * 캐시되지 않은 방은 세대만 올리고 다음 조회에서 DB 로 채웁니다.
+     * @param chatId 채팅방 ID
+     * @param userId 참여한 사용자 ID
+     */
+    public void addMember(String chatId, String userId) {
+        afterCommit(() -> {
+            if (shared) {
+                String key = KEY_PREFIX + chatId;
+                redisTemplate.execute(ADD_MEMBER_SCRIPT, List.of(key, key + GENERATION_SUFFIX),
+                        String.valueOf(ttl.toMillis()), ROOM_MARKER, userId);
+                return;
+            }
+            localMembers.compute(chatId, (id, current) -> {
+                if (current == null || current.members() == null) {
+                    return new LocalEntry(current != null ? current.generation() + 1 : 1, null);
+                }
+                Set<String> members = new HashSet<>(current.members());
+                members.add(userId);
+                return new LocalEntry(current.generation() + 1, Set.copyOf(members));
+            });
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void evict(String chatId) {
+        invalidations.increment();
+        localMembers.compute(chatId, (id, current) ->
+                new LocalEntry(current != null ? current.generation() + 1 : 1, null));
+        if (shared) {
+            String key = KEY_PREFIX + chatId;
+            redisTemplate.execute(EVICT_SCRIPT, List.of(key, key + GENERATION_SUFFIX), String.valueOf(ttl.toMillis()));
+        }
+    }
+
+    @Override
+    public CacheMetrics getMetrics() {
+        int cachedRooms = (int) localMembers.values().stream()
+                .filter(entry -> entry.members() != null)
+                .count();
+        return new CacheMetrics(hits.sum(), misses.sum(), invalidations.sum(), cachedRooms);
+    }
+
+    private record LocalEntry(
+            long generation,
+            Set<String> members
+    ) {
+    }
+
+    public record CacheMetrics(
+            long hits,
+            long misses,
+            long invalidations,
+            int cachedRooms
+    ) {
+    }
+}
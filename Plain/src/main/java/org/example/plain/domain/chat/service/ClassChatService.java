@@ -1,6 +1,7 @@
 package org.example.plain.domain.chat.service;
 
 import org.example.plain.domain.chat.dto.ChatMessageDTO;
+import org.example.plain.domain.chat.dto.ChatMessagePage;
 import org.example.plain.domain.chat.dto.ChatRoomDTO;
 
 import java.util.List;
@@ -14,8 +15,9 @@ public interface ClassChatService {
 
     // 채팅 메시지 관련
     ChatMessageDTO sendMessage(String chatId, String userId, String content);
-    List<ChatMessageDTO> getMessages(String chatId);
-    List<ChatMessageDTO> getUnreadMessages(String chatId);
+    ChatMessagePage getMessages(String chatId, String before, int limit);
+    ChatMessagePage getUnreadMessages(String chatId, String userId, String before, int limit);
+    long getUnreadCount(String chatId, String userId);
     void markMessagesAsRead(String chatId, String userId);
 
     // 채팅방 참여 관련
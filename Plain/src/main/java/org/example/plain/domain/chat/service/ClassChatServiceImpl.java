@@ -1,24 +1,34 @@
 package org.example.plain.domain.chat.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.plain.domain.chat.dto.ChatMessageCursor;
 import org.example.plain.domain.chat.dto.ChatMessageDTO;
+import org.example.plain.domain.chat.dto.ChatMessagePage;
 import org.example.plain.domain.chat.dto.ChatRoomDTO;
+import org.example.plain.domain.chat.dto.ChatUnreadCount;
 import org.example.plain.domain.chat.entity.*;
 import org.example.plain.domain.chat.entity.id.ChatJoinId;
 import org.example.plain.domain.chat.repository.ChatJoinRepository;
 import org.example.plain.domain.chat.repository.ChatMessageRepository;
+import org.example.plain.domain.chat.repository.ChatMessageWriteBehind;
+import org.example.plain.domain.chat.repository.ChatReadCursorRepository;
 import org.example.plain.domain.chat.repository.ChatRoomRepository;
 import org.example.plain.domain.classLecture.entity.ClassLecture;
 import org.example.plain.domain.classLecture.repository.ClassLectureRepository;
 import org.example.plain.domain.user.entity.User;
 import org.example.plain.domain.user.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpClientErrorException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -26,11 +36,16 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional
 public class ClassChatServiceImpl implements ClassChatService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final ChatJoinRepository chatJoinRepository;
     private final ClassLectureRepository classLectureRepository;
     private final UserRepository userRepository;
+    private final ChatMessageWriteBehind chatMessageWriteBehind;
+    private final ChatReadCursorRepository chatReadCursorRepository;
+    private final ChatMembershipCache chatMembershipCache;
 
     @Override
     public ChatRoomDTO createChatRoom(String classId, String chatName) {
@@ -71,59 +86,99 @@ public class ClassChatServiceImpl implements ClassChatService {
                 .orElseThrow(() -> new HttpClientErrorException(HttpStatus.NOT_FOUND, "채팅방을 찾을 수 없습니다."));
         chatRoom.setChatStatus(ChatStatus.DELETED);
         chatRoomRepository.save(chatRoom);
+        chatMembershipCache.invalidate(chatId);
     }
 
     @Override
     public ChatMessageDTO sendMessage(String chatId, String userId, String content) {
-        ChatRoom chatRoom = chatRoomRepository.findByChatId(chatId)
-                .orElseThrow(() -> new HttpClientErrorException(HttpStatus.NOT_FOUND, "채팅방을 찾을 수 없습니다."));
+        // 채팅방 존재 및 참여 여부 확인 (참여자 캐시)
+        checkMember(chatId, userId);
 
-        // 채팅방 참여 여부 확인
-        chatJoinRepository.findByChatRoomAndUserId(chatId, userId)
-                .orElseThrow(() -> new HttpClientErrorException(HttpStatus.FORBIDDEN, "채팅방에 참여하지 않은 사용자입니다."));
-
-        ChatMessage message = ChatMessage.builder()
+        ChatMessageDTO message = ChatMessageDTO.builder()
                 .messageId(UUID.randomUUID().toString())
-                .chatRoom(chatRoom)
+                .chatId(chatId)
                 .content(content)
                 .messageStamp(LocalDateTime.now())
                 .isChecked(false)
+                .senderId(userId)
                 .build();
 
-        chatMessageRepository.save(message);
-        
-        // 채팅방 최종 업데이트 시간 갱신
-        chatRoom.setChatStamp(LocalDateTime.now());
-        chatRoomRepository.save(chatRoom);
-
-        return ChatMessageDTO.fromEntity(message);
+        // 메시지 insert 와 채팅방 최종 업데이트 시간 갱신은 write-behind 로그가 batch로 처리한다
+        chatMessageWriteBehind.append(message);
+        return message;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ChatMessageDTO> getMessages(String chatId) {
-        return chatMessageRepository.findByChatRoomChatIdOrderByMessageStampDesc(chatId).stream()
-                .map(ChatMessageDTO::fromEntity)
+    public ChatMessagePage getMessages(String chatId, String before, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        ChatMessageCursor cursor = ChatMessageCursor.decode(before);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽는다
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<ChatMessage> stored = cursor == null
+                ? chatMessageRepository.findLatest(chatId, pageable)
+                : chatMessageRepository.findBefore(chatId, cursor.messageStamp(), cursor.messageId(), pageable);
+        List<ChatMessageDTO> pending = chatMessageWriteBehind.pending(chatId).stream()
+                .filter(message -> cursor == null || cursor.isOlder(message))
                 .collect(Collectors.toList());
+
+        return page(withPending(pending, stored), pageSize);
     }
 
+    /**
+     * 읽음 위치 이후의 메시지를 최신순으로 한 페이지씩 반환합니다.
+     * nextCursor 를 before 로 넘기면 읽음 위치까지 이어서 조회하므로 읽지 않은 수와 항상 맞습니다.
+     */
     @Override
     @Transactional(readOnly = true)
-    public List<ChatMessageDTO> getUnreadMessages(String chatId) {
-        return chatMessageRepository.findByChatRoomChatIdAndIsCheckedFalseOrderByMessageStampDesc(chatId).stream()
-                .map(ChatMessageDTO::fromEntity)
+    public ChatMessagePage getUnreadMessages(String chatId, String userId, String before, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        ChatMessageCursor cursor = ChatMessageCursor.decode(before);
+        ChatMessageCursor lastRead = lastRead(chatId, userId);
+
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<ChatMessage> stored;
+        if (lastRead == null) {
+            stored = cursor == null
+                    ? chatMessageRepository.findLatest(chatId, pageable)
+                    : chatMessageRepository.findBefore(chatId, cursor.messageStamp(), cursor.messageId(), pageable);
+        } else {
+            stored = cursor == null
+                    ? chatMessageRepository.findAfter(chatId, lastRead.messageStamp(), lastRead.messageId(), pageable)
+                    : chatMessageRepository.findBetween(chatId, lastRead.messageStamp(), lastRead.messageId(),
+                            cursor.messageStamp(), cursor.messageId(), pageable);
+        }
+        List<ChatMessageDTO> pending = unreadPending(chatId, lastRead).stream()
+                .filter(message -> cursor == null || cursor.isOlder(message))
                 .collect(Collectors.toList());
+
+        return page(withPending(pending, stored), pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getUnreadCount(String chatId, String userId) {
+        ChatMessageCursor lastRead = lastRead(chatId, userId);
+        long stored = lastRead == null
+                ? chatMessageRepository.countByChatRoomChatId(chatId)
+                : chatMessageRepository.countAfter(chatId, lastRead.messageStamp(), lastRead.messageId());
+        return stored + unreadPending(chatId, lastRead).size();
     }
 
     @Override
     public void markMessagesAsRead(String chatId, String userId) {
         // 채팅방 참여 여부 확인
-        chatJoinRepository.findByChatRoomAndUserId(chatId, userId)
-                .orElseThrow(() -> new HttpClientErrorException(HttpStatus.FORBIDDEN, "채팅방에 참여하지 않은 사용자입니다."));
+        checkMember(chatId, userId);
 
-        List<ChatMessage> unreadMessages = chatMessageRepository.findByChatRoomChatIdAndIsCheckedFalseOrderByMessageStampDesc(chatId);
-        unreadMessages.forEach(message -> message.setChecked(true));
-        chatMessageRepository.saveAll(unreadMessages);
+        // 가장 최근 메시지까지 읽은 것으로 읽음 위치를 옮긴다
+        List<ChatMessageDTO> latest = withPending(chatMessageWriteBehind.pending(chatId),
+                chatMessageRepository.findLatest(chatId, PageRequest.of(0, 1)));
+        if (latest.isEmpty()) {
+            return;
+        }
+        ChatMessageDTO lastMessage = latest.get(0);
+        chatReadCursorRepository.upsert(chatId, userId, lastMessage.getMessageStamp(), lastMessage.getMessageId());
     }
 
     @Override
@@ -147,6 +202,7 @@ public class ClassChatServiceImpl implements ClassChatService {
                 .build();
 
         chatJoinRepository.save(chatJoin);
+        chatMembershipCache.addMember(chatId, userId);
     }
 
     @Override
@@ -156,14 +212,104 @@ public class ClassChatServiceImpl implements ClassChatService {
                 .orElseThrow(() -> new HttpClientErrorException(HttpStatus.NOT_FOUND, "채팅방 참여 정보를 찾을 수 없습니다."));
 
         chatJoinRepository.delete(chatJoin);
+        chatMembershipCache.invalidate(chatId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ChatRoomDTO> getMyChatRooms(String userId) {
         List<ChatJoin> chatJoins = chatJoinRepository.findByIdUserId(userId);
+        if (chatJoins.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<String> chatIds = chatJoins.stream()
+                .map(join -> join.getChatRoom().getChatId())
+                .toList();
+
+        // 방마다 조회하지 않고 읽음 위치와 읽지 않은 수를 한 번에 읽는다
+        Map<String, ChatMessageCursor> lastReads = chatReadCursorRepository.findByIdUserId(userId).stream()
+                .collect(Collectors.toMap(cursor -> cursor.getId().getChatId(),
+                        cursor -> new ChatMessageCursor(cursor.getLastReadStamp(), cursor.getLastReadMessageId())));
+        Map<String, Long> stored = chatMessageRepository.countUnreadByChatIds(userId, chatIds).stream()
+                .collect(Collectors.toMap(ChatUnreadCount::chatId, ChatUnreadCount::count));
+
         return chatJoins.stream()
-                .map(join -> ChatRoomDTO.fromEntity(join.getChatRoom()))
+                .map(join -> {
+                    ChatRoomDTO chatRoom = ChatRoomDTO.fromEntity(join.getChatRoom());
+                    String chatId = chatRoom.getChatId();
+                    long unread = stored.getOrDefault(chatId, 0L) + unreadPending(chatId, lastReads.get(chatId)).size();
+                    chatRoom.setUnreadCount((int) unread);
+                    return chatRoom;
+                })
                 .collect(Collectors.toList());
     }
-} 
\ No newline at end of file
+
+    private void checkMember(String chatId, String userId) {
+        switch (chatMembershipCache.lookup(chatId, userId, this::loadMembers)) {
+            case NO_ROOM -> throw new HttpClientErrorException(HttpStatus.NOT_FOUND, "채팅방을 찾을 수 없습니다.");
+            case NOT_MEMBER -> throw new HttpClientErrorException(HttpStatus.FORBIDDEN, "채팅방에 참여하지 않은 사용자입니다.");
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 참여자 캐시가 비어 있을 때 채팅방의 참여자 ID 집합을 읽습니다. 채팅방이 없으면 null을 반환합니다.
+     */
+    private Set<String> loadMembers(String chatId) {
+        if (chatRoomRepository.findByChatId(chatId).isEmpty()) {
+            return null;
+        }
+        return chatJoinRepository.findByIdChatId(chatId).stream()
+                .map(join -> join.getId().getUserId())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 사용자의 읽음 위치를 반환합니다. 한 번도 읽지 않았으면 null을 반환합니다.
+     */
+    private ChatMessageCursor lastRead(String chatId, String userId) {
+        return chatReadCursorRepository.findById(new ChatJoinId(chatId, userId))
+                .map(cursor -> new ChatMessageCursor(cursor.getLastReadStamp(), cursor.getLastReadMessageId()))
+                .orElse(null);
+    }
+
+    private List<ChatMessageDTO> unreadPending(String chatId, ChatMessageCursor lastRead) {
+        return chatMessageWriteBehind.pending(chatId).stream()
+                .filter(message -> lastRead == null || lastRead.isNewer(message))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 한 건 더 읽은 목록을 pageSize 로 자르고, 남은 메시지가 있으면 마지막 메시지를 다음 커서로 둡니다.
+     */
+    private static ChatMessagePage page(List<ChatMessageDTO> messages, int pageSize) {
+        boolean hasNext = messages.size() > pageSize;
+        if (hasNext) {
+            messages = messages.subList(0, pageSize);
+        }
+        return ChatMessagePage.builder()
+                .messages(messages)
+                .nextCursor(hasNext ? ChatMessageCursor.of(messages.get(pageSize - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * DB에서 읽은 메시지와 아직 flush 되지 않은 메시지를 합쳐 최신순으로 반환합니다.
+     * flush 도중이면 같은 메시지가 양쪽에 있을 수 있으므로 ID로 중복을 제거합니다.
+     */
+    private List<ChatMessageDTO> withPending(List<ChatMessageDTO> pending, List<ChatMessage> stored) {
+        Set<String> pendingIds = pending.stream()
+                .map(ChatMessageDTO::getMessageId)
+                .collect(Collectors.toSet());
+
+        List<ChatMessageDTO> messages = new ArrayList<>(pending);
+        stored.stream()
+                .filter(message -> !pendingIds.contains(message.getMessageId()))
+                .map(ChatMessageDTO::fromEntity)
+                .forEach(messages::add);
+        messages.sort(ChatMessageCursor.NEWEST_FIRST);
+        return messages;
+    }
+}
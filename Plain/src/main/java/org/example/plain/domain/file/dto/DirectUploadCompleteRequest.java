@@ -0,0 +1,18 @@
+package org.example.plain.domain.file.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 직접 업로드 완료 요청. key 는 presigned URL 을 발급할 때 받은 PresignedUpload.key 를 그대로 보낸다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectUploadCompleteRequest {
+
+    @NotBlank(message = "업로드 키는 필수입니다.")
+    private String key;
+}
@@ -0,0 +1,20 @@
+package org.example.plain.domain.file.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * presigned URL 발급과 업로드 완료 요청
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectUploadRequest {
+
+    @NotBlank(message = "파일명은 필수입니다.")
+    private String filename;
+
+    private String contentType;
+}
@@ -0,0 +1,22 @@
+package org.example.plain.domain.file.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 클라이언트가 S3 에 직접 올릴 때 쓰는 presigned PUT URL
+ * 클라이언트는 uploadUrl 로 Content-Type 을 contentType 으로 맞춰 PUT 한 뒤 완료 API 를 호출해야 한다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PresignedUpload {
+    private String key;
+    private String uploadUrl;
+    private String fileUrl;
+    private String contentType;
+    private Instant expiresAt;
+}
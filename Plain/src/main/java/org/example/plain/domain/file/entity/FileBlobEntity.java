@@ -0,0 +1,44 @@
+package org.example.plain.domain.file.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 해시(SHA-256)로 주소가 정해지는 S3 객체
+ * 같은 내용의 파일은 파일 행이 몇 개든 객체 하나를 나눠 쓰고, ref_count 는 이 blob 을 가리키는 파일 행 수다.
+ * ref_count 가 0 이 된 뒤 grace 기간이 지나면 FileBlobCollector 가 행과 객체를 지운다.
+ * 객체 키에 세대(UUID)가 붙어 있으므로 지워진 뒤 같은 내용이 다시 등록되면 새 키로 올라간다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "file_blob")
+public class FileBlobEntity {
+
+    @Id
+    @Column(name = "blob_hash", length = 64)
+    private String hash;
+
+    /** blobs/{hash}/{세대} */
+    @Column(name = "object_key", nullable = false, length = 512)
+    private String objectKey;
+
+    @Column(name = "file_size")
+    private long size;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    /** 마지막으로 등록되거나 참조가 바뀐 시각. GC 는 이 시각부터 grace 기간을 센다 */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -21,6 +21,28 @@ public abstract class FileEntity {
     @Column(name = "file_path")
     private String filePath;
 
+    /** 업로드 상태. 상태가 생기기 전에 저장된 행은 null 이며 올라간 것으로 본다 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "upload_status", length = 16)
+    private FileUploadStatus uploadStatus;
+
+    /** 가리키는 file_blob 해시. blob 으로 저장되기 전의 행은 null 이다 */
+    @Column(name = "blob_hash", length = 64)
+    private String blobHash;
+
+    protected FileEntity(String filename, String filePath) {
+        this.filename = filename;
+        this.filePath = filePath;
+    }
+
+    public boolean isUploaded() {
+        return resolvedUploadStatus() == FileUploadStatus.READY;
+    }
+
+    /** 응답에 내려줄 업로드 상태. 상태가 없는 예전 행은 READY 로 본다 */
+    public FileUploadStatus resolvedUploadStatus() {
+        return uploadStatus == null ? FileUploadStatus.READY : uploadStatus;
+    }
 
     public static List<FileEntity> fileEntities(List<File> files) {
         List<FileEntity> fileEntities = new ArrayList<>();
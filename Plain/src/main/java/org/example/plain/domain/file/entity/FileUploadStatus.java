@@ -0,0 +1,11 @@
+package org.example.plain.domain.file.entity;
+
+/**
+ * 파일 업로드 상태
+ * PENDING: DB 행은 커밋됐고 S3 업로드를 기다리는 중, READY: S3 에 올라감, FAILED: 재시도를 모두 실패함
+ */
+public enum FileUploadStatus {
+    PENDING,
+    READY,
+    FAILED
+}
@@ -0,0 +1,77 @@
+package org.example.plain.domain.file.entity;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * S3 업로드 outbox
+ * 파일 행과 같은 트랜잭션에서 저장되고, 커밋 뒤 비동기로 스테이징 파일을 S3 에 올린다.
+ * 업로드가 끝나면 행을 지우고, 재시도를 모두 실패하면 FAILED 로 남긴다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "file_upload_task")
+public class FileUploadTaskEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "task_id")
+    private Long id;
+
+    /** 업로드가 끝나면 상태를 바꿀 파일 엔티티 이름 (WorkFileEntity 등) */
+    @Column(name = "file_type", nullable = false, length = 64)
+    private String fileType;
+
+    @Column(name = "object_key", nullable = false, length = 512)
+    private String objectKey;
+
+    @Column(name = "file_url", nullable = false, length = 1024)
+    private String fileUrl;
+
+    /** 업로드 전까지 바이트를 보관하는 로컬 파일 */
+    @Column(name = "staged_path", nullable = false, length = 512)
+    private String stagedPath;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "file_size")
+    private long size;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private FileUploadStatus status;
+
+    @Column(name = "attempts")
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public FileUploadTaskEntity(String fileType, String objectKey, String fileUrl, String stagedPath,
+                                String contentType, long size) {
+        this.fileType = fileType;
+        this.objectKey = objectKey;
+        this.fileUrl = fileUrl;
+        this.stagedPath = stagedPath;
+        this.contentType = contentType;
+        this.size = size;
+        this.status = FileUploadStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+}
@@ -3,9 +3,12 @@ package org.example.plain.domain.file.interfaces;
 import org.example.plain.domain.file.dto.FileData;
 import org.example.plain.domain.file.dto.FileInfo;
 import org.example.plain.domain.file.dto.FileServiceGenericInfo;
+import org.example.plain.domain.file.dto.PresignedUpload;
 import org.example.plain.domain.file.entity.FileEntity;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 public interface CloudFileService {
@@ -13,6 +16,43 @@ public interface CloudFileService {
 
     List<FileInfo> uploadFiles(FileData fileData, List<MultipartFile> files, String... id);
 
+    /**
+     * 업로드하지 않고 파일이 올라갈 키와 URL 만 계산합니다.
+     */
+    FileInfo locate(String originalFilename, String... id);
+
+    /**
+     * 스트림을 주어진 키로 올립니다. 같은 키의 객체가 있으면 덮어씁니다.
+     */
+    void uploadObject(String key, InputStream inputStream, long size, String contentType) throws IOException;
+
+    /**
+     * 클라이언트가 S3 에 직접 올릴 수 있는 짧은 유효기간의 PUT URL 을 발급합니다.
+     * 키는 id/.../{서버가 만든 UUID}/파일명 이라 다른 요청이 올린 객체를 덮어쓸 수 없습니다.
+     */
+    PresignedUpload presignUpload(String originalFilename, String contentType, String... id);
+
+    /**
+     * presignUpload 가 id 에 대해 발급한 형식의 키인지 확인하고, 키와 URL 을 돌려줍니다.
+     * 형식이 다르면 IllegalArgumentException 을 던집니다.
+     */
+    FileInfo locateUpload(String key, String... id);
+
+    /**
+     * 저장된 파일 URL 로 짧은 유효기간의 GET URL 을 발급합니다.
+     */
+    String presignDownload(String fileUrl);
+
+    /**
+     * presignDownload 와 같지만 내려받을 때의 파일명과 Content-Type 을 지정합니다.
+     * blob 키(blobs/{hash}/{세대})에는 원래 파일명이 없으므로 blob URL 은 이쪽으로 발급합니다.
+     * @param filename 저장된 파일명 (경로가 있으면 마지막 부분만 쓴다)
+     * @param contentType null 이면 S3 에 저장된 값을 그대로 쓴다
+     */
+    String presignDownload(String fileUrl, String filename, String contentType);
+
+    boolean exists(String key);
+
     public void deleteFile(FileEntity file);
     public void deleteFile(String filepath);
     public String makeFilename(String originalFilename, String userId);
@@ -0,0 +1,43 @@
+package org.example.plain.domain.file.repository;
+
+import org.example.plain.domain.file.entity.FileBlobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlobEntity, String> {
+
+    // 없으면 참조 0 으로 만들고, 있으면 GC 되지 않도록 시각만 갱신한다
+    @Modifying
+    @Query(value = "INSERT INTO file_blob (blob_hash, object_key, file_size, content_type, ref_count, created_at, updated_at) " +
+            "VALUES (:hash, :objectKey, :size, :contentType, 0, :now, :now) " +
+            "ON DUPLICATE KEY UPDATE updated_at = VALUES(updated_at)",
+            nativeQuery = true)
+    void register(@Param("hash") String hash,
+                  @Param("objectKey") String objectKey,
+                  @Param("size") long size,
+                  @Param("contentType") String contentType,
+                  @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE FileBlobEntity b SET b.refCount = b.refCount + 1, b.updatedAt = :now WHERE b.hash = :hash")
+    int retain(@Param("hash") String hash, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE FileBlobEntity b SET b.refCount = b.refCount - 1, b.updatedAt = :now WHERE b.hash = :hash AND b.refCount > 0")
+    int release(@Param("hash") String hash, @Param("now") LocalDateTime now);
+
+    // 참조가 없고 grace 기간이 지난 blob 조회
+    List<FileBlobEntity> findTop100ByRefCountLessThanEqualAndUpdatedAtBefore(int refCount, LocalDateTime updatedAt);
+
+    // 조회한 뒤 다시 참조되었으면 지우지 않는다
+    @Modifying
+    @Query("DELETE FROM FileBlobEntity b WHERE b.hash = :hash AND b.refCount <= 0 AND b.updatedAt < :before")
+    int deleteUnreferenced(@Param("hash") String hash, @Param("before") LocalDateTime before);
+}
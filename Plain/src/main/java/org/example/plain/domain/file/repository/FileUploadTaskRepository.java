@@ -0,0 +1,18 @@
+package org.example.plain.domain.file.repository;
+
+import org.example.plain.domain.file.entity.FileUploadStatus;
+import org.example.plain.domain.file.entity.FileUploadTaskEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface FileUploadTaskRepository extends JpaRepository<FileUploadTaskEntity, Long> {
+    // 일정 시간 동안 진행되지 않은 업로드 조회
+    List<FileUploadTaskEntity> findByStatusAndUpdatedAtBefore(FileUploadStatus status, LocalDateTime updatedAt);
+
+    // 스테이징 파일을 참조하는 업로드가 있는지 확인
+    boolean existsByStagedPath(String stagedPath);
+}
@@ -1,30 +1,39 @@
 package org.example.plain.domain.file.service;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
-import lombok.RequiredArgsConstructor;
+import com.amazonaws.services.s3.model.ResponseHeaderOverrides;
+import lombok.extern.slf4j.Slf4j;
 import org.example.plain.domain.file.dto.FileData;
 import org.example.plain.domain.file.dto.FileInfo;
 import org.example.plain.domain.file.dto.FileServiceGenericInfo;
+import org.example.plain.domain.file.dto.PresignedUpload;
 import org.example.plain.domain.file.entity.FileEntity;
 import org.example.plain.domain.file.interfaces.CloudFileService;
 import org.example.plain.domain.file.interfaces.FileDatabaseService;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.UUID;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class AwsFileServiceImpl implements CloudFileService {
 
     @Value(value = "${file.path}")
@@ -33,7 +42,31 @@ public class AwsFileServiceImpl implements CloudFileService {
     @Value(value = "${cloud.aws.s3.bucket}")
     private String bucket;
 
+    /** presigned PUT URL 유효기간 */
+    @Value("${file.presign.upload-expiry-seconds:900}")
+    private long uploadUrlExpirySeconds = 900;
+
+    /** presigned GET URL 유효기간 */
+    @Value("${file.presign.download-expiry-seconds:300}")
+    private long downloadUrlExpirySeconds = 300;
+
     private final AmazonS3 amazonS3;
+    private final S3MultipartUploader multipartUploader;
+    /** 이 크기 이상인 파일은 멀티파트 업로드로 올린다 */
+    private final long multipartThreshold;
+    /** blob URL 인 파일을 지울 때 참조만 놓는다 */
+    private final FileBlobStore blobStore;
+
+    public AwsFileServiceImpl(
+            AmazonS3 amazonS3,
+            S3MultipartUploader multipartUploader,
+            FileBlobStore blobStore,
+            @Value("${file.upload.multipart.threshold-mb:64}") long multipartThresholdMb) {
+        this.amazonS3 = amazonS3;
+        this.multipartUploader = multipartUploader;
+        this.blobStore = blobStore;
+        this.multipartThreshold = multipartThresholdMb * 1024 * 1024;
+    }
 
     /**
      * 단일 파일 업로드
@@ -41,8 +74,10 @@ public class AwsFileServiceImpl implements CloudFileService {
      */
     @Override
     public FileInfo uploadSingleFile(FileData fileData, String... id) {
-        MultipartFile file = fileData.getFile();
-        
+        return upload(fileData.getFile(), id).fileInfo();
+    }
+
+    private UploadedFile upload(MultipartFile file, String... id) {
         if (file == null) {
             throw new IllegalArgumentException("File cannot be null");
         }
@@ -53,37 +88,160 @@ public class AwsFileServiceImpl implements CloudFileService {
         if (isFileExists(filename)) {
             // 이미 존재하는 파일이면 URL만 반환
             String fileUrl = String.valueOf(amazonS3.getUrl(bucket, filename));
-            return new FileInfo(filename, fileUrl);
+            return new UploadedFile(new FileInfo(filename, fileUrl), false);
         }
 
         try (InputStream inputStream = file.getInputStream()) {
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentLength(file.getSize());
-            metadata.setContentType(file.getContentType());
-
-            amazonS3.putObject(new PutObjectRequest(bucket, filename, inputStream, metadata));
+            uploadObject(filename, inputStream, file.getSize(), file.getContentType());
         } catch (IOException e) {
             throw new RuntimeException("Failed to upload file", e);
         }
 
         String fileUrl = String.valueOf(amazonS3.getUrl(bucket, filename));
 
-        return new FileInfo(filename, fileUrl);
+        return new UploadedFile(new FileInfo(filename, fileUrl), true);
+    }
+
+    @Override
+    public FileInfo locate(String originalFilename, String... id) {
+        String filename = makeFilename(originalFilename, id);
+        return new FileInfo(filename, String.valueOf(amazonS3.getUrl(bucket, filename)));
+    }
+
+    @Override
+    public void uploadObject(String key, InputStream inputStream, long size, String contentType) throws IOException {
+        if (size >= multipartThreshold) {
+            // 큰 파일은 파트 단위로 나눠 병렬로 올린다. 실패해도 다시 올리면 남은 파트만 올라간다
+            multipartUploader.upload(bucket, key, inputStream, size, contentType);
+            return;
+        }
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(size);
+        metadata.setContentType(contentType);
+
+        amazonS3.putObject(new PutObjectRequest(bucket, key, inputStream, metadata));
+    }
+
+    @Override
+    public PresignedUpload presignUpload(String originalFilename, String contentType, String... id) {
+        validateUploadFilename(originalFilename);
+        // 요청마다 UUID 경로를 붙여, 같은 파일명으로 발급받아도 기존 객체를 덮어쓰지 못하게 한다
+        String key = makeFilename(UUID.randomUUID() + "/" + originalFilename, id);
+        Date expiration = new Date(System.currentTimeMillis() + uploadUrlExpirySeconds * 1000);
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(expiration);
+        if (contentType != null) {
+            // 서명에 포함되므로 클라이언트는 같은 Content-Type 으로 올려야 한다
+            request.setContentType(contentType);
+        }
+        return PresignedUpload.builder()
+                .key(key)
+                .uploadUrl(amazonS3.generatePresignedUrl(request).toString())
+                .fileUrl(String.valueOf(amazonS3.getUrl(bucket, key)))
+                .contentType(contentType)
+                .expiresAt(expiration.toInstant())
+                .build();
+    }
+
+    @Override
+    public FileInfo locateUpload(String key, String... id) {
+        String prefix = makeFilename("", id);
+        if (key == null || !key.startsWith(prefix)) {
+            throw new IllegalArgumentException("Invalid upload key: " + key);
+        }
+        String[] parts = key.substring(prefix.length()).split("/", -1);
+        if (parts.length != 2 || !isCanonicalUuid(parts[0])) {
+            throw new IllegalArgumentException("Invalid upload key: " + key);
+        }
+        validateUploadFilename(parts[1]);
+        return new FileInfo(key, String.valueOf(amazonS3.getUrl(bucket, key)));
+    }
+
+    private static void validateUploadFilename(String filename) {
+        if (filename == null || filename.isBlank() || filename.equals(".") || filename.equals("..")
+                || filename.contains("/") || filename.contains("\\")) {
+            throw new IllegalArgumentException("Invalid filename: " + filename);
+        }
+    }
+
+    private static boolean isCanonicalUuid(String value) {
+        try {
+            return UUID.fromString(value).toString().equals(value);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public String presignDownload(String fileUrl) {
+        return amazonS3.generatePresignedUrl(downloadRequest(fileUrl)).toString();
+    }
+
+    @Override
+    public String presignDownload(String fileUrl, String filename, String contentType) {
+        ResponseHeaderOverrides overrides = new ResponseHeaderOverrides();
+        if (filename != null && !filename.isBlank()) {
+            String name = filename.substring(Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\')) + 1);
+            overrides.setContentDisposition(ContentDisposition.attachment()
+                    .filename(name, StandardCharsets.UTF_8)
+                    .build()
+                    .toString());
+        }
+        if (contentType != null) {
+            overrides.setContentType(contentType);
+        }
+        return amazonS3.generatePresignedUrl(downloadRequest(fileUrl).withResponseHeaders(overrides)).toString();
+    }
+
+    private GeneratePresignedUrlRequest downloadRequest(String fileUrl) {
+        String objectKey = extractObjectKeyFromUrl(validateFileUrl(fileUrl));
+        Date expiration = new Date(System.currentTimeMillis() + downloadUrlExpirySeconds * 1000);
+        return new GeneratePresignedUrlRequest(bucket, objectKey, HttpMethod.GET)
+                .withExpiration(expiration);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return isFileExists(key);
     }
 
     /**
      * 다중 파일 업로드
      * 이미 S3에 동일한 파일명이 존재하면 업로드하지 않음
+     * 하나라도 실패하면 이번 호출에서 새로 올린 파일을 모두 지우고 실패를 그대로 던진다. (이미 있던 파일은 지우지 않음)
+     * 제출/강의 파일은 FileUploadPipeline 의 업로드 작업자가 커밋 후에 올리므로, 여기서는 따로 스레드를 두지 않고 순서대로 올린다.
      */
     @Override
     public List<FileInfo> uploadFiles(FileData fileData, List<MultipartFile> files, String... id) {
-        List<FileInfo> fileInfos = new ArrayList<>();
+        List<UploadedFile> uploaded = new ArrayList<>(files.size());
+        try {
+            for (MultipartFile file : files) {
+                uploaded.add(upload(file, id));
+            }
+        } catch (RuntimeException e) {
+            deleteUploaded(uploaded);
+            throw e;
+        }
+        return uploaded.stream()
+                .map(UploadedFile::fileInfo)
+                .toList();
+    }
 
-        for (MultipartFile file : files) {
-            fileInfos.add(this.uploadSingleFile(new FileData(file,fileData.getFilename()), id));
+    /**
+     * 이번 호출에서 새로 올린 객체를 지운다.
+     */
+    private void deleteUploaded(List<UploadedFile> uploaded) {
+        for (UploadedFile file : uploaded) {
+            if (!file.created()) {
+                continue;
+            }
+            try {
+                amazonS3.deleteObject(new DeleteObjectRequest(bucket, file.fileInfo().getFilename()));
+            } catch (RuntimeException e) {
+                log.warn("Failed to delete uploaded file after batch failure - key: {}: {}",
+                        file.fileInfo().getFilename(), e.getMessage());
+            }
         }
-        
-        return fileInfos;
     }
 
     /**
@@ -100,16 +258,16 @@ public class AwsFileServiceImpl implements CloudFileService {
         }
     }
 
+    /**
+     * 파일 삭제
+     * blob 은 다른 파일 행과 나눠 쓰므로 참조만 놓고, 객체는 참조가 없어지면 FileBlobCollector 가 지운다.
+     */
     @Override
     public void deleteFile(FileEntity file) {
-        String fileUrl = file.getFilePath();
-        if (fileUrl == null || fileUrl.isEmpty()) {
-            throw new IllegalArgumentException("File URL cannot be null or empty");
-        }
-
-        String expectedPrefix = "https://" + bucket + ".s3.";
-        if (!fileUrl.startsWith(expectedPrefix)) {
-            throw new IllegalArgumentException("Invalid S3 URL: URL must start with " + expectedPrefix);
+        String fileUrl = validateFileUrl(file.getFilePath());
+        if (FileBlobStore.hashOf(fileUrl) != null) {
+            blobStore.detach(file);
+            return;
         }
 
         String objectKey = extractObjectKeyFromUrl(fileUrl);
@@ -117,6 +275,17 @@ public class AwsFileServiceImpl implements CloudFileService {
     }
 
     public void deleteFile(String fileUrl) {
+        validateFileUrl(fileUrl);
+        if (FileBlobStore.hashOf(fileUrl) != null) {
+            // 엔티티가 없으므로 URL 의 blob 참조 하나를 놓는다
+            blobStore.release(fileUrl);
+            return;
+        }
+        String objectKey = extractObjectKeyFromUrl(fileUrl);
+        amazonS3.deleteObject(new DeleteObjectRequest(bucket, objectKey));
+    }
+
+    private String validateFileUrl(String fileUrl) {
         if (fileUrl == null || fileUrl.isEmpty()) {
             throw new IllegalArgumentException("File URL cannot be null or empty");
         }
@@ -125,15 +294,17 @@ public class AwsFileServiceImpl implements CloudFileService {
         if (!fileUrl.startsWith(expectedPrefix)) {
             throw new IllegalArgumentException("Invalid S3 URL: URL must start with " + expectedPrefix);
         }
-
-        String objectKey = extractObjectKeyFromUrl(fileUrl);
-        amazonS3.deleteObject(new DeleteObjectRequest(bucket, objectKey));
+        return fileUrl;
     }
 
     private String extractObjectKeyFromUrl(String fileUrl) {
         try {
-            // URL에서 파일 경로 부분만 추출
-            String path = fileUrl.substring(fileUrl.indexOf(bucket + "/") + bucket.length() + 1);
+            // URL에서 파일 경로 부분만 추출 (https://{bucket}.s3.{region}.amazonaws.com/{key})
+            String path = URI.create(fileUrl).getPath().substring(1);
+            if (path.startsWith(bucket + "/")) {
+                // 경로 방식 URL (https://s3.{region}.amazonaws.com/{bucket}/{key})
+                path = path.substring(bucket.length() + 1);
+            }
             if (path.isEmpty()) {
                 throw new IllegalArgumentException("Invalid S3 URL: empty path");
             }
@@ -178,4 +349,14 @@ public class AwsFileServiceImpl implements CloudFileService {
         }
         return name+addSide+extending;
     }
+
+    /**
+     * @param fileInfo 올린 파일 정보
+     * @param created 이번에 새로 올렸으면 true, 이미 있던 파일이면 false
+     */
+    private record UploadedFile(
+            FileInfo fileInfo,
+            boolean created
+    ) {
+    }
 }
@@ -0,0 +1,117 @@
+package org.example.plain.domain.file.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.plain.common.concurrent.DaemonThreadFactory;
+import org.example.plain.common.metrics.MetricsSource;
+import org.example.plain.domain.file.entity.FileBlobEntity;
+import org.example.plain.domain.file.repository.FileBlobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 참조가 없는 blob 을 지우는 GC
+ * ref_count 가 0 이고 grace 기간 동안 등록되거나 참조되지 않은 blob 의 행을 먼저 지운 뒤 S3 객체를 지운다.
+ * 행 삭제는 조건부라서 그 사이 다시 참조된 blob 은 남고, 지운 뒤 같은 내용이 등록되면 새 세대의 키로 올라가므로
+ * 객체를 지우는 동안 새 파일이 같은 객체를 가리키는 일은 없다.
+ * grace 기간은 stage 부터 파일 행이 참조를 잡을 때까지의 시간보다 길어야 한다.
+ */
+@Slf4j
+@Component
+public class FileBlobCollector implements MetricsSource {
+    private final AmazonS3 amazonS3;
+    private final FileBlobRepository blobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration grace;
+    private final ScheduledExecutorService collector;
+
+    @Value(value = "${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    private final LongAdder collected = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public FileBlobCollector(
+            AmazonS3 amazonS3,
+            FileBlobRepository blobRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${file.blob.gc-grace-minutes:60}") long graceMinutes,
+            @Value("${file.blob.gc-interval-seconds:600}") long intervalSeconds) {
+        this.amazonS3 = amazonS3;
+        this.blobRepository = blobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.grace = Duration.ofMinutes(graceMinutes);
+        this.collector = Executors.newSingleThreadScheduledExecutor(DaemonThreadFactory.named("file-blob-gc"));
+        collector.scheduleWithFixedDelay(this::collectQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 참조가 없는 blob 을 지웁니다.
+     * @return 지운 blob 수
+     */
+    public int collect() {
+        LocalDateTime before = LocalDateTime.now().minus(grace);
+        List<FileBlobEntity> candidates = blobRepository.findTop100ByRefCountLessThanEqualAndUpdatedAtBefore(0, before);
+        int count = 0;
+        for (FileBlobEntity blob : candidates) {
+            Integer deleted = transactionTemplate.execute(status -> blobRepository.deleteUnreferenced(blob.getHash(), before));
+            if (deleted == null || deleted == 0) {
+                // 조회한 뒤 다시 참조되었다
+                skipped.increment();
+                continue;
+            }
+            try {
+                amazonS3.deleteObject(new DeleteObjectRequest(bucket, blob.getObjectKey()));
+                collected.increment();
+                count++;
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("Failed to delete unreferenced blob {}: {}", blob.getObjectKey(), e.getMessage());
+            }
+        }
+        return count;
+    }
+
+    private void collectQuietly() {
+        try {
+            collect();
+        } catch (RuntimeException e) {
+            log.warn("File blob GC failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public CollectorMetrics getMetrics() {
+        return new CollectorMetrics(collected.sum(), skipped.sum(), failures.sum());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        collector.shutdownNow();
+    }
+
+    /**
+     * @param collected 지운 blob 수
+     * @param skipped 지우려다 다시 참조되어 남긴 blob 수
+     * @param failures 행은 지웠지만 S3 객체를 지우지 못한 수
+     */
+    public record CollectorMetrics(
+            long collected,
+            long skipped,
+            long failures
+    ) {
+    }
+}
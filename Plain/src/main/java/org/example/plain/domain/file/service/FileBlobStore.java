@@ -0,0 +1,165 @@
+package org.example.plain.domain.file.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.plain.domain.file.entity.FileBlobEntity;
+import org.example.plain.domain.file.entity.FileEntity;
+import org.example.plain.domain.file.repository.FileBlobRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 내용 주소 blob 의 참조 수를 관리한다.
+ * 파일 행이 blob URL 을 가리키게 될 때 attach, 파일 행을 지울 때 detach 를 호출하면
+ * file_blob.ref_count 가 파일 행 수와 맞춰진다. 참조가 0 이 된 blob 은 FileBlobCollector 가 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FileBlobStore {
+    static final String KEY_PREFIX = "blobs/";
+    private static final int HASH_LENGTH = 64;
+
+    private final FileBlobRepository blobRepository;
+
+    /**
+     * blob 을 참조 0 으로 등록합니다. 이미 있으면 기존 객체 키를 그대로 씁니다.
+     * @param hash 내용의 SHA-256 (소문자 hex)
+     * @return 등록된 blob (object_key 로 올리면 된다)
+     */
+    @Transactional
+    public FileBlobEntity register(String hash, long size, String contentType) {
+        if (!isHash(hash)) {
+            throw new IllegalArgumentException("Invalid blob hash: " + hash);
+        }
+        blobRepository.register(hash, KEY_PREFIX + hash + "/" + UUID.randomUUID(), size, contentType, LocalDateTime.now());
+        return blobRepository.findById(hash)
+                .orElseThrow(() -> new IllegalStateException("Blob not registered: " + hash));
+    }
+
+    /**
+     * 파일 행이 fileUrl 을 가리키게 하고 참조 수를 옮깁니다.
+     * @return 가리키는 blob 이 바뀌었으면 true (내용이 그대로면 false)
+     */
+    @Transactional
+    public boolean attach(FileEntity file, String fileUrl) {
+        String hash = hashOf(fileUrl);
+        file.setFilePath(fileUrl);
+        if (Objects.equals(hash, file.getBlobHash())) {
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (hash != null && blobRepository.retain(hash, now) == 0) {
+            throw new IllegalStateException("Unknown blob: " + hash);
+        }
+        if (file.getBlobHash() != null) {
+            blobRepository.release(file.getBlobHash(), now);
+        }
+        file.setBlobHash(hash);
+        return true;
+    }
+
+    /**
+     * 파일 행이 blob 을 더 이상 가리키지 않게 합니다. 여러 번 호출해도 한 번만 줄어듭니다.
+     */
+    @Transactional
+    public void detach(FileEntity file) {
+        if (file.getBlobHash() == null) {
+            return;
+        }
+        blobRepository.release(file.getBlobHash(), LocalDateTime.now());
+        file.setBlobHash(null);
+    }
+
+    /**
+     * 엔티티 없이 URL 로만 지울 때 참조 하나를 줄입니다.
+     */
+    @Transactional
+    public void release(String fileUrl) {
+        String hash = hashOf(fileUrl);
+        if (hash != null) {
+            blobRepository.release(hash, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * blob URL 이면 등록할 때 받은 Content-Type 을 돌려줍니다.
+     * @return blob URL 이 아니거나 등록된 값이 없으면 null
+     */
+    @Transactional(readOnly = true)
+    public String contentTypeOf(String fileUrl) {
+        String hash = hashOf(fileUrl);
+        if (hash == null) {
+            return null;
+        }
+        return blobRepository.findById(hash)
+                .map(FileBlobEntity::getContentType)
+                .orElse(null);
+    }
+
+    /**
+     * 여러 파일의 blob Content-Type 을 한 번에 읽습니다. (목록 조회용)
+     * @return 해시 -> 등록할 때 받은 Content-Type. blob URL 이 아니거나 등록된 값이 없으면 빠진다
+     */
+    @Transactional(readOnly = true)
+    public Map<String, String> contentTypesOf(Collection<String> fileUrls) {
+        Set<String> hashes = new HashSet<>();
+        for (String fileUrl : fileUrls) {
+            String hash = hashOf(fileUrl);
+            if (hash != null) {
+                hashes.add(hash);
+            }
+        }
+        Map<String, String> contentTypes = new HashMap<>();
+        if (hashes.isEmpty()) {
+            return contentTypes;
+        }
+        for (FileBlobEntity blob : blobRepository.findAllById(hashes)) {
+            if (blob.getContentType() != null) {
+                contentTypes.put(blob.getHash(), blob.getContentType());
+            }
+        }
+        return contentTypes;
+    }
+
+    /**
+     * blob URL (.../blobs/{hash}/{세대}) 에서 해시를 꺼냅니다.
+     * @return blob URL 이 아니면 null
+     */
+    public static String hashOf(String fileUrl) {
+        if (fileUrl == null) {
+            return null;
+        }
+        int start = fileUrl.indexOf("/" + KEY_PREFIX);
+        if (start < 0) {
+            return null;
+        }
+        start += KEY_PREFIX.length() + 1;
+        int end = start + HASH_LENGTH;
+        if (end >= fileUrl.length() || fileUrl.charAt(end) != '/') {
+            return null;
+        }
+        String hash = fileUrl.substring(start, end);
+        return isHash(hash) ? hash : null;
+    }
+
+    private static boolean isHash(String value) {
+        if (value == null || value.length() != HASH_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,354 @@
+package org.example.plain.domain.file.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.plain.common.concurrent.DaemonThreadFactory;
+import org.example.plain.common.metrics.MetricsSource;
+import org.example.plain.domain.file.dto.FileInfo;
+import org.example.plain.domain.file.entity.FileBlobEntity;
+import org.example.plain.domain.file.entity.FileEntity;
+import org.example.plain.domain.file.entity.FileUploadStatus;
+import org.example.plain.domain.file.entity.FileUploadTaskEntity;
+import org.example.plain.domain.file.interfaces.CloudFileService;
+import org.example.plain.domain.file.repository.FileUploadTaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 트랜잭션 밖에서 S3 에 올리는 2단계 업로드
+ * stage 는 바이트를 로컬 스테이징 디렉터리에 복사하면서 SHA-256 을 계산하고, 내용 해시로 file_blob 을 등록한 뒤
+ * file_upload_task 행을 호출한 트랜잭션에 함께 저장한다. 반환하는 URL 은 blob 객체(blobs/{hash}/...)를 가리킨다.
+ * 호출한 쪽은 파일 행을 저장하고 attach 로 blob 참조를 잡는다. 커밋이 끝나면 업로드 스레드가 스테이징 파일을 올린 뒤
+ * 파일 행을 READY 로 바꾼다. 같은 내용의 blob 이 이미 S3 에 있으면 다시 올리지 않는다.
+ * 롤백되면 스테이징 파일만 지운다. 실패한 업로드는 reconcile 이 stale-seconds 뒤에 다시 시도하고,
+ * max-attempts 번 실패하면 파일 행을 FAILED 로 바꾼다.
+ * 객체는 여러 파일 행이 나눠 쓰므로 여기서 지우지 않는다. 참조가 없는 blob 은 FileBlobCollector 가 지운다.
+ * 스테이징 파일은 이 노드의 디스크에만 있으므로 다시 시도도 스테이징한 노드에서만 한다.
+ */
+@Slf4j
+@Component
+public class FileUploadPipeline implements MetricsSource {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final CloudFileService cloudFileService;
+    private final FileUploadTaskRepository taskRepository;
+    private final FileUploadStatusUpdater statusUpdater;
+    private final FileBlobStore blobStore;
+    private final Path stagingDir;
+    private final int maxAttempts;
+    private final Duration staleAfter;
+    private final Duration abandonAfter;
+    private final ExecutorService uploaders;
+    private final ScheduledExecutorService reconciler;
+
+    /** 이 노드에서 업로드 중인 task. reconcile 이 같은 task 를 겹쳐 올리지 않게 한다 */
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder staged = new LongAdder();
+    private final LongAdder uploaded = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+
+    public FileUploadPipeline(
+            CloudFileService cloudFileService,
+            FileUploadTaskRepository taskRepository,
+            FileUploadStatusUpdater statusUpdater,
+            FileBlobStore blobStore,
+            @Value("${file.upload.outbox.staging-dir:${java.io.tmpdir}/plain-upload-staging}") String stagingDir,
+            @Value("${file.upload.outbox.threads:4}") int threads,
+            @Value("${file.upload.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${file.upload.outbox.stale-seconds:120}") long staleSeconds,
+            @Value("${file.upload.outbox.abandon-hours:24}") long abandonHours,
+            @Value("${file.upload.outbox.reconcile-interval-seconds:60}") long reconcileIntervalSeconds) {
+        this.cloudFileService = cloudFileService;
+        this.taskRepository = taskRepository;
+        this.statusUpdater = statusUpdater;
+        this.blobStore = blobStore;
+        this.stagingDir = Path.of(stagingDir).toAbsolutePath();
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.staleAfter = Duration.ofSeconds(staleSeconds);
+        this.abandonAfter = Duration.ofHours(abandonHours);
+        try {
+            Files.createDirectories(this.stagingDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create staging directory " + this.stagingDir, e);
+        }
+        this.uploaders = Executors.newFixedThreadPool(Math.max(1, threads), DaemonThreadFactory.numbered("file-upload"));
+        this.reconciler = Executors.newSingleThreadScheduledExecutor(DaemonThreadFactory.named("file-upload-reconciler"));
+        reconciler.scheduleWithFixedDelay(this::reconcileQuietly, reconcileIntervalSeconds, reconcileIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 파일을 스테이징하고 업로드를 예약합니다. 트랜잭션 안에서 호출하면 커밋된 뒤에 올립니다.
+     * @param fileType 업로드가 끝나면 상태를 바꿀 파일 엔티티 (file_path 가 반환한 URL 인 행)
+     * @return 파일의 논리 키(id/.../파일명)와 blob URL (files 순서)
+     */
+    public List<FileInfo> stage(List<MultipartFile> files, Class<? extends FileEntity> fileType, String... id) {
+        List<FileInfo> fileInfos = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            fileInfos.add(stage(file, fileType, id));
+        }
+        return fileInfos;
+    }
+
+    public FileInfo stage(MultipartFile file, Class<? extends FileEntity> fileType, String... id) {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+        String filename = cloudFileService.locate(file.getOriginalFilename(), id).getFilename();
+
+        // 스테이징하면서 해시를 계산해 바이트를 한 번만 읽는다
+        Path stagedFile = stagingDir.resolve(UUID.randomUUID().toString());
+        MessageDigest digest = sha256();
+        try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+            Files.copy(inputStream, stagedFile);
+        } catch (IOException e) {
+            deleteQuietly(stagedFile);
+            throw new RuntimeException("Failed to stage file", e);
+        }
+
+        FileBlobEntity blob;
+        try {
+            blob = blobStore.register(HexFormat.of().formatHex(digest.digest()), file.getSize(), file.getContentType());
+        } catch (RuntimeException e) {
+            deleteQuietly(stagedFile);
+            throw e;
+        }
+        FileInfo fileInfo = new FileInfo(filename, cloudFileService.locate(blob.getObjectKey()).getFileUrl());
+
+        FileUploadTaskEntity task = taskRepository.save(FileUploadTaskEntity.builder()
+                .fileType(fileType.getSimpleName())
+                .objectKey(blob.getObjectKey())
+                .fileUrl(fileInfo.getFileUrl())
+                .stagedPath(stagedFile.toString())
+                .contentType(file.getContentType())
+                .size(file.getSize())
+                .build());
+        staged.increment();
+
+        Long taskId = task.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(taskId);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        deleteQuietly(stagedFile);
+                    }
+                }
+            });
+        } else {
+            dispatch(taskId);
+        }
+        return fileInfo;
+    }
+
+    /**
+     * 파일 행이 stage 가 반환한 blob 을 가리키게 합니다. 파일 행을 저장한 뒤 같은 트랜잭션에서 호출합니다.
+     * 내용이 바뀌었으면 이전 blob 참조를 놓고 PENDING 으로 바꿉니다. 같은 내용이 이미 READY 면 상태를 그대로 둡니다.
+     */
+    public void attach(FileEntity file, FileInfo fileInfo) {
+        if (blobStore.attach(file, fileInfo.getFileUrl()) || !file.isUploaded()) {
+            file.setUploadStatus(FileUploadStatus.PENDING);
+        }
+    }
+
+    private void dispatch(Long taskId) {
+        if (!running.add(taskId)) {
+            return;
+        }
+        try {
+            uploaders.execute(() -> {
+                try {
+                    process(taskId);
+                } catch (RuntimeException e) {
+                    // 상태를 기록하지 못했으면 reconcile 이 다시 시도한다
+                    log.warn("File upload task {} failed unexpectedly: {}", taskId, e.getMessage());
+                } finally {
+                    running.remove(taskId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.remove(taskId);
+        }
+    }
+
+    private void process(Long taskId) {
+        FileUploadTaskEntity task = taskRepository.findById(taskId).orElse(null);
+        if (task == null || task.getStatus() != FileUploadStatus.PENDING) {
+            return;
+        }
+        Path stagedFile = Path.of(task.getStagedPath());
+        try {
+            if (cloudFileService.exists(task.getObjectKey())) {
+                // 같은 내용이 이미 올라가 있다
+                deduplicated.increment();
+            } else {
+                try (InputStream inputStream = Files.newInputStream(stagedFile)) {
+                    cloudFileService.uploadObject(task.getObjectKey(), inputStream, task.getSize(), task.getContentType());
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            handleFailure(task, e);
+            return;
+        }
+
+        // 올리는 동안 파일 행이 지워졌으면 바뀌는 행이 없고, 참조가 없는 blob 은 GC 가 지운다
+        statusUpdater.mark(task.getFileType(), task.getFileUrl(), FileUploadStatus.READY);
+        taskRepository.delete(task);
+        deleteQuietly(stagedFile);
+        uploaded.increment();
+    }
+
+    private void handleFailure(FileUploadTaskEntity task, Exception error) {
+        task.setAttempts(task.getAttempts() + 1);
+        task.setLastError(truncate(String.valueOf(error)));
+        task.setUpdatedAt(LocalDateTime.now());
+        if (task.getAttempts() < maxAttempts) {
+            retries.increment();
+            log.warn("File upload failed, will retry - key: {}, attempt: {}/{}: {}",
+                    task.getObjectKey(), task.getAttempts(), maxAttempts, error.getMessage());
+            taskRepository.save(task);
+            return;
+        }
+        fail(task);
+    }
+
+    /**
+     * 더 이상 시도하지 않는다. 파일 행을 FAILED 로 바꾸고 스테이징 파일을 지운다.
+     */
+    private void fail(FileUploadTaskEntity task) {
+        log.warn("File upload failed - key: {}, attempts: {}, last error: {}", task.getObjectKey(), task.getAttempts(), task.getLastError());
+        task.setStatus(FileUploadStatus.FAILED);
+        task.setUpdatedAt(LocalDateTime.now());
+        statusUpdater.mark(task.getFileType(), task.getFileUrl(), FileUploadStatus.FAILED);
+        deleteQuietly(Path.of(task.getStagedPath()));
+        taskRepository.save(task);
+        failed.increment();
+    }
+
+    /**
+     * 멈춘 업로드를 다시 시도하고 정리되지 않은 스테이징 파일을 지웁니다.
+     * 스테이징 파일이 이 노드에 없는 업로드는 다른 노드가 처리하도록 두고, abandon-hours 가 지나면 실패로 처리합니다.
+     */
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        for (FileUploadTaskEntity task : taskRepository.findByStatusAndUpdatedAtBefore(FileUploadStatus.PENDING, now.minus(staleAfter))) {
+            if (Files.exists(Path.of(task.getStagedPath()))) {
+                dispatch(task.getId());
+            } else if (task.getCreatedAt().isBefore(now.minus(abandonAfter)) && !running.contains(task.getId())) {
+                task.setLastError("Staged file missing");
+                fail(task);
+            }
+        }
+
+        // 커밋되지 못한 트랜잭션이 남긴 스테이징 파일
+        Instant abandonedBefore = Instant.now().minus(abandonAfter);
+        try (Stream<Path> files = Files.list(stagingDir)) {
+            files.filter(file -> isModifiedBefore(file, abandonedBefore))
+                    .filter(file -> !taskRepository.existsByStagedPath(file.toString()))
+                    .forEach(FileUploadPipeline::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("Failed to list staging directory {}: {}", stagingDir, e.getMessage());
+        }
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("File upload reconcile failed: {}", e.getMessage());
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isModifiedBefore(Path file, Instant instant) {
+        try {
+            return Files.getLastModifiedTime(file).compareTo(FileTime.from(instant)) < 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete staged file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    @Override
+    public PipelineMetrics getMetrics() {
+        return new PipelineMetrics(staged.sum(), uploaded.sum(), retries.sum(), failed.sum(), deduplicated.sum(), running.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reconciler.shutdownNow();
+        uploaders.shutdownNow();
+    }
+
+    /**
+     * @param staged 스테이징한 파일 수
+     * @param uploaded 올리고 READY 로 바꾼 파일 수
+     * @param retries 실패해 다시 시도하도록 남긴 횟수
+     * @param failed 재시도를 모두 실패한 파일 수
+     * @param deduplicated 같은 내용이 이미 있어 올리지 않은 파일 수
+     * @param running 지금 올리고 있는 파일 수
+     */
+    public record PipelineMetrics(
+            long staged,
+            long uploaded,
+            long retries,
+            long failed,
+            long deduplicated,
+            int running
+    ) {
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.plain.domain.file.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.metamodel.EntityType;
+import org.example.plain.domain.file.entity.FileEntity;
+import org.example.plain.domain.file.entity.FileUploadStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 파일 엔티티의 업로드 상태를 file_path 기준으로 바꾼다.
+ * 파일 엔티티는 테이블마다 따로 있으므로 엔티티 이름으로 대상을 고른다.
+ * blob URL 은 여러 행이 나눠 쓰므로 업로드를 기다리는 (PENDING) 행만 바꾼다.
+ */
+@Component
+public class FileUploadStatusUpdater {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @param fileType FileEntity 를 상속한 엔티티 이름
+     * @return 바뀐 행 수 (0이면 기다리던 파일 행이 이미 지워짐)
+     */
+    @Transactional
+    public int mark(String fileType, String fileUrl, FileUploadStatus status) {
+        EntityType<?> entity = entityManager.getMetamodel().getEntities().stream()
+                .filter(type -> type.getName().equals(fileType) && FileEntity.class.isAssignableFrom(type.getJavaType()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown file entity: " + fileType));
+        return entityManager.createQuery("update " + entity.getName() + " f set f.uploadStatus = :status "
+                        + "where f.filePath = :filePath and f.uploadStatus = :pending")
+                .setParameter("status", status)
+                .setParameter("filePath", fileUrl)
+                .setParameter("pending", FileUploadStatus.PENDING)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,245 @@
+package org.example.plain.domain.file.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ListMultipartUploadsRequest;
+import com.amazonaws.services.s3.model.ListPartsRequest;
+import com.amazonaws.services.s3.model.MultipartUpload;
+import com.amazonaws.services.s3.model.MultipartUploadListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PartListing;
+import com.amazonaws.services.s3.model.PartSummary;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.plain.common.concurrent.DaemonThreadFactory;
+import org.example.plain.common.metrics.MetricsSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 큰 파일을 S3 멀티파트 업로드로 나눠 올린다.
+ * 스트림을 part-size 단위로 읽어 여러 파트를 동시에 올리며, 한 업로드가 동시에 들고 있는 버퍼는 parallelism 개를 넘지 않는다.
+ * 실패하면 멀티파트 업로드를 취소하지 않고 남겨 두고, 같은 키로 다시 올리면 S3 에 남은 업로드를 찾아
+ * MD5(ETag)가 같은 파트는 건너뛰고 나머지만 올린다.
+ * 끝내 재시도하지 않은 업로드는 버킷의 AbortIncompleteMultipartUpload 수명 주기 규칙으로 정리해야 한다.
+ */
+@Slf4j
+@Component
+public class S3MultipartUploader implements MetricsSource {
+    /** S3 가 허용하는 최소 파트 크기 (마지막 파트 제외) */
+    static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    private static final int MAX_PARTS = 10_000;
+
+    private final AmazonS3 amazonS3;
+    private final long partSize;
+    private final int parallelism;
+    private final ExecutorService workers;
+
+    private final LongAdder uploadedParts = new LongAdder();
+    private final LongAdder resumedParts = new LongAdder();
+    private final LongAdder uploadedBytes = new LongAdder();
+
+    public S3MultipartUploader(
+            AmazonS3 amazonS3,
+            @Value("${file.upload.multipart.part-size-mb:16}") long partSizeMb,
+            @Value("${file.upload.multipart.parallelism:4}") int parallelism,
+            @Value("${file.upload.multipart.threads:16}") int threads) {
+        this(amazonS3, partSizeMb * 1024 * 1024, parallelism, threads, true);
+    }
+
+    S3MultipartUploader(AmazonS3 amazonS3, long partSizeBytes, int parallelism, int threads, boolean enforceMinPartSize) {
+        this.amazonS3 = amazonS3;
+        this.partSize = enforceMinPartSize ? Math.max(partSizeBytes, MIN_PART_SIZE) : partSizeBytes;
+        this.parallelism = Math.max(1, parallelism);
+        this.workers = Executors.newFixedThreadPool(Math.max(1, threads), DaemonThreadFactory.numbered("s3-multipart"));
+    }
+
+    /**
+     * 스트림을 멀티파트 업로드로 올립니다. 같은 키에 끝나지 않은 업로드가 있으면 이어서 올립니다.
+     * @param size 전체 크기 (바이트)
+     * @return 완성된 객체의 ETag
+     */
+    public String upload(String bucket, String key, InputStream in, long size, String contentType) throws IOException {
+        long effectivePartSize = Math.max(partSize, (size + MAX_PARTS - 1) / MAX_PARTS);
+        int partCount = (int) Math.max(1, (size + effectivePartSize - 1) / effectivePartSize);
+
+        String uploadId = findPendingUpload(bucket, key);
+        Map<Integer, PartSummary> existing = uploadId != null ? listParts(bucket, key, uploadId) : Map.of();
+        if (uploadId == null) {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentType(contentType);
+            uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, metadata)).getUploadId();
+        } else {
+            log.info("Resuming multipart upload - key: {}, uploadId: {}, parts already uploaded: {}", key, uploadId, existing.size());
+        }
+
+        Semaphore inFlight = new Semaphore(parallelism);
+        List<CompletableFuture<PartETag>> parts = new ArrayList<>(partCount);
+        try {
+            for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+                if (anyFailed(parts)) {
+                    // 이미 실패한 파트가 있으면 나머지는 읽지 않는다. 아래 join 에서 실패가 전달된다
+                    break;
+                }
+                int length = (int) Math.min(effectivePartSize, size - (partNumber - 1) * effectivePartSize);
+                inFlight.acquire();
+                byte[] buffer;
+                try {
+                    buffer = in.readNBytes(length);
+                } catch (IOException | RuntimeException e) {
+                    inFlight.release();
+                    throw e;
+                }
+                if (buffer.length != length) {
+                    inFlight.release();
+                    throw new IOException("Stream ended before " + size + " bytes - key: " + key);
+                }
+                parts.add(submitPart(bucket, key, uploadId, partNumber, buffer, existing.get(partNumber), inFlight));
+            }
+            List<PartETag> etags = new ArrayList<>(partCount);
+            for (CompletableFuture<PartETag> part : parts) {
+                etags.add(part.join());
+            }
+            return amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, etags)).getETag();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while uploading " + key, e);
+        } catch (CompletionException e) {
+            throw new IOException("Failed to upload part of " + key + " (uploadId: " + uploadId + ")", e.getCause());
+        } finally {
+            // 실패했을 때 나머지 파트가 끝날 때까지 기다려야 재시도가 같은 파트를 동시에 올리지 않는다
+            for (CompletableFuture<PartETag> part : parts) {
+                part.handle((etag, error) -> null).join();
+            }
+        }
+    }
+
+    /**
+     * 끝나지 않은 멀티파트 업로드를 취소합니다. 더 이상 재시도하지 않을 때 사용합니다.
+     */
+    public void abort(String bucket, String key) {
+        String uploadId = findPendingUpload(bucket, key);
+        if (uploadId != null) {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        }
+    }
+
+    private CompletableFuture<PartETag> submitPart(String bucket, String key, String uploadId, int partNumber,
+                                                   byte[] buffer, PartSummary existing, Semaphore inFlight) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                // 이미 올라간 파트가 있을 때만 내용을 비교한다 (처음 올리는 파트는 해시를 계산하지 않는다)
+                if (existing != null && existing.getSize() == buffer.length
+                        && md5Hex(buffer).equals(stripQuotes(existing.getETag()))) {
+                    resumedParts.increment();
+                    return new PartETag(partNumber, existing.getETag());
+                }
+                UploadPartRequest request = new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withPartSize(buffer.length)
+                        .withInputStream(new ByteArrayInputStream(buffer));
+                PartETag etag = amazonS3.uploadPart(request).getPartETag();
+                uploadedParts.increment();
+                uploadedBytes.add(buffer.length);
+                return etag;
+            } finally {
+                inFlight.release();
+            }
+        }, workers);
+    }
+
+    private static boolean anyFailed(List<CompletableFuture<PartETag>> parts) {
+        for (CompletableFuture<PartETag> part : parts) {
+            if (part.isCompletedExceptionally()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String findPendingUpload(String bucket, String key) {
+        MultipartUploadListing listing = amazonS3.listMultipartUploads(new ListMultipartUploadsRequest(bucket).withPrefix(key));
+        return listing.getMultipartUploads().stream()
+                .filter(upload -> key.equals(upload.getKey()))
+                .max(Comparator.comparing(MultipartUpload::getInitiated))
+                .map(MultipartUpload::getUploadId)
+                .orElse(null);
+    }
+
+    private Map<Integer, PartSummary> listParts(String bucket, String key, String uploadId) {
+        Map<Integer, PartSummary> parts = new HashMap<>();
+        ListPartsRequest request = new ListPartsRequest(bucket, key, uploadId);
+        PartListing listing;
+        do {
+            listing = amazonS3.listParts(request);
+            for (PartSummary part : listing.getParts()) {
+                parts.put(part.getPartNumber(), part);
+            }
+            request.setPartNumberMarker(listing.getNextPartNumberMarker());
+        } while (listing.isTruncated());
+        return parts;
+    }
+
+    private static String md5Hex(byte[] buffer) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(buffer));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String stripQuotes(String etag) {
+        return etag != null && etag.startsWith("\"") ? etag.substring(1, etag.length() - 1) : etag;
+    }
+
+    public long getPartSize() {
+        return partSize;
+    }
+
+    @Override
+    public UploadMetrics getMetrics() {
+        return new UploadMetrics(uploadedParts.sum(), resumedParts.sum(), uploadedBytes.sum());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * @param uploadedParts 올린 파트 수
+     * @param resumedParts 이전 시도에서 이미 올라가 있어 건너뛴 파트 수
+     * @param uploadedBytes 올린 바이트 수
+     */
+    public record UploadMetrics(
+            long uploadedParts,
+            long resumedParts,
+            long uploadedBytes
+    ) {
+    }
+}
@@ -2,6 +2,7 @@ package org.example.plain.domain.file.service.filedatabase;
 
 import lombok.RequiredArgsConstructor;
 import org.example.plain.domain.file.dto.FileData;
+import org.example.plain.domain.file.dto.FileInfo;
 import org.example.plain.domain.file.dto.UserFileData;
 import org.example.plain.domain.file.entity.FileEntity;
 import org.example.plain.domain.file.entity.ImageFileEntity;
@@ -10,6 +11,7 @@ import org.example.plain.domain.file.interfaces.CloudFileService;
 import org.example.plain.domain.file.interfaces.FileDatabaseService;
 import org.example.plain.domain.file.repository.ImageFileRepository;
 import org.example.plain.domain.file.repository.UserFileRepository;
+import org.example.plain.domain.file.service.FileUploadPipeline;
 import org.example.plain.domain.user.entity.User;
 import org.example.plain.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
@@ -25,10 +27,12 @@ public class UserImageFileDatabaseServiceImpl implements FileDatabaseService {
     private final UserFileRepository userFileRepository;
     private final UserRepository userRepository;
     private final CloudFileService cloudFileService;
+    private final FileUploadPipeline uploadPipeline;
 
     /**
      * 프로필 이미지 저장
      * 이미 저장된 프로필 이미지가 있으면 기존 이미지 삭제 후 새 이미지 저장
+     * 같은 내용(같은 blob URL)의 이미지면 새로 저장하지 않음
      * @param filename 파일명
      * @param filepath 파일 경로
      * @param fileData 파일 데이터
@@ -45,25 +49,26 @@ public class UserImageFileDatabaseServiceImpl implements FileDatabaseService {
         // 1.5. 사용자의 기존 프로필 이미지 조회 및 처리
         Optional<UserFileEntity> existingUserFile = userFileRepository.findByUser(user);
         if (existingUserFile.isPresent()) {
-            // 1.5.1. 동일한 파일명이면 새로 저장하지 않고 기존 파일 반환 (null 반환)
+            // 1.5.1. 동일한 내용이면 새로 저장하지 않고 기존 파일 반환 (null 반환)
             ImageFileEntity existingImageFile = existingUserFile.get().getImageFileEntity();
-            if (existingImageFile.getFilename().equals(filename)) {
+            if (filepath.equals(existingImageFile.getFilePath())) {
                 // ImageFileEntity가 FileEntity를 상속하지 않으므로 null 반환
                 return null;
             }
             
-            // 1.5.2. 다른 파일명이면 기존 이미지 삭제 
+            // 1.5.2. 다른 내용이면 기존 이미지 삭제 
             ImageFileEntity oldImageFile = existingUserFile.get().getImageFileEntity();
             userFileRepository.delete(existingUserFile.get());
             
-            // 클라우드에서 파일 삭제 (S3)
-            cloudFileService.deleteFile(oldImageFile.getFilePath());
+            // 클라우드에서 파일 삭제 (blob 이면 참조만 놓는다)
+            cloudFileService.deleteFile(oldImageFile);
             imageFileRepository.delete(oldImageFile);
         }
 
         // 2. 이미지 파일 엔티티 생성 및 저장
         ImageFileEntity imageFile = ImageFileEntity.makeImageFileEntity(filename, filepath);
         imageFile = imageFileRepository.save(imageFile);
+        uploadPipeline.attach(imageFile, new FileInfo(filename, filepath));
         
         // 3. 사용자-이미지 연결 엔티티 생성 및 저장
         UserFileEntity userFileEntity = UserFileEntity.createUserProfileImage(user, imageFile);
@@ -82,7 +87,7 @@ public class UserImageFileDatabaseServiceImpl implements FileDatabaseService {
         if (imageFile != null) {
             // 연결된 UserFileEntity 삭제
             // 실제 파일 삭제
-            cloudFileService.deleteFile(filepath);
+            cloudFileService.deleteFile(imageFile);
             
             // 이미지 파일 엔티티 삭제
             imageFileRepository.delete(imageFile);
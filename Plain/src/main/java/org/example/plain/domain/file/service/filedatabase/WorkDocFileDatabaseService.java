@@ -75,7 +75,7 @@ public class WorkDocFileDatabaseService implements FileDatabaseService {
         workDocFileRepository.findByFilenameAndFilePath(filename, filepath)
                 .ifPresent(file -> {
                     // 실제 클라우드에서 파일 삭제
-                    cloudFileService.deleteFile(filepath);
+                    cloudFileService.deleteFile(file);
                     // DB에서 파일 정보 삭제
                     workDocFileRepository.delete(file);
                 });
@@ -121,7 +121,7 @@ public class WorkDocFileDatabaseService implements FileDatabaseService {
         if (file instanceof WorkDocFileEntity) {
             WorkDocFileEntity workDocFile = (WorkDocFileEntity) file;
             // 실제 클라우드에서 파일 삭제
-            cloudFileService.deleteFile(workDocFile.getFilePath());
+            cloudFileService.deleteFile(workDocFile);
             // DB에서 파일 정보 삭제
             workDocFileRepository.delete(workDocFile);
         } else {
@@ -145,7 +145,7 @@ public class WorkDocFileDatabaseService implements FileDatabaseService {
         // 각 파일 삭제
         for (WorkDocFileEntity file : files) {
             // 실제 클라우드에서 파일 삭제
-            cloudFileService.deleteFile(file.getFilePath());
+            cloudFileService.deleteFile(file);
         }
         
         // DB에서 파일 정보 한 번에 삭제
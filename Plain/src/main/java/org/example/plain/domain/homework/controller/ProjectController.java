@@ -11,6 +11,7 @@ import org.example.plain.common.config.SecurityUtils;
 import org.example.plain.domain.board.service.BoardServiceImpl;
 import org.example.plain.domain.file.interfaces.FileService;
 import org.example.plain.domain.homework.dto.*;
+import org.example.plain.domain.homework.dto.response.SubmissionFileResponse;
 import org.example.plain.domain.homework.dto.response.WorkResponse;
 import org.example.plain.domain.homework.interfaces.SubmissionService;
 import org.example.plain.domain.homework.interfaces.WorkMemberService;
@@ -129,23 +130,23 @@ public class ProjectController {
         return new ResponseMaker<List<WorkSubmitListResponse>>().ok(submissionService.getSubmissionList(assignmentId));
     }
 
-    @Operation(summary = "사용자의 과제 제출 파일 URL 조회")
+    @Operation(summary = "사용자의 과제 제출 파일 조회 (업로드 상태 포함)")
     @GetMapping("/{assignmentId}/submissions/{userId}")
-    public ResponseEntity<ResponseField<List<String>>> getUserSubmissions(
+    public ResponseEntity<ResponseField<List<SubmissionFileResponse>>> getUserSubmissions(
             @Parameter(description = "수업 ID") @PathVariable String classId,
             @Parameter(description = "과제 ID") @PathVariable String assignmentId,
             @Parameter(description = "사용자 ID") @PathVariable String userId) {
         log.info("사용자 과제 제출 파일 URL 조회 요청 - classId: {}, assignmentId: {}, userId: {}", classId, assignmentId, userId);
-        return new ResponseMaker<List<String>>().ok(submissionService.getSubmissionFiles(assignmentId, userId));
+        return new ResponseMaker<List<SubmissionFileResponse>>().ok(submissionService.getSubmissionFiles(assignmentId, userId));
     }
 
     @Operation(summary = "내 과제 제출물 조회")
     @GetMapping("/{assignmentId}/submissions/me")
-    public ResponseEntity<ResponseField<List<String>>> getMySubmissions(
+    public ResponseEntity<ResponseField<List<SubmissionFileResponse>>> getMySubmissions(
             @Parameter(description = "수업 ID") @PathVariable String classId,
             @Parameter(description = "과제 ID") @PathVariable String assignmentId) {
         log.info("내 과제 제출물 조회 요청 - classId: {}, assignmentId: {}", classId, assignmentId);
-        return new ResponseMaker<List<String>>().ok(submissionService.getSubmissionFiles(assignmentId, SecurityUtils.getUserId()));
+        return new ResponseMaker<List<SubmissionFileResponse>>().ok(submissionService.getSubmissionFiles(assignmentId, SecurityUtils.getUserId()));
     }
 
     @Operation(summary = "과제 제출 상태 확인")
@@ -0,0 +1,25 @@
+package org.example.plain.domain.homework.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.plain.domain.file.entity.FileEntity;
+import org.example.plain.domain.file.entity.FileUploadStatus;
+
+/**
+ * 제출 파일 조회 응답. 업로드가 끝나지 않았거나 (PENDING) 실패한 (FAILED) 파일도 상태와 함께 내려준다.
+ */
+@Getter
+@Builder
+public class SubmissionFileResponse {
+    private String filename;
+    private String filePath;
+    private FileUploadStatus uploadStatus;
+
+    public static SubmissionFileResponse from(FileEntity entity) {
+        return SubmissionFileResponse.builder()
+                .filename(entity.getFilename())
+                .filePath(entity.getFilePath())
+                .uploadStatus(entity.resolvedUploadStatus())
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package org.example.plain.domain.homework.interfaces;
 
 import org.example.plain.domain.homework.dto.WorkSubmitField;
 import org.example.plain.domain.homework.dto.WorkSubmitListResponse;
+import org.example.plain.domain.homework.dto.response.SubmissionFileResponse;
 
 import java.util.List;
 
@@ -17,7 +18,7 @@ public interface SubmissionService {
     /**
      * 과제 제출물 조회
      */
-    List<String> getSubmissionFiles(String workId, String userId);
+    List<SubmissionFileResponse> getSubmissionFiles(String workId, String userId);
 
     /**
      * 과제 제출 목록 조회
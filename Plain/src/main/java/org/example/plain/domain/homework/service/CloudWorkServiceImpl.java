@@ -6,9 +6,11 @@ import org.example.plain.domain.classMember.repository.ClassMemberRepository;
 import org.example.plain.domain.file.dto.FileInfo;
 import org.example.plain.domain.file.dto.WorkFileData;
 import org.example.plain.domain.file.entity.FileEntity;
+import org.example.plain.domain.file.entity.WorkDocFileEntity;
 import org.example.plain.domain.file.interfaces.CloudFileService;
 import org.example.plain.domain.file.interfaces.FileDatabaseService;
 import org.example.plain.domain.file.repository.WorkDocFileRepository;
+import org.example.plain.domain.file.service.FileUploadPipeline;
 import org.example.plain.domain.homework.dto.*;
 import org.example.plain.domain.homework.dto.response.WorkResponse;
 import org.example.plain.domain.homework.entity.*;
@@ -21,6 +23,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.util.*;
@@ -30,6 +33,7 @@ import static org.example.plain.common.service.UUIDService.makeUUID;
 @Service
 public class CloudWorkServiceImpl implements WorkService {
     private final CloudFileService fileService;
+    private final FileUploadPipeline uploadPipeline;
     private final BoardRepository boardRepository;
     private final WorkMemberRepository workMemberRepository;
     private final ClassMemberRepository classMemberRepository;
@@ -41,6 +45,7 @@ public class CloudWorkServiceImpl implements WorkService {
 
     public CloudWorkServiceImpl(
             CloudFileService fileService,
+            FileUploadPipeline uploadPipeline,
             BoardRepository boardRepository,
             WorkMemberRepository workMemberRepository,
             ClassMemberRepository classMemberRepository,
@@ -48,6 +53,7 @@ public class CloudWorkServiceImpl implements WorkService {
             WorkDocFileRepository fileRepository
     ) {
         this.fileService = fileService;
+        this.uploadPipeline = uploadPipeline;
         this.boardRepository = boardRepository;
         this.workMemberRepository = workMemberRepository;
         this.classMemberRepository = classMemberRepository;
@@ -80,12 +86,9 @@ public class CloudWorkServiceImpl implements WorkService {
         // 먼저 homework 엔티티를 저장
         WorkEntity savedWorkEntity = boardRepository.save(workEntity);
 
-        // 파일이 있는 경우에만 파일 저장
+        // 파일이 있는 경우에만 파일 저장 (S3 업로드는 커밋 뒤에 진행)
         if (work.getFileList() != null && !work.getFileList().isEmpty()) {
-            fileService.uploadFiles(new WorkFileData(savedWorkEntity.getWorkId()), work.getFileList(), savedWorkEntity.getWorkId(), "temp")
-                    .forEach(fileInfo -> {
-                        fileDatabaseService.save(fileInfo.getFilename(), fileInfo.getFileUrl(), new WorkFileData(savedWorkEntity.getWorkId()));
-                    });
+            stageFiles(work.getFileList(), savedWorkEntity.getWorkId());
         }
     }
 
@@ -110,13 +113,19 @@ public class CloudWorkServiceImpl implements WorkService {
                 fileDatabaseService.delete(workFile);
             });
 
-            fileService.uploadFiles(new WorkFileData(work.getWorkId()), work.getFileList(), work.getWorkId(), "temp")
-                    .forEach(fileInfo -> {
-                        fileDatabaseService.save(fileInfo.getFilename(), fileInfo.getFileUrl(), new WorkFileData(work.getWorkId()));
-                    });
+            stageFiles(work.getFileList(), work.getWorkId());
         }
     }
 
+    /**
+     * 첨부 파일을 스테이징하고 PENDING 상태로 저장합니다. 커밋된 뒤에 S3 에 올라가면 READY 가 됩니다.
+     */
+    private void stageFiles(List<MultipartFile> files, String workId) {
+        uploadPipeline.stage(files, WorkDocFileEntity.class, workId, "temp")
+                .forEach(fileInfo -> uploadPipeline.attach(fileDatabaseService
+                        .save(fileInfo.getFilename(), fileInfo.getFileUrl(), new WorkFileData(workId)), fileInfo));
+    }
+
     @Transactional(readOnly = true)
     @Override
     public WorkResponse selectWork(String workId) {
@@ -10,8 +10,10 @@ import org.example.plain.domain.file.entity.FileEntity;
 import org.example.plain.domain.file.entity.WorkFileEntity;
 import org.example.plain.domain.file.interfaces.CloudFileService;
 import org.example.plain.domain.file.interfaces.FileDatabaseService;
+import org.example.plain.domain.file.service.FileUploadPipeline;
 import org.example.plain.domain.homework.dto.WorkSubmitField;
 import org.example.plain.domain.homework.dto.WorkSubmitListResponse;
+import org.example.plain.domain.homework.dto.response.SubmissionFileResponse;
 import org.example.plain.domain.homework.entity.WorkEntity;
 import org.example.plain.domain.homework.entity.WorkMemberEntity;
 import org.example.plain.domain.homework.interfaces.SubmissionService;
@@ -33,6 +35,7 @@ import java.util.List;
 public class SubmissionServiceImpl implements SubmissionService {
 
     private final CloudFileService fileService;
+    private final FileUploadPipeline uploadPipeline;
 
     private final FileDatabaseService fileDatabaseService;
     private final WorkMemberRepository workMemberRepository;
@@ -40,11 +43,13 @@ public class SubmissionServiceImpl implements SubmissionService {
     private final BoardRepository boardRepository;
 
     public SubmissionServiceImpl(CloudFileService fileService,
+                                 FileUploadPipeline uploadPipeline,
                                  @Qualifier("assignmentDatabase") FileDatabaseService fileDatabaseService,
                                  WorkMemberRepository workMemberRepository,
                                  ClassMemberRepository groupMemberRepository,
                                  BoardRepository boardRepository) {
         this.fileService = fileService;
+        this.uploadPipeline = uploadPipeline;
         this.fileDatabaseService = fileDatabaseService;
         this.workMemberRepository = workMemberRepository;
         this.groupMemberRepository = groupMemberRepository;
@@ -77,9 +82,10 @@ public class SubmissionServiceImpl implements SubmissionService {
         try {
             if (workSubmitField.getFile() != null && !workSubmitField.getFile().isEmpty()){
                 List<WorkFileEntity> file = new ArrayList<>();
-                List<FileInfo> files = fileService.uploadFiles(
-                        submitFileData,
+                // S3 업로드는 커밋 뒤에 진행되고, 그 전까지 파일은 PENDING 상태로 남는다
+                List<FileInfo> files = uploadPipeline.stage(
                         workSubmitField.getFile(),
+                        WorkFileEntity.class,
                         "assingment",
                         work.getWorkId(),
                         user.getId()
@@ -91,6 +97,7 @@ public class SubmissionServiceImpl implements SubmissionService {
                             fileInfo.getFileUrl(),
                             submitFileData
                     );
+                    uploadPipeline.attach(fileEntity, fileInfo);
                     file.add(fileEntity);
                 });
 
@@ -110,7 +117,7 @@ public class SubmissionServiceImpl implements SubmissionService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<String> getSubmissionFiles(String workId, String userId) {
+    public List<SubmissionFileResponse> getSubmissionFiles(String workId, String userId) {
         WorkMemberEntity workMemberEntity = validateWorkMember(workId, userId);
         
         // Check if the user is a class member
@@ -118,7 +125,7 @@ public class SubmissionServiceImpl implements SubmissionService {
         validateClassMember(work.getClassId(), userId);
 
         return workMemberEntity.getFileEntities().stream()
-                .map(FileEntity::getFilePath)
+                .map(SubmissionFileResponse::from)
                 .toList();
     }
 
@@ -5,6 +5,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.example.plain.common.ResponseField;
 import org.example.plain.common.config.SecurityUtils;
+import org.example.plain.domain.file.dto.DirectUploadCompleteRequest;
+import org.example.plain.domain.file.dto.DirectUploadRequest;
+import org.example.plain.domain.file.dto.PresignedUpload;
 import org.example.plain.domain.lecture.dto.*;
 import org.example.plain.domain.lecture.dto.lecturecurriculum.LectureCategoryResponse;
 import org.example.plain.domain.lecture.service.interfaces.*;
@@ -131,6 +134,22 @@ public class LectureController {
         return ResponseEntity.ok(lectureFileService.uploadLectureFile(lectureId, file));
     }
 
+    @Operation(summary = "강의 파일 직접 업로드 URL 발급")
+    @PostMapping("/{lecture_id}/files/upload-url")
+    public ResponseEntity<ResponseField<PresignedUpload>> createLectureFileUploadUrl(
+            @PathVariable("lecture_id") String lectureId,
+            @RequestBody DirectUploadRequest request) {
+        return ResponseEntity.ok(lectureFileService.createLectureFileUploadUrl(lectureId, request));
+    }
+
+    @Operation(summary = "강의 파일 직접 업로드 완료")
+    @PostMapping("/{lecture_id}/files/complete")
+    public ResponseEntity<ResponseField<String>> completeLectureFileUpload(
+            @PathVariable("lecture_id") String lectureId,
+            @RequestBody DirectUploadCompleteRequest request) {
+        return ResponseEntity.ok(lectureFileService.completeLectureFileUpload(lectureId, request));
+    }
+
     @Operation(summary = "강의 파일 조회")
     @GetMapping("/{lecture_id}/files/{file_id}")
     public ResponseEntity<ResponseField<String>> getLectureFile(
@@ -2,6 +2,7 @@ package org.example.plain.domain.lecture.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import org.example.plain.domain.file.entity.FileUploadStatus;
 import org.example.plain.domain.lecture.entity.LectureFileEntity;
 
 @Getter
@@ -9,13 +10,17 @@ import org.example.plain.domain.lecture.entity.LectureFileEntity;
 public class LectureFileResponse {
     private String id;
     private String filename;
+    /** 짧은 유효기간의 다운로드 URL. 업로드가 끝나지 않았으면 null 이다 */
     private String filePath;
+    /** PENDING 이나 FAILED 면 아직 내려받을 수 없는 파일이다 */
+    private FileUploadStatus uploadStatus;
 
-    public static LectureFileResponse from(LectureFileEntity entity) {
+    public static LectureFileResponse from(LectureFileEntity entity, String downloadUrl) {
         return LectureFileResponse.builder()
                 .id(entity.getId())
                 .filename(entity.getFilename())
-                .filePath(entity.getFilePath())
+                .filePath(downloadUrl)
+                .uploadStatus(entity.resolvedUploadStatus())
                 .build();
     }
 } 
\ No newline at end of file
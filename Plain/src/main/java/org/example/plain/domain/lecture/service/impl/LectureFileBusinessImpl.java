@@ -3,11 +3,17 @@ package org.example.plain.domain.lecture.service.impl;
 import lombok.RequiredArgsConstructor;
 import org.example.plain.common.ResponseField;
 import org.example.plain.common.enums.Message;
+import org.example.plain.domain.file.dto.DirectUploadCompleteRequest;
+import org.example.plain.domain.file.dto.DirectUploadRequest;
 import org.example.plain.domain.file.dto.FileInfo;
 import org.example.plain.domain.file.dto.LectureFileData;
 import org.example.plain.domain.file.dto.LectureVideoFileData;
+import org.example.plain.domain.file.dto.PresignedUpload;
+import org.example.plain.domain.file.entity.FileUploadStatus;
 import org.example.plain.domain.file.interfaces.CloudFileService;
 import org.example.plain.domain.file.interfaces.FileDatabaseService;
+import org.example.plain.domain.file.service.FileBlobStore;
+import org.example.plain.domain.file.service.FileUploadPipeline;
 import org.example.plain.domain.lecture.dto.LectureFileResponse;
 import org.example.plain.domain.lecture.entity.LectureEntity;
 import org.example.plain.domain.lecture.entity.LectureFileEntity;
@@ -22,23 +28,30 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 public class LectureFileBusinessImpl implements LectureFileService {
 
     private final CloudFileService cloudFileService;
+    private final FileUploadPipeline uploadPipeline;
+    private final FileBlobStore blobStore;
     private final FileDatabaseService fileDatabaseService;
     private final LectureRepository lectureRepository;
     private final LectureFileRepository lectureFileRepository;
 
     public LectureFileBusinessImpl(
             CloudFileService cloudFileService,
+            FileUploadPipeline uploadPipeline,
+            FileBlobStore blobStore,
             @Qualifier("lectureFileDatabaseService")
             FileDatabaseService fileDatabaseService,
             LectureRepository lectureRepository,
             LectureFileRepository lectureFileRepository) {
         this.cloudFileService = cloudFileService;
+        this.uploadPipeline = uploadPipeline;
+        this.blobStore = blobStore;
         this.fileDatabaseService = fileDatabaseService;
         this.lectureRepository = lectureRepository;
         this.lectureFileRepository = lectureFileRepository;
@@ -56,28 +69,77 @@ public class LectureFileBusinessImpl implements LectureFileService {
                 .lectureId(lectureId)
                 .build();
 
-        // S3에 파일 업로드
-        FileInfo fileInfo = cloudFileService.uploadSingleFile(fileData, lectureId);
+        // 파일을 스테이징하고 S3 업로드는 커밋 뒤에 진행
+        FileInfo fileInfo = uploadPipeline.stage(file, LectureFileEntity.class, lectureId);
         
-        // 데이터베이스에 파일 정보 저장
-        fileDatabaseService.save(fileInfo.getFilename(), fileInfo.getFileUrl(), fileData);
+        // 데이터베이스에 파일 정보 저장 후 blob 참조 (업로드가 끝나면 READY 로 바뀜)
+        uploadPipeline.attach(fileDatabaseService.save(fileInfo.getFilename(), fileInfo.getFileUrl(), fileData), fileInfo);
         
         return new ResponseField<>(Message.OK.name(), HttpStatus.OK, fileInfo.getFileUrl());
     }
 
+    /**
+     * 클라이언트가 S3 에 직접 올릴 presigned PUT URL 을 발급합니다.
+     * 업로드가 끝나면 completeLectureFileUpload 를 호출해야 파일이 등록됩니다.
+     */
+    @Override
+    public ResponseField<PresignedUpload> createLectureFileUploadUrl(String lectureId, DirectUploadRequest request) {
+        lectureRepository.findById(lectureId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 강의입니다."));
+
+        PresignedUpload upload = cloudFileService.presignUpload(request.getFilename(), request.getContentType(), lectureId);
+        return new ResponseField<>(Message.OK.name(), HttpStatus.OK, upload);
+    }
+
+    /**
+     * 직접 업로드가 끝난 파일을 등록합니다. S3 에 객체가 있을 때만 저장합니다.
+     * 같은 키로 다시 호출하면 새로 저장하지 않고 이미 등록된 파일 URL 을 돌려줍니다.
+     */
+    @Override
+    @Transactional
+    public ResponseField<String> completeLectureFileUpload(String lectureId, DirectUploadCompleteRequest request) {
+        lectureRepository.findById(lectureId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 강의입니다."));
+
+        // 이 강의에 발급한 형식의 키인지 확인한다 (lectureId/UUID/파일명)
+        FileInfo fileInfo = cloudFileService.locateUpload(request.getKey(), lectureId);
+        if (lectureFileRepository.findByFilenameAndFilePath(fileInfo.getFilename(), fileInfo.getFileUrl()).isPresent()) {
+            return new ResponseField<>(Message.OK.name(), HttpStatus.OK, fileInfo.getFileUrl());
+        }
+        if (!cloudFileService.exists(fileInfo.getFilename())) {
+            throw new IllegalArgumentException("업로드된 파일을 찾을 수 없습니다.");
+        }
+
+        LectureFileData fileData = LectureFileData.builder()
+                .lectureId(lectureId)
+                .build();
+        fileDatabaseService.save(fileInfo.getFilename(), fileInfo.getFileUrl(), fileData)
+                .setUploadStatus(FileUploadStatus.READY);
+
+        return new ResponseField<>(Message.OK.name(), HttpStatus.OK, fileInfo.getFileUrl());
+    }
+
     @Override
     public ResponseField<String> getLectureFile(String lectureId, String fileId) {
         LectureFileEntity lectureFile = lectureFileRepository.findByIdAndLectureId(fileId, lectureId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 파일입니다."));
 
-        return new ResponseField<>(Message.OK.name(), HttpStatus.OK, lectureFile.getFilePath());
+        // 짧은 유효기간의 다운로드 URL 을 발급한다
+        return new ResponseField<>(Message.OK.name(), HttpStatus.OK, presignDownload(lectureFile));
     }
 
     @Override
     public ResponseField<List<LectureFileResponse>> getLectureFiles(String lectureId) {
-        List<LectureFileResponse> files = lectureFileRepository.findByLectureId(lectureId)
-                .stream()
-                .map(LectureFileResponse::from)
+        List<LectureFileEntity> lectureFiles = lectureFileRepository.findByLectureId(lectureId);
+        // 목록도 단건 조회와 같은 다운로드 URL 을 내려준다. Content-Type 은 한 번에 읽는다
+        Map<String, String> contentTypes = blobStore.contentTypesOf(lectureFiles.stream()
+                .map(LectureFileEntity::getFilePath)
+                .collect(Collectors.toList()));
+        List<LectureFileResponse> files = lectureFiles.stream()
+                .map(file -> LectureFileResponse.from(file, file.isUploaded()
+                        ? cloudFileService.presignDownload(file.getFilePath(), file.getFilename(),
+                                contentTypes.get(FileBlobStore.hashOf(file.getFilePath())))
+                        : null))
                 .collect(Collectors.toList());
 
         return new ResponseField<>(Message.OK.name(), HttpStatus.OK, files);
@@ -104,7 +166,14 @@ public class LectureFileBusinessImpl implements LectureFileService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 영상입니다."));
 
         // TODO: 권한 체크 로직 구현
-        return new ResponseField<>(Message.OK.name(), HttpStatus.OK, video.getFilePath());
+        return new ResponseField<>(Message.OK.name(), HttpStatus.OK, presignDownload(video));
+    }
+
+    /**
+     * 원래 파일명과 Content-Type 으로 내려받도록 다운로드 URL 을 발급합니다. (blob 키에는 파일명이 없다)
+     */
+    private String presignDownload(LectureFileEntity file) {
+        return cloudFileService.presignDownload(file.getFilePath(), file.getFilename(), blobStore.contentTypeOf(file.getFilePath()));
     }
 
 
@@ -1,6 +1,9 @@
 package org.example.plain.domain.lecture.service.interfaces;
 
 import org.example.plain.common.ResponseField;
+import org.example.plain.domain.file.dto.DirectUploadCompleteRequest;
+import org.example.plain.domain.file.dto.DirectUploadRequest;
+import org.example.plain.domain.file.dto.PresignedUpload;
 import org.example.plain.domain.lecture.dto.LectureFileResponse;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -9,6 +12,8 @@ import java.util.List;
 
 public interface LectureFileService {
     ResponseField<String> uploadLectureFile(String lectureId, MultipartFile file) throws IOException;
+    ResponseField<PresignedUpload> createLectureFileUploadUrl(String lectureId, DirectUploadRequest request);
+    ResponseField<String> completeLectureFileUpload(String lectureId, DirectUploadCompleteRequest request);
     ResponseField<String> getLectureFile(String lectureId, String fileId);
     ResponseField<List<LectureFileResponse>> getLectureFiles(String lectureId);
     ResponseField<Void> deleteLectureFile(String lectureId, String fileId);
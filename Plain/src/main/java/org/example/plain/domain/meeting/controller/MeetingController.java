@@ -7,6 +7,7 @@ import org.example.plain.common.config.SecurityUtils;
 import org.example.plain.domain.meeting.dto.ChatMessage;
 import org.example.plain.domain.meeting.dto.MeetingRoomDto;
 import org.example.plain.domain.meeting.dto.ParticipantState;
+import org.example.plain.domain.meeting.dto.PeerSignal;
 import org.example.plain.domain.meeting.service.MeetingService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -33,8 +34,11 @@ public class MeetingController {
     }
 
     @GetMapping("/{roomId}/messages")
-    public ResponseEntity<List<ChatMessage>> getChatMessages(@PathVariable String roomId) {
-        return ResponseEntity.ok(meetingService.getChatMessages(roomId));
+    public ResponseEntity<List<ChatMessage>> getChatMessages(
+            @PathVariable String roomId,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(meetingService.getChatMessages(roomId, offset, limit));
     }
 
     @GetMapping("/{roomId}/offer")
@@ -52,6 +56,17 @@ public class MeetingController {
         return ResponseEntity.ok(meetingService.getCandidates(roomId));
     }
 
+    /**
+     * 현재 사용자에게 온 시그널을 보낸 참가자별로 조회합니다.
+     * 늦게 들어온 참가자가 기존 참가자들과 연결을 맺을 때 사용합니다.
+     * @param roomId 회의실 ID
+     * @return 보낸 참가자별 offer/answer/candidate
+     */
+    @GetMapping("/{roomId}/signals")
+    public ResponseEntity<List<PeerSignal>> getPendingSignals(@PathVariable String roomId) {
+        return ResponseEntity.ok(meetingService.getPendingSignals(roomId, SecurityUtils.getUserId()));
+    }
+
     /**
      * 새로운 회의실을 생성합니다.
      * @param hostId 호스트 ID
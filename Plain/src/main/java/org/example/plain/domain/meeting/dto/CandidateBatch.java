@@ -0,0 +1,19 @@
+package org.example.plain.domain.meeting.dto;
+
+import java.util.List;
+
+/**
+ * 한 참가자가 짧은 시간 안에 보낸 ICE candidate 묶음
+ * 수신자에게는 type=candidates 프레임 하나로 전달된다.
+ */
+public record CandidateBatch(
+        String type,
+        String roomId,
+        String senderId,
+        String to,
+        List<String> candidates
+) {
+    public static CandidateBatch of(String roomId, String senderId, String to, List<String> candidates) {
+        return new CandidateBatch("candidates", roomId, senderId, to, List.copyOf(candidates));
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.plain.domain.meeting.dto;
+
+/**
+ * 회의실 참가자에게 브로드캐스트하는 채팅 메시지
+ */
+public record MeetingChatBroadcast(
+        String type,
+        String userId,
+        String userName,
+        String content
+) {
+    public static MeetingChatBroadcast of(String userId, String userName, String content) {
+        return new MeetingChatBroadcast("chat", userId, userName, content);
+    }
+}
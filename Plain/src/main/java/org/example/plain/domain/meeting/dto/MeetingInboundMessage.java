@@ -0,0 +1,29 @@
+package org.example.plain.domain.meeting.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 클라이언트가 회의실 WebSocket으로 보내는 메시지
+ * type에 따라 사용하는 필드가 다르다. (offer/answer/candidate: data, to, chat: content, state: isMuted/isVideoOff)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MeetingInboundMessage(
+        String type,
+        String data,
+        @JsonAlias("targetUserId") String to,
+        String content,
+        @JsonProperty("isMuted") boolean isMuted,
+        @JsonProperty("isVideoOff") boolean isVideoOff
+) {
+    public SignalMessage toSignal(String roomId, String senderId) {
+        return SignalMessage.builder()
+                .type(type)
+                .roomId(roomId)
+                .senderId(senderId)
+                .to(to)
+                .data(data)
+                .build();
+    }
+}
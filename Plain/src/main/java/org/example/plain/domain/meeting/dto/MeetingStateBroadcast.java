@@ -0,0 +1,17 @@
+package org.example.plain.domain.meeting.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 회의실 참가자에게 브로드캐스트하는 음소거/비디오 상태 변경
+ */
+public record MeetingStateBroadcast(
+        String type,
+        String userId,
+        @JsonProperty("isMuted") boolean isMuted,
+        @JsonProperty("isVideoOff") boolean isVideoOff
+) {
+    public static MeetingStateBroadcast of(String userId, boolean isMuted, boolean isVideoOff) {
+        return new MeetingStateBroadcast("state", userId, isMuted, isVideoOff);
+    }
+}
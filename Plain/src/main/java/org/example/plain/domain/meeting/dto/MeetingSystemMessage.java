@@ -0,0 +1,13 @@
+package org.example.plain.domain.meeting.dto;
+
+/**
+ * 입장/퇴장 등 서버가 회의실에 보내는 시스템 메시지
+ */
+public record MeetingSystemMessage(
+        String type,
+        String message
+) {
+    public static MeetingSystemMessage of(String message) {
+        return new MeetingSystemMessage("system", message);
+    }
+}
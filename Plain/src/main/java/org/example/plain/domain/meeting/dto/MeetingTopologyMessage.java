@@ -0,0 +1,15 @@
+package org.example.plain.domain.meeting.dto;
+
+/**
+ * 입장한 참가자에게 보내는 미디어 연결 방식 안내
+ * peerId 가 있으면 클라이언트는 다른 참가자 대신 peerId 와 협상한다.
+ */
+public record MeetingTopologyMessage(
+        String type,
+        String mode,
+        String peerId
+) {
+    public static MeetingTopologyMessage of(String mode, String peerId) {
+        return new MeetingTopologyMessage("topology", mode, peerId);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.plain.domain.meeting.dto;
+
+import java.util.List;
+
+/**
+ * 한 참가자(from)가 나에게 보낸 아직 만료되지 않은 시그널
+ * 늦게 들어온 참가자가 연결을 맺는 데 필요한 만큼만 담는다. (offer/answer 는 없으면 null)
+ */
+public record PeerSignal(
+        String from,
+        String offer,
+        String answer,
+        List<String> candidates
+) {
+}
@@ -10,5 +10,10 @@ public class SignalMessage {
     private String type; // offer, answer, candidate
     private String roomId;
     private String senderId;
+    private String to; // 받을 참가자 ID (없으면 보낸 사람을 뺀 회의실 전체)
     private String data; // SDP 또는 ICE candidate 데이터
+
+    public SignalMessage(String type, String roomId, String senderId, String data) {
+        this(type, roomId, senderId, null, data);
+    }
 } 
\ No newline at end of file
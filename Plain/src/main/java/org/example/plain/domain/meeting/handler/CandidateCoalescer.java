@@ -0,0 +1,216 @@
+package org.example.plain.domain.meeting.handler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.plain.common.concurrent.DaemonThreadFactory;
+import org.example.plain.common.concurrent.KeyedSerialExecutor;
+import org.example.plain.common.metrics.MetricsSource;
+import org.example.plain.domain.meeting.dto.CandidateBatch;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * ICE candidate 를 (회의실, 보낸 사람, 받는 사람)별로 잠깐 모아 한 번에 내보낸다.
+ * 첫 candidate 가 들어오고 window-ms 가 지나거나 max-batch 개가 모이면 묶음을 sink 로 넘기고,
+ * sink 는 묶음마다 Redis 쓰기 한 번과 프레임 하나를 만든다.
+ * window-ms 가 0 이면 모으지 않고 candidate 마다 바로 내보낸다.
+ * sink 는 항상 emit 스레드에서 쌍마다 넣은 순서대로 실행된다. 호출한 스레드와 타이머 스레드는 묶음을 떼어 내 큐에 넣기만 한다.
+ */
+@Slf4j
+@Component
+public class CandidateCoalescer implements MetricsSource {
+    private final long windowMillis;
+    private final int maxBatch;
+    private final ScheduledExecutorService timer;
+    private final KeyedSerialExecutor emitters;
+    private final Map<BatchKey, Pending> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder candidates = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder sizeFlushes = new LongAdder();
+
+    public CandidateCoalescer(
+            @Value("${meeting.signaling.coalesce.window-ms:20}") long windowMillis,
+            @Value("${meeting.signaling.coalesce.max-batch:16}") int maxBatch,
+            @Value("${meeting.signaling.coalesce.emit-threads:4}") int emitThreads) {
+        this.windowMillis = windowMillis;
+        this.maxBatch = maxBatch;
+        this.emitters = new KeyedSerialExecutor("meeting-candidate-emit", emitThreads, 10_000);
+        this.timer = Executors.newSingleThreadScheduledExecutor(DaemonThreadFactory.named("meeting-candidate-coalescer"));
+    }
+
+    /**
+     * candidate 를 묶음에 추가합니다.
+     * @param sink 묶음을 저장/전송하는 함수. 같은 묶음의 첫 candidate 와 함께 넘긴 sink 가 emit 스레드에서 호출됩니다.
+     */
+    public void submit(String roomId, String senderId, String to, String candidate, Consumer<CandidateBatch> sink) {
+        candidates.increment();
+        BatchKey key = new BatchKey(roomId, senderId, to);
+        if (windowMillis <= 0) {
+            enqueue(key, CandidateBatch.of(roomId, senderId, to, List.of(candidate)), sink, null);
+            return;
+        }
+
+        // 떼어 내기와 큐에 넣기를 같은 compute 안에서 해야 flushPair 와 순서가 뒤바뀌지 않는다 (sink 는 여기서 부르지 않는다)
+        pending.compute(key, (k, current) -> {
+            Pending target = current;
+            if (target == null) {
+                target = new Pending(sink);
+                Pending scheduled = target;
+                target.timer = timer.schedule(() -> flush(k, scheduled), windowMillis, TimeUnit.MILLISECONDS);
+            }
+            target.candidates.add(candidate);
+            if (target.candidates.size() >= maxBatch) {
+                target.timer.cancel(false);
+                sizeFlushes.increment();
+                enqueue(k, target, null);
+                return null;
+            }
+            return target;
+        });
+    }
+
+    /**
+     * 보낸 사람 -> 받는 사람 쌍에 모아 둔 candidate 를 내보낸 뒤 next 를 실행합니다.
+     * 새 offer/answer 를 next 로 넘겨, 이전 협상의 candidate 가 뒤늦게 도착하지 않게 합니다.
+     * next 는 이 쌍의 앞선 묶음이 모두 전달된 뒤 emit 스레드에서 실행되므로 호출한 스레드는 기다리지 않습니다.
+     */
+    public void flushPair(String roomId, String senderId, String to, Runnable next) {
+        BatchKey key = new BatchKey(roomId, senderId, to);
+        pending.compute(key, (k, current) -> {
+            if (current == null) {
+                enqueue(k, null, null, next);
+            } else {
+                current.timer.cancel(false);
+                enqueue(k, current, next);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 타이머 스레드에서 호출된다. 아직 대기 중인 묶음이면 떼어 내 emit 스레드에 넘긴다.
+     */
+    private void flush(BatchKey key, Pending batch) {
+        pending.computeIfPresent(key, (k, current) -> {
+            if (current != batch) {
+                return current;
+            }
+            enqueue(k, batch, null);
+            return null;
+        });
+    }
+
+    private void enqueue(BatchKey key, Pending batch, Runnable next) {
+        enqueue(key, CandidateBatch.of(key.roomId(), key.senderId(), key.to(), batch.candidates), batch.sink, next);
+    }
+
+    /**
+     * 묶음 전달(과 이어서 실행할 작업)을 쌍의 emit 큐에 넣습니다.
+     * 큐가 가득 차면 묶음은 버리고, next 는 순서를 지킬 수 없더라도 호출한 스레드에서 실행합니다. (타이머 스레드는 next 를 넘기지 않는다)
+     */
+    private void enqueue(BatchKey key, CandidateBatch batch, Consumer<CandidateBatch> sink, Runnable next) {
+        Runnable task = () -> {
+            if (batch != null) {
+                emit(batch, sink);
+            }
+            if (next != null) {
+                runNext(key, next);
+            }
+        };
+        if (!emitters.execute(key.toString(), task)) {
+            log.warn("Candidate emit queue is full, dropping batch - roomId: {}, from: {}, size: {}",
+                    key.roomId(), key.senderId(), batch == null ? 0 : batch.candidates().size());
+            if (next != null) {
+                runNext(key, next);
+            }
+        }
+    }
+
+    private void runNext(BatchKey key, Runnable next) {
+        try {
+            next.run();
+        } catch (RuntimeException e) {
+            log.warn("Failed to relay signal after candidates - roomId: {}, from: {}: {}",
+                    key.roomId(), key.senderId(), e.getMessage());
+        }
+    }
+
+    private void emit(CandidateBatch batch, Consumer<CandidateBatch> sink) {
+        batches.increment();
+        try {
+            sink.accept(batch);
+        } catch (RuntimeException e) {
+            log.warn("Failed to deliver candidate batch - roomId: {}, from: {}, size: {}: {}",
+                    batch.roomId(), batch.senderId(), batch.candidates().size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public CoalescerMetrics getMetrics() {
+        long received = candidates.sum();
+        long emitted = batches.sum();
+        return new CoalescerMetrics(received, emitted, received - emitted - pendingCandidates(), sizeFlushes.sum(), pending.size());
+    }
+
+    private long pendingCandidates() {
+        long count = 0;
+        for (Pending batch : pending.values()) {
+            count += batch.candidates.size();
+        }
+        return count;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        // 남은 묶음을 넘긴 뒤 emit 스레드가 큐를 비우고 끝나게 한다
+        for (BatchKey key : List.copyOf(pending.keySet())) {
+            pending.computeIfPresent(key, (k, batch) -> {
+                enqueue(k, batch, null);
+                return null;
+            });
+        }
+        emitters.shutdown();
+    }
+
+    private record BatchKey(String roomId, String senderId, String to) {
+    }
+
+    private static final class Pending {
+        private final List<String> candidates = new ArrayList<>();
+        private final Consumer<CandidateBatch> sink;
+        private ScheduledFuture<?> timer;
+
+        private Pending(Consumer<CandidateBatch> sink) {
+            this.sink = sink;
+        }
+    }
+
+    /**
+     * @param candidates 받은 candidate 수
+     * @param frames 내보낸 묶음(프레임) 수
+     * @param framesSaved 묶어서 줄인 프레임 수 (candidates - frames - 대기 중인 candidate)
+     * @param sizeFlushes max-batch 에 도달해 내보낸 묶음 수
+     * @param pendingBatches 대기 중인 묶음 수
+     */
+    public record CoalescerMetrics(
+            long candidates,
+            long frames,
+            long framesSaved,
+            long sizeFlushes,
+            int pendingBatches
+    ) {
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.plain.domain.meeting.handler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.plain.domain.meeting.dto.CandidateBatch;
+import org.example.plain.domain.meeting.dto.SignalMessage;
+import org.example.plain.domain.meeting.service.MediaForwarder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 참가자가 미디어 포워더와만 연결하는 방식 (meeting.topology.mode=forwarding)
+ * 참가자의 시그널은 다른 참가자에게 보내지 않고 포워더로 보내며, 포워더의 answer/candidate 는 해당 참가자에게만 보낸다.
+ * 참가자마다 연결이 하나뿐이라 강의처럼 참가자가 많은 회의에 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "meeting.topology.mode", havingValue = "forwarding")
+public class ForwardingTopology implements MeetingTopology {
+    /** 포워더가 보내는 시그널의 senderId */
+    public static final String FORWARDER_ID = "forwarder";
+
+    private final MediaForwarder forwarder;
+
+    @Override
+    public String mode() {
+        return "forwarding";
+    }
+
+    @Override
+    public String negotiationPeerId() {
+        return FORWARDER_ID;
+    }
+
+    @Override
+    public void onJoin(String roomId, String userId, SignalRelay relay) {
+        forwarder.open(roomId, userId, signal -> relay.send(userId, fromForwarder(roomId, userId, signal)));
+    }
+
+    @Override
+    public void onSignal(SignalMessage signal, SignalRelay relay) {
+        String roomId = signal.getRoomId();
+        String userId = signal.getSenderId();
+        switch (signal.getType()) {
+            case "offer" -> {
+                String answer = forwarder.offer(roomId, userId, signal.getData());
+                relay.send(userId, new SignalMessage("answer", roomId, FORWARDER_ID, userId, answer));
+            }
+            case "answer" -> forwarder.answer(roomId, userId, signal.getData());
+            default -> log.debug("Ignoring signal type for forwarder: {}", signal.getType());
+        }
+    }
+
+    @Override
+    public void onCandidates(CandidateBatch batch, SignalRelay relay) {
+        forwarder.addCandidates(batch.roomId(), batch.senderId(), batch.candidates());
+    }
+
+    @Override
+    public void onLeave(String roomId, String userId) {
+        forwarder.close(roomId, userId);
+    }
+
+    private static SignalMessage fromForwarder(String roomId, String userId, SignalMessage signal) {
+        return new SignalMessage(signal.getType(), roomId, FORWARDER_ID, userId, signal.getData());
+    }
+}
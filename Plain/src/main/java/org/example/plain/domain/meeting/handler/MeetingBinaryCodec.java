@@ -0,0 +1,211 @@
+package org.example.plain.domain.meeting.handler;
+
+import org.example.plain.domain.meeting.dto.CandidateBatch;
+import org.example.plain.domain.meeting.dto.MeetingChatBroadcast;
+import org.example.plain.domain.meeting.dto.MeetingInboundMessage;
+import org.example.plain.domain.meeting.dto.MeetingStateBroadcast;
+import org.example.plain.domain.meeting.dto.MeetingSystemMessage;
+import org.example.plain.domain.meeting.dto.MeetingTopologyMessage;
+import org.example.plain.domain.meeting.dto.SignalMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회의 WebSocket 바이너리 프레임 코덱 (서브프로토콜 plain.meeting.v1.binary)
+ * [version:1byte][type:1byte][flags:1byte][first][second][body][items...]
+ * 문자열은 (UTF-8 길이 + 1)을 varint 로 쓰고 바이트를 이어 쓴다. 0은 null 이다.
+ * items 는 candidates 프레임에만 있으며 개수를 varint 로 쓰고 문자열을 이어 쓴다.
+ * 타입별 필드: state(first=userId, flags=음소거/비디오꺼짐), offer/answer/candidate(first=보낸 사람, second=받는 사람, body=데이터),
+ * candidates(first=보낸 사람, second=받는 사람, items=candidate), chat(first=userId, second=userName, body=내용),
+ * system(body=메시지), topology(first=모드, second=협상 상대)
+ * 회의실 ID 는 연결에 묶여 있으므로 싣지 않는다. 클라이언트가 보내는 프레임은 보낸 사람 필드를 비워 둔다.
+ */
+public final class MeetingBinaryCodec {
+    private static final byte VERSION = 1;
+    private static final String[] TYPES = {
+            "state", "offer", "answer", "candidate", "candidates", "chat", "system", "topology"
+    };
+    private static final int TYPE_CANDIDATES = 4;
+
+    public static final int FLAG_MUTED = 1;
+    public static final int FLAG_VIDEO_OFF = 1 << 1;
+
+    private MeetingBinaryCodec() {
+    }
+
+    /**
+     * 서버가 보내는 메시지를 프레임으로 만듭니다.
+     * @throws IllegalArgumentException 바이너리로 보낼 수 없는 메시지
+     */
+    public static byte[] encode(Object message) {
+        if (message instanceof MeetingStateBroadcast state) {
+            return encode("state", flags(state.isMuted(), state.isVideoOff()), state.userId(), null, null, null);
+        }
+        if (message instanceof SignalMessage signal) {
+            return encode(signal.getType(), 0, signal.getSenderId(), signal.getTo(), signal.getData(), null);
+        }
+        if (message instanceof CandidateBatch batch) {
+            return encode(batch.type(), 0, batch.senderId(), batch.to(), null, batch.candidates());
+        }
+        if (message instanceof MeetingChatBroadcast chat) {
+            return encode(chat.type(), 0, chat.userId(), chat.userName(), chat.content(), null);
+        }
+        if (message instanceof MeetingSystemMessage system) {
+            return encode(system.type(), 0, null, null, system.message(), null);
+        }
+        if (message instanceof MeetingTopologyMessage topology) {
+            return encode(topology.type(), 0, topology.mode(), topology.peerId(), null, null);
+        }
+        throw new IllegalArgumentException("Unsupported binary message: " + message.getClass().getSimpleName());
+    }
+
+    /**
+     * 클라이언트가 보내는 메시지를 프레임으로 만듭니다. (테스트와 벤치마크의 클라이언트 쪽에서 사용)
+     */
+    public static byte[] encodeInbound(MeetingInboundMessage message) {
+        String body = "chat".equals(message.type()) ? message.content() : message.data();
+        return encode(message.type(), flags(message.isMuted(), message.isVideoOff()), null, message.to(), body, null);
+    }
+
+    /**
+     * 클라이언트가 보낸 프레임을 읽습니다.
+     */
+    public static MeetingInboundMessage decodeInbound(byte[] bytes) {
+        Frame frame = decode(bytes);
+        boolean chat = "chat".equals(frame.type());
+        return new MeetingInboundMessage(frame.type(), chat ? null : frame.body(), frame.second(),
+                chat ? frame.body() : null, frame.isMuted(), frame.isVideoOff());
+    }
+
+    public static Frame decode(byte[] bytes) {
+        if (bytes.length < 3 || bytes[0] != VERSION) {
+            throw new IllegalArgumentException("Unsupported meeting frame version");
+        }
+        int typeIndex = bytes[1];
+        if (typeIndex < 0 || typeIndex >= TYPES.length) {
+            throw new IllegalArgumentException("Unknown meeting frame type: " + typeIndex);
+        }
+        try {
+            Reader reader = new Reader(bytes, 3);
+            String first = reader.readString();
+            String second = reader.readString();
+            String body = reader.readString();
+            List<String> items = List.of();
+            if (typeIndex == TYPE_CANDIDATES) {
+                int count = (int) reader.readVarLong();
+                List<String> values = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    values.add(reader.readString());
+                }
+                items = List.copyOf(values);
+            }
+            return new Frame(TYPES[typeIndex], bytes[2], first, second, body, items);
+        } catch (IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated meeting frame", e);
+        }
+    }
+
+    private static byte[] encode(String type, int flags, String first, String second, String body, List<String> items) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 + (body != null ? body.length() * 3 : 0));
+        out.write(VERSION);
+        out.write(typeIndex(type));
+        out.write(flags);
+        writeString(out, first);
+        writeString(out, second);
+        writeString(out, body);
+        if (items != null) {
+            writeVarLong(out, items.size());
+            for (String item : items) {
+                writeString(out, item);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static int typeIndex(String type) {
+        for (int i = 0; i < TYPES.length; i++) {
+            if (TYPES[i].equals(type)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown meeting frame type: " + type);
+    }
+
+    private static int flags(boolean muted, boolean videoOff) {
+        return (muted ? FLAG_MUTED : 0) | (videoOff ? FLAG_VIDEO_OFF : 0);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * 읽은 프레임. 필드의 의미는 type 에 따라 다르다. (클래스 설명 참고)
+     */
+    public record Frame(
+            String type,
+            int flags,
+            String first,
+            String second,
+            String body,
+            List<String> items
+    ) {
+        public boolean isMuted() {
+            return (flags & FLAG_MUTED) != 0;
+        }
+
+        public boolean isVideoOff() {
+            return (flags & FLAG_VIDEO_OFF) != 0;
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buffer;
+        private int position;
+
+        private Reader(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            while (true) {
+                byte b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+                shift += 7;
+            }
+        }
+
+        private String readString() {
+            int length = (int) readVarLong();
+            if (length == 0) {
+                return null;
+            }
+            String value = new String(buffer, position, length - 1, StandardCharsets.UTF_8);
+            position += length - 1;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.plain.domain.meeting.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.plain.common.websocket.BroadcastFrame;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 회의실 참가자에게 보내는 프레임
+ * JSON 과 바이너리 형식을 각각 처음 필요할 때 한 번만 인코딩하고, 세션이 협상한 서브프로토콜에 맞는 형식을 돌려준다.
+ * 바이너리 바이트는 공유하지만 BinaryMessage 의 ByteBuffer 는 전송 중 위치가 바뀌므로 세션마다 새로 감싼다.
+ */
+final class MeetingOutboundFrame {
+    private final ObjectMapper objectMapper;
+    private final Object payload;
+    private volatile TextMessage text;
+    private volatile byte[] binary;
+
+    private MeetingOutboundFrame(ObjectMapper objectMapper, Object payload, TextMessage text) {
+        this.objectMapper = objectMapper;
+        this.payload = payload;
+        this.text = text;
+    }
+
+    static MeetingOutboundFrame of(ObjectMapper objectMapper, Object payload) {
+        return new MeetingOutboundFrame(objectMapper, payload, null);
+    }
+
+    /**
+     * 이미 받은 텍스트 메시지를 그대로 보낸다. 바이너리 세션에도 텍스트로 전달된다.
+     */
+    static MeetingOutboundFrame ofText(TextMessage message) {
+        return new MeetingOutboundFrame(null, null, message);
+    }
+
+    WebSocketMessage<?> messageFor(WebSocketSession session) {
+        if (payload != null && MeetingWebSocketHandler.BINARY_PROTOCOL.equals(session.getAcceptedProtocol())) {
+            return new BinaryMessage(binary());
+        }
+        return text();
+    }
+
+    private byte[] binary() {
+        byte[] current = binary;
+        if (current == null) {
+            current = MeetingBinaryCodec.encode(payload);
+            binary = current;
+        }
+        return current;
+    }
+
+    private TextMessage text() {
+        TextMessage current = text;
+        if (current == null) {
+            try {
+                current = BroadcastFrame.of(objectMapper, payload).message();
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+            text = current;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.plain.domain.meeting.handler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.plain.common.concurrent.DaemonThreadFactory;
+import org.example.plain.common.metrics.MetricsSource;
+import org.example.plain.domain.meeting.service.MeetingService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 마지막 세션이 나간 뒤 grace 기간 동안 아무도 다시 들어오지 않은 회의실을 종료한다.
+ * 종료는 입장/퇴장과 같은 회의실별 순서로 실행하고, 그 사이 누군가 들어왔거나 다른 노드에 참가자가 남아 있으면 건너뛴다.
+ * 종료하면 closeMeetingRoom 이 채팅/시그널링/참가자 데이터를 함께 지운다.
+ */
+@Slf4j
+@Component
+public class MeetingRoomReaper implements MetricsSource {
+    private final MeetingService meetingService;
+    private final ParticipantLifecycleExecutor lifecycleExecutor;
+    private final long graceNanos;
+    private final ScheduledExecutorService scheduler;
+    /** 비어 있는 회의실 -> 비게 된 시각(nanoTime) */
+    private final Map<String, Long> emptySince = new ConcurrentHashMap<>();
+
+    private final LongAdder reaped = new LongAdder();
+
+    public MeetingRoomReaper(
+            MeetingService meetingService,
+            ParticipantLifecycleExecutor lifecycleExecutor,
+            @Value("${meeting.reaper.empty-grace-seconds:300}") long graceSeconds,
+            @Value("${meeting.reaper.interval-seconds:30}") long intervalSeconds) {
+        this.meetingService = meetingService;
+        this.lifecycleExecutor = lifecycleExecutor;
+        this.graceNanos = TimeUnit.SECONDS.toNanos(graceSeconds);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(DaemonThreadFactory.named("meeting-room-reaper"));
+        if (intervalSeconds > 0) {
+            scheduler.scheduleWithFixedDelay(this::reapQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 이 노드에서 회의실의 마지막 세션이 나갔음을 기록합니다.
+     */
+    public void markEmpty(String roomId) {
+        emptySince.putIfAbsent(roomId, System.nanoTime());
+    }
+
+    /**
+     * 회의실에 세션이 들어왔음을 기록합니다. 예정된 종료는 취소됩니다.
+     */
+    public void markOccupied(String roomId) {
+        emptySince.remove(roomId);
+    }
+
+    /**
+     * grace 기간이 지난 빈 회의실의 종료 작업을 제출합니다.
+     * @return 제출한 회의실 수
+     */
+    public int reap() {
+        long now = System.nanoTime();
+        int submitted = 0;
+        for (Map.Entry<String, Long> entry : emptySince.entrySet()) {
+            if (now - entry.getValue() < graceNanos) {
+                continue;
+            }
+            String roomId = entry.getKey();
+            Long since = entry.getValue();
+            submitted++;
+            lifecycleExecutor.submit(roomId, () -> closeIfStillEmpty(roomId, since))
+                    .exceptionally(error -> {
+                        log.warn("Failed to close idle meeting room {}: {}", roomId, error.getMessage());
+                        return null;
+                    });
+        }
+        return submitted;
+    }
+
+    private void closeIfStillEmpty(String roomId, Long since) {
+        // 그 사이 입장했으면 markOccupied 가 항목을 지웠으므로 여기서 실패한다
+        if (!emptySince.remove(roomId, since)) {
+            return;
+        }
+        if (!meetingService.isRoomEmpty(roomId)) {
+            return;
+        }
+        meetingService.closeMeetingRoom(roomId);
+        reaped.increment();
+        log.info("Closed idle meeting room {}", roomId);
+    }
+
+    private void reapQuietly() {
+        try {
+            reap();
+        } catch (RuntimeException e) {
+            log.warn("Meeting room reaper failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public ReaperMetrics getMetrics() {
+        return new ReaperMetrics(emptySince.size(), reaped.sum());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * @param emptyRooms 종료를 기다리는 빈 회의실 수
+     * @param reaped 종료한 회의실 수
+     */
+    public record ReaperMetrics(
+            int emptyRooms,
+            long reaped
+    ) {
+    }
+}
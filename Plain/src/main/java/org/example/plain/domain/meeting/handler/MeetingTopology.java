@@ -0,0 +1,32 @@
+package org.example.plain.domain.meeting.handler;
+
+import org.example.plain.domain.meeting.dto.CandidateBatch;
+import org.example.plain.domain.meeting.dto.SignalMessage;
+
+/**
+ * 회의실 미디어 연결 방식 (meeting.topology.mode)
+ * mesh 는 참가자끼리 직접 연결하도록 시그널을 상대 참가자에게 전달하고,
+ * forwarding 은 모든 참가자가 미디어 포워더 하나와만 연결하도록 시그널을 포워더로 보낸다.
+ */
+public interface MeetingTopology {
+    /**
+     * @return 클라이언트에게 알려 줄 모드 이름
+     */
+    String mode();
+
+    /**
+     * 클라이언트가 협상할 상대 ID (mesh 는 각 참가자이므로 null)
+     */
+    String negotiationPeerId();
+
+    void onJoin(String roomId, String userId, SignalRelay relay);
+
+    /**
+     * offer/answer 를 처리합니다.
+     */
+    void onSignal(SignalMessage signal, SignalRelay relay);
+
+    void onCandidates(CandidateBatch batch, SignalRelay relay);
+
+    void onLeave(String roomId, String userId);
+}
@@ -1,40 +1,52 @@
 package org.example.plain.domain.meeting.handler;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.plain.common.config.SecurityUtils;
+import org.example.plain.common.websocket.OutboundMessageDispatcher;
+import org.example.plain.common.websocket.RoomSessionRegistry;
+import org.example.plain.common.websocket.WebSocketHeartbeat;
 import org.example.plain.domain.meeting.dto.ChatMessage;
+import org.example.plain.domain.meeting.dto.MeetingChatBroadcast;
+import org.example.plain.domain.meeting.dto.MeetingInboundMessage;
+import org.example.plain.domain.meeting.dto.MeetingStateBroadcast;
+import org.example.plain.domain.meeting.dto.MeetingSystemMessage;
+import org.example.plain.domain.meeting.dto.MeetingTopologyMessage;
 import org.example.plain.domain.meeting.dto.ParticipantState;
 import org.example.plain.domain.meeting.dto.SignalMessage;
 import org.example.plain.domain.meeting.service.MeetingService;
-import org.example.plain.domain.meeting.service.SignalingService;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PongMessage;
+import org.springframework.web.socket.SubProtocolCapable;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
-import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class MeetingWebSocketHandler extends TextWebSocketHandler {
+public class MeetingWebSocketHandler extends AbstractWebSocketHandler implements SubProtocolCapable {
+    /** 이 서브프로토콜을 협상한 세션은 JSON 대신 MeetingBinaryCodec 프레임을 주고받는다 */
+    public static final String BINARY_PROTOCOL = "plain.meeting.v1.binary";
+
     private final MeetingService meetingService;
-    private final SignalingService signalingService;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final MeetingTopology topology;
     private final ObjectMapper objectMapper;
-    private final Map<String, Set<WebSocketSession>> roomSessions = new ConcurrentHashMap<>();
+    private final OutboundMessageDispatcher outboundDispatcher;
+    private final CandidateCoalescer candidateCoalescer;
+    private final ParticipantLifecycleExecutor lifecycleExecutor;
+    private final WebSocketHeartbeat heartbeat;
+    private final MeetingRoomReaper roomReaper;
+    private final RoomSessionRegistry sessionRegistry = new RoomSessionRegistry();
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
@@ -42,43 +54,80 @@ public class MeetingWebSocketHandler extends TextWebSocketHandler {
         String username = (String) session.getAttributes().get("username");
         String roomId = extractRoomId(session);
         
-        // 방에 세션 추가
-        roomSessions.computeIfAbsent(roomId, k -> new CopyOnWriteArraySet<>()).add(session);
+        // 방에 세션 추가 (방 브로드캐스트에 보이기 전에 송신 큐부터 만든다)
+        outboundDispatcher.register(session);
+        sessionRegistry.register(roomId, userId, session);
+        heartbeat.track(session);
+        roomReaper.markOccupied(roomId);
         
         log.info("WebSocket connection established - roomId: {}, userId: {}, username: {}", 
                 roomId, userId, username);
         
+        // 입장 처리는 별도 스레드에서 회의실별 순서대로 실행해 WebSocket 스레드를 막지 않는다
+        lifecycleExecutor.submit(roomId, () -> completeJoin(session, roomId, userId, username))
+                .exceptionally(error -> {
+                    log.warn("Failed to join room {} - userId: {}: {}", roomId, userId, error.getMessage());
+                    closeQuietly(session, CloseStatus.SERVER_ERROR);
+                    return null;
+                });
+    }
+
+    private void completeJoin(WebSocketSession session, String roomId, String userId, String username) {
         meetingService.handleParticipantJoin(roomId, userId, username);
-        
-        // 입장 메시지 전송
-        Map<String, String> message = Map.of(
-            "type", "system",
-            "message", username + "님이 입장하셨습니다."
-        );
-        broadcastToRoom(roomId, new TextMessage(objectMapper.writeValueAsString(message)));
+
+        // 누구와 협상해야 하는지 입장한 참가자에게 알린다
+        MeetingOutboundFrame topologyFrame = MeetingOutboundFrame.of(objectMapper,
+                MeetingTopologyMessage.of(topology.mode(), topology.negotiationPeerId()));
+        outboundDispatcher.send(session, topologyFrame.messageFor(session));
+        topology.onJoin(roomId, userId, relayFor(session, roomId, userId));
+
+        // 참가자 상태가 반영된 뒤에 입장 메시지를 보낸다
+        broadcastToRoom(roomId, MeetingSystemMessage.of(username + "님이 입장하셨습니다."));
     }
 
     @Override
     public void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         String userId = (String) session.getAttributes().get("userId");
         String username = (String) session.getAttributes().get("username");
-        String roomId = extractRoomId(session);
+        String roomId = sessionRegistry.roomOf(session);
+        heartbeat.touch(session);
         
         log.info("Received message from roomId: {}, userId: {}, username: {}, message: {}", 
                 roomId, userId, username, message.getPayload());
         
-        Map<String, Object> payload = objectMapper.readValue(message.getPayload(), Map.class);
-        String type = (String) payload.get("type");
+        MeetingInboundMessage payload = objectMapper.readValue(message.getPayload(), MeetingInboundMessage.class);
+        dispatch(session, roomId, userId, username, payload, message);
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
+        String userId = (String) session.getAttributes().get("userId");
+        String username = (String) session.getAttributes().get("username");
+        String roomId = sessionRegistry.roomOf(session);
+        heartbeat.touch(session);
+
+        ByteBuffer buffer = message.getPayload();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        dispatch(session, roomId, userId, username, MeetingBinaryCodec.decodeInbound(bytes), null);
+    }
+
+    /**
+     * @param raw 받은 텍스트 메시지 (알 수 없는 타입을 그대로 에코할 때 사용, 바이너리면 null)
+     */
+    private void dispatch(WebSocketSession session, String roomId, String userId, String username,
+                          MeetingInboundMessage payload, TextMessage raw) throws Exception {
+        String type = payload.type() != null ? payload.type() : "";
         
         switch (type) {
             case "offer":
-                handleOfferSignal(roomId, payload);
+                handleOfferSignal(session, roomId, userId, payload);
                 break;
             case "answer":
-                handleAnswerSignal(roomId, payload);
+                handleAnswerSignal(session, roomId, userId, payload);
                 break;
             case "candidate":
-                handleCandidateSignal(roomId, payload);
+                handleCandidateSignal(session, roomId, userId, payload);
                 break;
             case "chat":
                 handleChatMessage(roomId, userId, username, payload);
@@ -87,8 +136,10 @@ public class MeetingWebSocketHandler extends TextWebSocketHandler {
                 handleStateChange(roomId, userId, username, payload);
                 break;
             default:
-                // 알 수 없는 메시지 타입은 에코
-                broadcastToRoom(roomId, message);
+                // 알 수 없는 메시지 타입은 에코 (바이너리 코덱에는 알 수 없는 타입이 없다)
+                if (raw != null) {
+                    broadcastToRoom(roomId, MeetingOutboundFrame.ofText(raw));
+                }
         }
     }
 
@@ -96,28 +147,55 @@ public class MeetingWebSocketHandler extends TextWebSocketHandler {
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
         String userId = (String) session.getAttributes().get("userId");
         String username = (String) session.getAttributes().get("username");
-        String roomId = extractRoomId(session);
         
         // 방에서 세션 제거
-        Set<WebSocketSession> sessions = roomSessions.get(roomId);
-        if (sessions != null) {
-            sessions.remove(session);
-            if (sessions.isEmpty()) {
-                roomSessions.remove(roomId);
-            }
+        String roomId = sessionRegistry.unregister(session);
+        if (roomId == null) {
+            roomId = extractRoomId(session);
         }
+        outboundDispatcher.unregister(session);
+        heartbeat.untrack(session);
         
         log.info("WebSocket connection closed - roomId: {}, userId: {}, username: {}, status: {}", 
                 roomId, userId, username, status);
         
+        String leftRoomId = roomId;
+        lifecycleExecutor.submit(roomId, () -> completeLeave(leftRoomId, userId, username))
+                .exceptionally(error -> {
+                    log.warn("Failed to leave room {} - userId: {}: {}", leftRoomId, userId, error.getMessage());
+                    return null;
+                });
+    }
+
+    private void completeLeave(String roomId, String userId, String username) {
+        topology.onLeave(roomId, userId);
         meetingService.handleParticipantLeave(roomId, userId);
-        
+
         // 퇴장 메시지 전송
-        Map<String, String> message = Map.of(
-            "type", "system",
-            "message", username + "님이 퇴장하셨습니다."
-        );
-        broadcastToRoom(roomId, new TextMessage(objectMapper.writeValueAsString(message)));
+        broadcastToRoom(roomId, MeetingSystemMessage.of(username + "님이 퇴장하셨습니다."));
+
+        // 이 노드의 마지막 세션이면 grace 기간 뒤 회의실을 정리한다
+        if (sessionRegistry.sessions(roomId).isEmpty()) {
+            roomReaper.markEmpty(roomId);
+        }
+    }
+
+    @Override
+    public List<String> getSubProtocols() {
+        return List.of(BINARY_PROTOCOL);
+    }
+
+    @Override
+    protected void handlePongMessage(WebSocketSession session, PongMessage message) {
+        heartbeat.touch(session);
+    }
+
+    private static void closeQuietly(WebSocketSession session, CloseStatus status) {
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.debug("Failed to close session {}: {}", session.getId(), e.getMessage());
+        }
     }
 
     private String extractRoomId(WebSocketSession session) {
@@ -125,63 +203,61 @@ public class MeetingWebSocketHandler extends TextWebSocketHandler {
         return path.substring(path.lastIndexOf('/') + 1);
     }
 
-    private synchronized void broadcastToRoom(String roomId, TextMessage message) throws Exception {
-        Set<WebSocketSession> sessions = roomSessions.get(roomId);
-        if (sessions != null) {
-            for (WebSocketSession session : sessions) {
-                if (session.isOpen()) {
-                    try {
-                        session.sendMessage(message);
-                    } catch (IOException e) {
-                        log.error("Failed to send message to session: {}", e.getMessage());
-                    }
-                }
+    private void broadcastToRoom(String roomId, Object message) {
+        broadcastToRoom(roomId, MeetingOutboundFrame.of(objectMapper, message));
+    }
+
+    private void broadcastToRoom(String roomId, MeetingOutboundFrame frame) {
+        // 형식마다 직렬화는 한 번만 하고 같은 형식의 수신자는 같은 메시지를 공유한다
+        sessionRegistry.broadcast(roomId, session -> outboundDispatcher.send(session, frame.messageFor(session)));
+    }
+
+    /**
+     * 토폴로지가 시그널을 보낼 때 쓰는 relay 를 만든다.
+     * 시그널은 to 로 지정한 참가자의 세션에만 보내고, to 가 없는 이전 클라이언트의 시그널은 보낸 사람을 뺀 회의실 전체에 보낸다.
+     */
+    private SignalRelay relayFor(WebSocketSession session, String roomId, String senderId) {
+        return (to, signal) -> {
+            MeetingOutboundFrame frame = MeetingOutboundFrame.of(objectMapper, signal);
+            if (to == null) {
+                sessionRegistry.broadcast(roomId, session, target -> outboundDispatcher.send(target, frame.messageFor(target)));
+                return;
             }
-        }
+            int delivered = sessionRegistry.sendTo(roomId, to, target -> outboundDispatcher.send(target, frame.messageFor(target)));
+            if (delivered == 0) {
+                log.debug("Signal target not connected - roomId: {}, from: {}, to: {}", roomId, senderId, to);
+            }
+        };
     }
 
-    private void handleOfferSignal(String roomId, Map<String, Object> payload) throws Exception {
-        String offerSdp = (String) payload.get("data");
-        redisTemplate.opsForValue().set("meeting:room:" + roomId + ":offer", offerSdp);
-        broadcastToRoom(roomId,new TextMessage(objectMapper.writeValueAsString(payload)));
+    private void handleOfferSignal(WebSocketSession session, String roomId, String userId, MeetingInboundMessage payload) throws Exception {
+        relayDescription(session, roomId, userId, payload);
     }
 
-    private void handleAnswerSignal(String roomId, Map<String, Object> payload) throws Exception {
-        String answerSdp = (String) payload.get("data");
-        redisTemplate.opsForValue().set("meeting:room:" + roomId + ":answer", answerSdp);
-        broadcastToRoom(roomId,new TextMessage(objectMapper.writeValueAsString(payload)));
+    private void handleAnswerSignal(WebSocketSession session, String roomId, String userId, MeetingInboundMessage payload) throws Exception {
+        relayDescription(session, roomId, userId, payload);
     }
 
-    private void handleCandidateSignal(String roomId, Map<String, Object> payload) throws Exception {
-        String candidate = (String) payload.get("data");
-        redisTemplate.opsForList().rightPush("meeting:room:" + roomId + ":candidates", candidate);
-        broadcastToRoom(roomId,new TextMessage(objectMapper.writeValueAsString(payload)));
+    private void relayDescription(WebSocketSession session, String roomId, String userId, MeetingInboundMessage payload) throws Exception {
+        // 이전 협상에서 모아 둔 candidate 가 새 offer/answer 뒤에 도착하지 않도록 같은 emit 순서에 이어서 보낸다
+        SignalMessage signal = payload.toSignal(roomId, userId);
+        SignalRelay relay = relayFor(session, roomId, userId);
+        candidateCoalescer.flushPair(roomId, userId, payload.to(), () -> topology.onSignal(signal, relay));
     }
 
-    private void handleChatMessage(String roomId, String userId, String username, Map<String, Object> payload) throws Exception {
-        String content = (String) payload.get("content");
-        
+    private void handleCandidateSignal(WebSocketSession session, String roomId, String userId, MeetingInboundMessage payload) {
+        // candidate 는 잠깐 모아서 묶음 하나로 처리한다
+        candidateCoalescer.submit(roomId, userId, payload.to(), payload.data(),
+                batch -> topology.onCandidates(batch, relayFor(session, roomId, userId)));
+    }
+
+    private void handleChatMessage(String roomId, String userId, String username, MeetingInboundMessage payload) throws Exception {
         // 채팅 메시지를 모든 참가자에게 브로드캐스트
-        Map<String, Object> chatMessage = Map.of(
-            "type", "chat",
-            "userId", userId,
-            "userName", username,
-            "content", content
-        );
-        broadcastToRoom(roomId, new TextMessage(objectMapper.writeValueAsString(chatMessage)));
-    }
-
-    private void handleStateChange(String roomId, String userId, String username, Map<String, Object> payload) throws Exception {
-        boolean isMuted = (boolean) payload.get("isMuted");
-        boolean isVideoOff = (boolean) payload.get("isVideoOff");
-        
+        broadcastToRoom(roomId, MeetingChatBroadcast.of(userId, username, payload.content()));
+    }
+
+    private void handleStateChange(String roomId, String userId, String username, MeetingInboundMessage payload) throws Exception {
         // 상태 변경을 모든 참가자에게 브로드캐스트
-        Map<String, Object> stateMessage = Map.of(
-            "type", "state",
-            "userId", userId,
-            "isMuted", isMuted,
-            "isVideoOff", isVideoOff
-        );
-        broadcastToRoom(roomId, new TextMessage(objectMapper.writeValueAsString(stateMessage)));
-    }
-} 
\ No newline at end of file
+        broadcastToRoom(roomId, MeetingStateBroadcast.of(userId, payload.isMuted(), payload.isVideoOff()));
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.plain.domain.meeting.handler;
+
+import lombok.RequiredArgsConstructor;
+import org.example.plain.domain.meeting.dto.CandidateBatch;
+import org.example.plain.domain.meeting.dto.SignalMessage;
+import org.example.plain.domain.meeting.service.SignalingService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 참가자끼리 직접 연결하는 방식 (meeting.topology.mode=mesh, 기본값)
+ * 시그널을 저장한 뒤 to 로 지정한 참가자에게 그대로 전달한다.
+ * 참가자 수만큼 연결이 늘어나므로 소규모 회의에 적합하다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "meeting.topology.mode", havingValue = "mesh", matchIfMissing = true)
+public class MeshTopology implements MeetingTopology {
+    private final SignalingService signalingService;
+
+    @Override
+    public String mode() {
+        return "mesh";
+    }
+
+    @Override
+    public String negotiationPeerId() {
+        return null;
+    }
+
+    @Override
+    public void onJoin(String roomId, String userId, SignalRelay relay) {
+    }
+
+    @Override
+    public void onSignal(SignalMessage signal, SignalRelay relay) {
+        signalingService.handleSignal(signal);
+        relay.send(signal.getTo(), signal);
+    }
+
+    @Override
+    public void onCandidates(CandidateBatch batch, SignalRelay relay) {
+        signalingService.handleCandidates(batch);
+        // 하나뿐이면 기존 candidate 프레임으로 보낸다
+        Object frame = batch.candidates().size() == 1
+                ? new SignalMessage("candidate", batch.roomId(), batch.senderId(), batch.to(), batch.candidates().get(0))
+                : batch;
+        relay.send(batch.to(), frame);
+    }
+
+    @Override
+    public void onLeave(String roomId, String userId) {
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.plain.domain.meeting.handler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.plain.common.concurrent.DaemonThreadFactory;
+import org.example.plain.common.metrics.MetricsSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 참가자 입장/퇴장 처리를 WebSocket 스레드 밖에서 실행한다.
+ * 스레드 풀은 모든 회의실이 함께 쓰지만, 같은 회의실의 작업은 제출한 순서대로 하나씩 실행된다.
+ * 회의실마다 마지막 작업만 기억하고 새 작업을 그 뒤에 이어 붙이므로, 작업이 없는 회의실은 자원을 차지하지 않는다.
+ */
+@Slf4j
+@Component
+public class ParticipantLifecycleExecutor implements MetricsSource {
+    private final ThreadPoolExecutor workers;
+    private final Map<String, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public ParticipantLifecycleExecutor(@Value("${meeting.lifecycle.threads:8}") int threads) {
+        this.workers = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                DaemonThreadFactory.numbered("meeting-lifecycle"));
+        this.workers.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 회의실의 앞선 작업이 끝난 뒤 task 를 실행합니다. 앞선 작업이 실패해도 다음 작업은 실행됩니다.
+     * @return task 가 끝나면 완료되는 future (task 가 던진 예외로 실패)
+     */
+    public CompletableFuture<Void> submit(String roomId, Runnable task) {
+        submitted.increment();
+        CompletableFuture<Void> next = tails.compute(roomId, (id, tail) -> tail == null
+                ? CompletableFuture.runAsync(task, workers)
+                : tail.handle((result, error) -> null).thenRunAsync(task, workers));
+        next.whenComplete((result, error) -> {
+            if (error != null) {
+                failed.increment();
+            } else {
+                completed.increment();
+            }
+            // 그 사이 새 작업이 붙지 않았으면 회의실 항목을 지운다
+            tails.remove(roomId, next);
+        });
+        return next;
+    }
+
+    @Override
+    public LifecycleMetrics getMetrics() {
+        return new LifecycleMetrics(submitted.sum(), completed.sum(), failed.sum(), tails.size(), workers.getQueue().size());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * @param submitted 제출된 작업 수
+     * @param completed 정상 종료한 작업 수
+     * @param failed 예외로 끝난 작업 수
+     * @param busyRooms 실행 중이거나 대기 중인 작업이 있는 회의실 수
+     * @param queued 스레드를 기다리는 작업 수
+     */
+    public record LifecycleMetrics(
+            long submitted,
+            long completed,
+            long failed,
+            int busyRooms,
+            int queued
+    ) {
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.plain.domain.meeting.handler;
+
+/**
+ * 토폴로지가 시그널 프레임을 클라이언트에게 보낼 때 사용하는 통로
+ * 핸들러가 시그널을 보낸 세션 기준으로 만들어 넘긴다.
+ */
+@FunctionalInterface
+public interface SignalRelay {
+    /**
+     * @param to 받을 참가자 ID (null 이면 보낸 사람을 뺀 회의실 전체)
+     * @param frame JSON 으로 직렬화할 프레임
+     */
+    void send(String to, Object frame);
+}
@@ -0,0 +1,523 @@
+package org.example.plain.domain.meeting.repository;
+
+import org.example.plain.common.metrics.LatencyHistogram;
+import org.example.plain.common.metrics.MetricsSource;
+import org.example.plain.domain.meeting.dto.MeetingRoomDto;
+import org.example.plain.domain.meeting.dto.PeerSignal;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 회의 Redis 명령 모음
+ * 회의실 생성/입장/퇴장/종료 같은 생명주기 이벤트가 Redis 왕복 한 번으로 끝나도록
+ * 여러 키에 걸친 명령은 파이프라인이나 Lua 스크립트로 묶는다. 명령 종류마다 지연 시간 히스토그램을 남긴다.
+ * 키는 모두 meeting:room:{roomId} 아래에 있다.
+ * 스크립트가 건드리는 키는 모두 KEYS 로 넘긴다. 색인/inbox 에 든 키는 먼저 SMEMBERS 로 읽어 함께 넘기고,
+ * 그 사이 추가된 키는 색인에 남아 다음 정리나 TTL 로 사라진다.
+ */
+@Component
+public class MeetingRedisCommands implements MetricsSource {
+    private static final String KEY_PREFIX = "meeting:room:";
+
+    /**
+     * 회의실을 닫힘 상태로 바꾸고 채팅 기록과 시그널링 데이터를 함께 지운다.
+     * KEYS: 회의실, 채팅, offer, answer, candidates, 시그널링 색인, 색인에 든 키... / 반환: 회의실이 있었으면 1
+     * 빈 배열은 cjson 이 {} 로 바꾸므로 null 로 저장한다.
+     */
+    private static final RedisScript<Long> CLOSE_ROOM_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('GET', KEYS[1])
+            if value then
+                local room = cjson.decode(value)
+                room['active'] = false
+                room['status'] = 'CLOSED'
+                if type(room['participants']) == 'table' and next(room['participants']) == nil then
+                    room['participants'] = cjson.null
+                end
+                redis.call('SET', KEYS[1], cjson.encode(room))
+            end
+            redis.call('DEL', KEYS[2], KEYS[3], KEYS[4], KEYS[5])
+            for i = 7, #KEYS do
+                redis.call('DEL', KEYS[i])
+                redis.call('SREM', KEYS[6], KEYS[i])
+            end
+            if value then return 1 end
+            return 0
+            """, Long.class);
+
+    /**
+     * 회의실 단위(이전 방식) 시그널을 저장한다. candidate 는 여러 개를 한 번에 추가하고 최근 N개만 남긴다.
+     * KEYS: 대상 키, 시그널링 색인 / ARGV: type, ttl(ms), 최대 candidate 수, data...
+     */
+    private static final RedisScript<Long> SAVE_ROOM_SIGNAL_SCRIPT = new DefaultRedisScript<>("""
+            if ARGV[1] == 'candidate' then
+                redis.call('RPUSH', KEYS[1], unpack(ARGV, 4))
+                redis.call('LTRIM', KEYS[1], -tonumber(ARGV[3]), -1)
+            else
+                redis.call('SET', KEYS[1], ARGV[4])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            redis.call('SADD', KEYS[2], KEYS[1])
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * 참가자 쌍(from -> to) 시그널을 저장하고 받는 사람의 inbox 에 보낸 사람을 기록한다.
+     * 새 offer/answer 는 새 협상의 시작이므로 같은 쌍의 이전 candidate 를 버린다.
+     * KEYS: 대상 키, 같은 쌍의 candidates, 시그널링 색인, 받는 사람 inbox
+     * ARGV: type, ttl(ms), 최대 candidate 수, 보낸 사람 ID, data...
+     */
+    private static final RedisScript<Long> SAVE_PEER_SIGNAL_SCRIPT = new DefaultRedisScript<>("""
+            if ARGV[1] == 'candidate' then
+                redis.call('RPUSH', KEYS[1], unpack(ARGV, 5))
+                redis.call('LTRIM', KEYS[1], -tonumber(ARGV[3]), -1)
+            else
+                redis.call('DEL', KEYS[2])
+                redis.call('SET', KEYS[1], ARGV[5])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            redis.call('SADD', KEYS[4], ARGV[4])
+            redis.call('PEXPIRE', KEYS[4], ARGV[2])
+            redis.call('SADD', KEYS[3], KEYS[1], KEYS[4])
+            redis.call('PEXPIRE', KEYS[3], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * 받는 사람 앞으로 남은 시그널을 보낸 사람별로 읽는다. 모두 만료된 보낸 사람은 inbox 에서 뺀다.
+     * KEYS: 받는 사람 inbox, 보낸 사람마다 offer, answer, candidates / ARGV: 보낸 사람 ID...
+     * 반환: {보낸 사람, offer, answer, {candidates}} 목록 (없는 값은 빈 문자열)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_INBOX_SCRIPT = new DefaultRedisScript<>("""
+            local result = {}
+            for i, from in ipairs(ARGV) do
+                local base = (i - 1) * 3 + 1
+                local offer = redis.call('GET', KEYS[base + 1])
+                local answer = redis.call('GET', KEYS[base + 2])
+                local candidates = redis.call('LRANGE', KEYS[base + 3], 0, -1)
+                if offer or answer or #candidates > 0 then
+                    table.insert(result, {from, offer or '', answer or '', candidates})
+                else
+                    redis.call('SREM', KEYS[1], from)
+                end
+            end
+            return result
+            """, List.class);
+
+    /**
+     * 색인에 있는 시그널링 키를 모두 지운다.
+     * KEYS: offer, answer, candidates (이전 방식), 시그널링 색인, 색인에 든 키... / 반환: 지운 색인 키 수
+     */
+    private static final RedisScript<Long> CLEAR_SIGNALING_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1], KEYS[2], KEYS[3])
+            for i = 5, #KEYS do
+                redis.call('DEL', KEYS[i])
+                redis.call('SREM', KEYS[4], KEYS[i])
+            end
+            return #KEYS - 4
+            """, Long.class);
+
+    /**
+     * 회의실이 없으면 시그널링 키를 모두 지우고, 있으면 만료된 키만 색인에서 뺀다.
+     * 마지막 키가 빠지면 색인도 사라진다.
+     * KEYS: 시그널링 색인, 회의실, 색인에 든 키... / 반환: 정리한 키 수
+     */
+    private static final RedisScript<Long> SWEEP_SIGNALING_SCRIPT = new DefaultRedisScript<>("""
+            local roomGone = redis.call('EXISTS', KEYS[2]) == 0
+            local removed = 0
+            for i = 3, #KEYS do
+                if roomGone then
+                    removed = removed + redis.call('DEL', KEYS[i])
+                    redis.call('SREM', KEYS[1], KEYS[i])
+                elseif redis.call('EXISTS', KEYS[i]) == 0 then
+                    redis.call('SREM', KEYS[1], KEYS[i])
+                    removed = removed + 1
+                end
+            end
+            return removed
+            """, Long.class);
+
+    /**
+     * 참가자가 없을 때만 추가한다. 값은 Redis 서버 시각(마이크로초)으로 시작해 노드 간 시계 차이 없이 입장 순서를 정한다.
+     * KEYS: 참가자 해시 / ARGV: 참가자 ID, ttl(ms) / 반환: 새로 추가했으면 1
+     */
+    private static final RedisScript<Long> JOIN_SCRIPT = new DefaultRedisScript<>("""
+            local now = redis.call('TIME')
+            local joined = string.format('%.0f', now[1] * 1000000 + now[2])
+            local added = redis.call('HSETNX', KEYS[1], ARGV[1], joined)
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return added
+            """, Long.class);
+
+    /**
+     * 참가자를 제거하고 남은 참가자 수를 반환한다. 마지막 참가자가 나가면 해시도 사라진다.
+     * KEYS: 참가자 해시 / ARGV: 참가자 ID, ttl(ms)
+     */
+    private static final RedisScript<Long> LEAVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            local remaining = redis.call('HLEN', KEYS[1])
+            if remaining > 0 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return remaining
+            """, Long.class);
+
+    /**
+     * 이미 입장한 참가자의 상태만 바꾼다. 입장 시각은 그대로 둔다.
+     * KEYS: 참가자 해시 / ARGV: 참가자 ID, 상태, ttl(ms) / 반환: 참가자가 있었으면 1
+     */
+    private static final RedisScript<Long> UPDATE_STATE_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('HGET', KEYS[1], ARGV[1])
+            if not value then
+                return 0
+            end
+            local joined = string.match(value, '^[^|]*')
+            redis.call('HSET', KEYS[1], ARGV[1], joined .. '|' .. ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    public enum Operation {
+        SAVE_ROOM,
+        FIND_ROOM,
+        ROOM_EXISTS,
+        CLOSE_ROOM,
+        APPEND_CHAT,
+        READ_CHAT,
+        CLEAR_CHAT,
+        CLEAR_SIGNALING,
+        SAVE_SIGNAL,
+        READ_SIGNALS,
+        SWEEP_SIGNALING,
+        JOIN_PARTICIPANT,
+        LEAVE_PARTICIPANT,
+        UPDATE_PARTICIPANT,
+        READ_PARTICIPANTS,
+        CLEAR_PARTICIPANTS
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, MeetingRoomDto> roomTemplate;
+    private final Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+
+    public MeetingRedisCommands(
+            RedisTemplate<String, String> redisTemplate,
+            RedisTemplate<String, MeetingRoomDto> roomTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.roomTemplate = roomTemplate;
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+        }
+    }
+
+    public static String roomKey(String roomId) {
+        return KEY_PREFIX + roomId;
+    }
+
+    public static String chatKey(String roomId) {
+        return KEY_PREFIX + roomId + ":chat";
+    }
+
+    public static String offerKey(String roomId) {
+        return KEY_PREFIX + roomId + ":offer";
+    }
+
+    public static String answerKey(String roomId) {
+        return KEY_PREFIX + roomId + ":answer";
+    }
+
+    public static String candidatesKey(String roomId) {
+        return KEY_PREFIX + roomId + ":candidates";
+    }
+
+    /**
+     * 회의실의 시그널링 키 색인 (정리할 때 사용)
+     */
+    public static String signalIndexKey(String roomId) {
+        return KEY_PREFIX + roomId + ":signal-keys";
+    }
+
+    /**
+     * from 이 to 에게 보낸 시그널 키 (type: offer, answer, candidates)
+     */
+    public static String peerSignalKey(String roomId, String from, String to, String type) {
+        return peerSignalPrefix(roomId) + from + ":" + to + ":" + type;
+    }
+
+    private static String peerSignalPrefix(String roomId) {
+        return KEY_PREFIX + roomId + ":signal:";
+    }
+
+    /**
+     * to 에게 시그널을 보낸 참가자 ID 집합
+     */
+    public static String signalInboxKey(String roomId, String to) {
+        return KEY_PREFIX + roomId + ":signal-inbox:" + to;
+    }
+
+    public static String participantsKey(String roomId) {
+        return KEY_PREFIX + roomId + ":participants";
+    }
+
+    public void saveRoom(MeetingRoomDto room) {
+        timed(Operation.SAVE_ROOM, () -> {
+            roomTemplate.opsForValue().set(roomKey(room.getRoomId()), room);
+            return null;
+        });
+    }
+
+    public MeetingRoomDto findRoom(String roomId) {
+        return timed(Operation.FIND_ROOM, () -> roomTemplate.opsForValue().get(roomKey(roomId)));
+    }
+
+    /**
+     * 회의실 존재 여부만 확인합니다. 입장/퇴장처럼 회의실 내용이 필요 없는 곳에서 사용합니다.
+     */
+    public boolean roomExists(String roomId) {
+        return timed(Operation.ROOM_EXISTS, () -> Boolean.TRUE.equals(redisTemplate.hasKey(roomKey(roomId))));
+    }
+
+    /**
+     * 회의실을 닫고 채팅 기록과 시그널링 데이터를 한 번의 스크립트 실행으로 지웁니다.
+     * @return 회의실이 있었으면 true
+     */
+    public boolean closeRoom(String roomId) {
+        Long closed = timed(Operation.CLOSE_ROOM, () -> {
+            List<String> keys = new ArrayList<>(List.of(
+                    roomKey(roomId), chatKey(roomId), offerKey(roomId), answerKey(roomId), candidatesKey(roomId),
+                    signalIndexKey(roomId)));
+            keys.addAll(members(signalIndexKey(roomId)));
+            return redisTemplate.execute(CLOSE_ROOM_SCRIPT, keys);
+        });
+        return closed != null && closed == 1L;
+    }
+
+    /**
+     * 채팅 레코드를 추가하고 최근 maxMessages 개만 남깁니다. (RPUSH + LTRIM 파이프라인)
+     */
+    public void appendChat(String roomId, byte[] record, int maxMessages) {
+        byte[] key = bytes(chatKey(roomId));
+        timed(Operation.APPEND_CHAT, () -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.listCommands().rPush(key, record);
+            connection.listCommands().lTrim(key, -maxMessages, -1);
+            return null;
+        }));
+    }
+
+    public List<byte[]> readChat(String roomId, long start, long end) {
+        byte[] key = bytes(chatKey(roomId));
+        List<byte[]> records = timed(Operation.READ_CHAT, () -> redisTemplate.execute(
+                (RedisCallback<List<byte[]>>) connection -> connection.listCommands().lRange(key, start, end)));
+        return records != null ? records : List.of();
+    }
+
+    public void clearChat(String roomId) {
+        timed(Operation.CLEAR_CHAT, () -> redisTemplate.delete(chatKey(roomId)));
+    }
+
+    /**
+     * 회의실의 시그널링 데이터(이전 방식 키와 참가자 쌍 키)를 한 번에 지웁니다.
+     */
+    public void clearSignaling(String roomId) {
+        timed(Operation.CLEAR_SIGNALING, () -> {
+            List<String> keys = new ArrayList<>(List.of(
+                    offerKey(roomId), answerKey(roomId), candidatesKey(roomId), signalIndexKey(roomId)));
+            keys.addAll(members(signalIndexKey(roomId)));
+            return redisTemplate.execute(CLEAR_SIGNALING_SCRIPT, keys);
+        });
+    }
+
+    /**
+     * 시그널을 저장합니다. to 가 없으면 회의실 단위 키에, 있으면 참가자 쌍 키에 저장합니다.
+     * 모든 키는 ttl 후 만료되고 candidate 는 최근 maxCandidates 개만 남습니다.
+     * @param type offer, answer, candidate
+     * @param data offer/answer 는 SDP 하나, candidate 는 한 번에 추가할 candidate 목록
+     */
+    public void saveSignal(String roomId, String from, String to, String type, List<String> data,
+                           Duration ttl, int maxCandidates) {
+        String suffix = "candidate".equals(type) ? "candidates" : type;
+        List<Object> args = new ArrayList<>(data.size() + 4);
+        args.add(type);
+        args.add(String.valueOf(ttl.toMillis()));
+        args.add(String.valueOf(maxCandidates));
+        if (to == null) {
+            args.addAll(data);
+            String key = KEY_PREFIX + roomId + ":" + suffix;
+            timed(Operation.SAVE_SIGNAL, () -> redisTemplate.execute(SAVE_ROOM_SIGNAL_SCRIPT,
+                    List.of(key, signalIndexKey(roomId)), args.toArray()));
+            return;
+        }
+        args.add(from);
+        args.addAll(data);
+        List<String> keys = List.of(
+                peerSignalKey(roomId, from, to, suffix),
+                peerSignalKey(roomId, from, to, "candidates"),
+                signalIndexKey(roomId),
+                signalInboxKey(roomId, to));
+        timed(Operation.SAVE_SIGNAL, () -> redisTemplate.execute(SAVE_PEER_SIGNAL_SCRIPT, keys, args.toArray()));
+    }
+
+    /**
+     * to 에게 온 시그널을 보낸 사람별로 읽습니다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<PeerSignal> readSignalInbox(String roomId, String to) {
+        List<List<Object>> entries = timed(Operation.READ_SIGNALS, () -> {
+            List<String> senders = members(signalInboxKey(roomId, to));
+            if (senders.isEmpty()) {
+                return null;
+            }
+            List<String> keys = new ArrayList<>(senders.size() * 3 + 1);
+            keys.add(signalInboxKey(roomId, to));
+            for (String from : senders) {
+                keys.add(peerSignalKey(roomId, from, to, "offer"));
+                keys.add(peerSignalKey(roomId, from, to, "answer"));
+                keys.add(peerSignalKey(roomId, from, to, "candidates"));
+            }
+            return redisTemplate.execute(READ_INBOX_SCRIPT, keys, senders.toArray());
+        });
+        if (entries == null) {
+            return List.of();
+        }
+        List<PeerSignal> signals = new ArrayList<>(entries.size());
+        for (List<Object> entry : entries) {
+            signals.add(new PeerSignal(
+                    (String) entry.get(0),
+                    emptyToNull((String) entry.get(1)),
+                    emptyToNull((String) entry.get(2)),
+                    List.copyOf((List<String>) entry.get(3))));
+        }
+        return signals;
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 한 회의실의 시그널링 색인을 정리합니다. 회의실이 없어졌으면 시그널링 키를 모두 지웁니다.
+     * @return 정리한 키 수
+     */
+    public long sweepSignaling(String roomId) {
+        Long removed = timed(Operation.SWEEP_SIGNALING, () -> {
+            List<String> indexed = members(signalIndexKey(roomId));
+            if (indexed.isEmpty()) {
+                return 0L;
+            }
+            List<String> keys = new ArrayList<>(indexed.size() + 2);
+            keys.add(signalIndexKey(roomId));
+            keys.add(roomKey(roomId));
+            keys.addAll(indexed);
+            return redisTemplate.execute(SWEEP_SIGNALING_SCRIPT, keys);
+        });
+        return removed != null ? removed : 0;
+    }
+
+    /**
+     * 시그널링 색인이 있는 회의실 ID 를 SCAN 으로 찾습니다.
+     */
+    public List<String> scanSignalingRooms(int batchSize) {
+        String suffix = ":signal-keys";
+        List<String> roomIds = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*" + suffix).count(batchSize).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key ->
+                    roomIds.add(key.substring(KEY_PREFIX.length(), key.length() - suffix.length())));
+        }
+        return roomIds;
+    }
+
+    /**
+     * 참가자를 회의실 해시에 추가하고 회의실 TTL 을 갱신합니다.
+     * @return 새로 추가했으면 true (이미 있던 참가자면 false)
+     */
+    public boolean joinParticipant(String roomId, String userId, Duration idleTtl) {
+        Long added = timed(Operation.JOIN_PARTICIPANT, () -> redisTemplate.execute(
+                JOIN_SCRIPT, List.of(participantsKey(roomId)), userId, String.valueOf(idleTtl.toMillis())));
+        return added != null && added == 1L;
+    }
+
+    /**
+     * 참가자를 회의실 해시에서 제거합니다.
+     * @return 남은 참가자 수
+     */
+    public long leaveParticipant(String roomId, String userId, Duration idleTtl) {
+        Long remaining = timed(Operation.LEAVE_PARTICIPANT, () -> redisTemplate.execute(
+                LEAVE_SCRIPT, List.of(participantsKey(roomId)), userId, String.valueOf(idleTtl.toMillis())));
+        return remaining != null ? remaining : 0;
+    }
+
+    /**
+     * 입장한 참가자의 상태 값을 바꿉니다.
+     * @return 참가자가 있었으면 true
+     */
+    public boolean updateParticipant(String roomId, String userId, String state, Duration idleTtl) {
+        Long updated = timed(Operation.UPDATE_PARTICIPANT, () -> redisTemplate.execute(
+                UPDATE_STATE_SCRIPT, List.of(participantsKey(roomId)), userId, state, String.valueOf(idleTtl.toMillis())));
+        return updated != null && updated == 1L;
+    }
+
+    /**
+     * 회의실 참가자 해시 전체를 읽습니다. (참가자 ID -> 저장된 값)
+     */
+    public Map<String, String> readParticipants(String roomId) {
+        byte[] key = bytes(participantsKey(roomId));
+        Map<byte[], byte[]> entries = timed(Operation.READ_PARTICIPANTS, () -> redisTemplate.execute(
+                (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(key)));
+        if (entries == null) {
+            return Map.of();
+        }
+        Map<String, String> participants = new HashMap<>(entries.size());
+        entries.forEach((userId, value) -> participants.put(
+                new String(userId, StandardCharsets.UTF_8), new String(value, StandardCharsets.UTF_8)));
+        return participants;
+    }
+
+    public void clearParticipants(String roomId) {
+        timed(Operation.CLEAR_PARTICIPANTS, () -> redisTemplate.delete(participantsKey(roomId)));
+    }
+
+    private <T> T timed(Operation operation, Supplier<T> command) {
+        long start = System.nanoTime();
+        try {
+            return command.get();
+        } finally {
+            latencies.get(operation).record(System.nanoTime() - start);
+        }
+    }
+
+    private List<String> members(String key) {
+        Set<String> members = redisTemplate.opsForSet().members(key);
+        return members != null ? new ArrayList<>(members) : List.of();
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 명령 종류별 지연 시간 스냅샷을 반환합니다.
+     */
+    @Override
+    public Map<Operation, LatencyHistogram.Snapshot> getMetrics() {
+        Map<Operation, LatencyHistogram.Snapshot> snapshots = new EnumMap<>(Operation.class);
+        latencies.forEach((operation, histogram) -> snapshots.put(operation, histogram.snapshot()));
+        return snapshots;
+    }
+}
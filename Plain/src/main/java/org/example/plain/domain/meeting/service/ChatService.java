@@ -6,6 +6,13 @@ import java.util.List;
 
 public interface ChatService {
     void saveMessage(ChatMessage message);
-    List<ChatMessage> getMessages(String roomId);
+    /**
+     * 채팅 기록을 조회합니다.
+     * @param roomId 회의실 ID
+     * @param offset 건너뛸 최신 메시지 수
+     * @param limit 최대 조회 개수
+     * @return 오래된 순서의 메시지 목록
+     */
+    List<ChatMessage> getMessages(String roomId, int offset, int limit);
     void clearChatHistory(String roomId);
 } 
\ No newline at end of file
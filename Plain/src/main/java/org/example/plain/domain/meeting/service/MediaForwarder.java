@@ -0,0 +1,33 @@
+package org.example.plain.domain.meeting.service;
+
+import org.example.plain.domain.meeting.dto.SignalMessage;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 참가자의 미디어를 받아 다른 참가자에게 전달하는 미디어 포워더(SFU)와의 연동
+ * forwarding 모드에서 사용하며, 운영 환경에서는 사용하는 포워더에 맞는 구현을 빈으로 등록한다.
+ */
+public interface MediaForwarder {
+    /**
+     * 참가자를 포워더에 등록합니다.
+     * @param sink 포워더가 참가자에게 보내는 시그널(재협상 offer, candidate)을 전달할 함수
+     */
+    void open(String roomId, String userId, Consumer<SignalMessage> sink);
+
+    /**
+     * 참가자의 offer 를 전달합니다.
+     * @return 포워더의 answer SDP
+     */
+    String offer(String roomId, String userId, String sdp);
+
+    /**
+     * 포워더가 보낸 재협상 offer 에 대한 참가자의 answer 를 전달합니다.
+     */
+    void answer(String roomId, String userId, String sdp);
+
+    void addCandidates(String roomId, String userId, List<String> candidates);
+
+    void close(String roomId, String userId);
+}
@@ -3,6 +3,7 @@ package org.example.plain.domain.meeting.service;
 import org.example.plain.domain.meeting.dto.ChatMessage;
 import org.example.plain.domain.meeting.dto.MeetingRoomDto;
 import org.example.plain.domain.meeting.dto.ParticipantState;
+import org.example.plain.domain.meeting.dto.PeerSignal;
 import org.example.plain.domain.meeting.dto.SignalMessage;
 
 import java.util.List;
@@ -27,7 +28,7 @@ public interface MeetingService {
     void handleStateChange(String roomId, String userId, String userName, boolean isMuted, boolean isVideoOff);
     void handleChatMessage(ChatMessage message);
     List<ParticipantState> getParticipantStates(String roomId);
-    List<ChatMessage> getChatMessages(String roomId);
+    List<ChatMessage> getChatMessages(String roomId, int offset, int limit);
     boolean isRoomEmpty(String roomId);
     void clearRoom(String roomId);
     
@@ -42,6 +43,7 @@ public interface MeetingService {
     String getOffer(String roomId);
     String getAnswer(String roomId);
     List<String> getCandidates(String roomId);
+    List<PeerSignal> getPendingSignals(String roomId, String peerId);
 
     /**
      * 회의실 정보를 조회합니다.
@@ -1,11 +1,28 @@
 package org.example.plain.domain.meeting.service;
 
+import org.example.plain.domain.meeting.dto.CandidateBatch;
+import org.example.plain.domain.meeting.dto.PeerSignal;
 import org.example.plain.domain.meeting.dto.SignalMessage;
 
 import java.util.List;
 
 public interface SignalingService {
     void handleSignal(SignalMessage message);
+
+    /**
+     * 묶인 ICE candidate 를 한 번에 저장합니다.
+     * @param batch 같은 보낸 사람 -> 받는 사람의 candidate 묶음
+     */
+    void handleCandidates(CandidateBatch batch);
+
+    /**
+     * 참가자에게 온, 아직 만료되지 않은 시그널을 보낸 사람별로 반환합니다.
+     * @param roomId 회의실 ID
+     * @param peerId 받는 참가자 ID
+     * @return 보낸 사람별 시그널 목록
+     */
+    List<PeerSignal> getPendingSignals(String roomId, String peerId);
+
     String getOffer(String roomId);
     String getAnswer(String roomId);
     List<String> getCandidates(String roomId);
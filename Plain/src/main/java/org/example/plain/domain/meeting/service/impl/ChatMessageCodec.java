@@ -0,0 +1,112 @@
+package org.example.plain.domain.meeting.service.impl;
+
+import org.example.plain.domain.meeting.dto.ChatMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 회의 채팅 기록을 Redis 리스트에 저장하기 위한 바이너리 레코드 코덱
+ * [version:1byte][timestamp:varint epoch millis][type][senderId][senderName][message]
+ * 문자열은 (UTF-8 길이 + 1)을 varint 로 쓰고 바이트를 이어 쓴다. 0은 null 이다.
+ * roomId 는 키에 들어 있으므로 레코드에는 저장하지 않는다.
+ */
+public final class ChatMessageCodec {
+    private static final byte VERSION = 1;
+
+    private ChatMessageCodec() {
+    }
+
+    public static byte[] encode(ChatMessage message) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 + lengthHint(message));
+        out.write(VERSION);
+        LocalDateTime timestamp = message.getTimestamp();
+        writeVarLong(out, timestamp != null ? timestamp.toInstant(ZoneOffset.UTC).toEpochMilli() + 1 : 0);
+        writeString(out, message.getType());
+        writeString(out, message.getSenderId());
+        writeString(out, message.getSenderName());
+        writeString(out, message.getMessage());
+        return out.toByteArray();
+    }
+
+    /**
+     * 레코드를 메시지로 복원합니다.
+     * 이전 형식(ChatMessage.toString() 문자열)으로 저장된 항목은 내용 전체를 message 로 돌려줍니다.
+     */
+    public static ChatMessage decode(String roomId, byte[] record) {
+        if (record.length == 0 || record[0] != VERSION) {
+            return ChatMessage.builder()
+                    .type("chat")
+                    .roomId(roomId)
+                    .message(new String(record, StandardCharsets.UTF_8))
+                    .build();
+        }
+        Reader reader = new Reader(record);
+        long stamp = reader.readVarLong();
+        return ChatMessage.builder()
+                .roomId(roomId)
+                .timestamp(stamp == 0 ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(stamp - 1), ZoneOffset.UTC))
+                .type(reader.readString())
+                .senderId(reader.readString())
+                .senderName(reader.readString())
+                .message(reader.readString())
+                .build();
+    }
+
+    private static int lengthHint(ChatMessage message) {
+        return message.getMessage() != null ? message.getMessage().length() * 3 : 0;
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static final class Reader {
+        private final byte[] buffer;
+        private int position = 1;
+
+        private Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            while (true) {
+                byte b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+                shift += 7;
+            }
+        }
+
+        private String readString() {
+            int length = (int) readVarLong();
+            if (length == 0) {
+                return null;
+            }
+            String value = new String(buffer, position, length - 1, StandardCharsets.UTF_8);
+            position += length - 1;
+            return value;
+        }
+    }
+}
@@ -1,44 +1,51 @@
 package org.example.plain.domain.meeting.service.impl;
 
-import lombok.RequiredArgsConstructor;
 import org.example.plain.domain.meeting.dto.ChatMessage;
+import org.example.plain.domain.meeting.repository.MeetingRedisCommands;
 import org.example.plain.domain.meeting.service.ChatService;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * 회의 채팅 기록을 방마다 Redis 리스트 하나에 바이너리 레코드로 저장한다.
+ * 최근 history-size 개만 남기며, 저장(RPUSH + LTRIM)은 파이프라인 한 번으로 처리한다.
+ */
 @Service
-@RequiredArgsConstructor
 public class ChatServiceImpl implements ChatService {
-    private final RedisTemplate<String, String> redisTemplate;
-    private static final int MAX_CHAT_MESSAGES = 100;
+    private final MeetingRedisCommands redisCommands;
+    private final int maxChatMessages;
+
+    public ChatServiceImpl(
+            MeetingRedisCommands redisCommands,
+            @Value("${meeting.chat.history-size:100}") int maxChatMessages) {
+        this.redisCommands = redisCommands;
+        this.maxChatMessages = maxChatMessages;
+    }
 
     @Override
     public void saveMessage(ChatMessage message) {
-        String key = "meeting:room:" + message.getRoomId() + ":chat";
         message.setTimestamp(LocalDateTime.now());
-        redisTemplate.opsForList().rightPush(key, message.toString());
-        redisTemplate.opsForList().trim(key, 0, MAX_CHAT_MESSAGES - 1);
+        redisCommands.appendChat(message.getRoomId(), ChatMessageCodec.encode(message), maxChatMessages);
     }
 
     @Override
-    public List<ChatMessage> getMessages(String roomId) {
-        String key = "meeting:room:" + roomId + ":chat";
-        List<String> messages = redisTemplate.opsForList().range(key, 0, -1);
-        return messages.stream()
-                .map(msg -> ChatMessage.builder()
-                        .type("chat")
-                        .roomId(roomId)
-                        .message(msg)
-                        .build())
+    public List<ChatMessage> getMessages(String roomId, int offset, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        // offset 은 최신 메시지부터 센다. 결과는 오래된 순서로 반환한다.
+        long start = -((long) offset + limit);
+        long end = -((long) offset + 1);
+        return redisCommands.readChat(roomId, start, end).stream()
+                .map(record -> ChatMessageCodec.decode(roomId, record))
                 .toList();
     }
 
     @Override
     public void clearChatHistory(String roomId) {
-        String key = "meeting:room:" + roomId + ":chat";
-        redisTemplate.delete(key);
+        redisCommands.clearChat(roomId);
     }
-} 
\ No newline at end of file
+}
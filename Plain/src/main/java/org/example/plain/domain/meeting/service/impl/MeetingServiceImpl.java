@@ -3,13 +3,13 @@ package org.example.plain.domain.meeting.service.impl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.plain.domain.meeting.dto.*;
+import org.example.plain.domain.meeting.repository.MeetingRedisCommands;
 import org.example.plain.domain.meeting.service.ChatService;
 import org.example.plain.domain.meeting.service.MeetingService;
 import org.example.plain.domain.meeting.service.ParticipantService;
 import org.example.plain.domain.meeting.service.SignalingService;
 import org.example.plain.domain.user.entity.User;
 import org.example.plain.domain.user.repository.UserRepository;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,7 +24,7 @@ public class MeetingServiceImpl implements MeetingService {
     private final ChatService chatService;
     private final ParticipantService participantService;
     private final SignalingService signalingService;
-    private final RedisTemplate<String, MeetingRoomDto> redisTemplate;
+    private final MeetingRedisCommands redisCommands;
    
     private final UserRepository userRepository;
 
@@ -37,7 +37,7 @@ public class MeetingServiceImpl implements MeetingService {
         MeetingRoomDto meetingRoom = MeetingRoomDto.create(roomId, hostId, title);
         
         // Redis에 회의실 저장
-        redisTemplate.opsForValue().set("meeting:room:" + roomId, meetingRoom);
+        redisCommands.saveRoom(meetingRoom);
         
         // 호스트를 참여자로 추가
         participantService.addParticipant(roomId, hostId);
@@ -51,18 +51,8 @@ public class MeetingServiceImpl implements MeetingService {
     public void closeMeetingRoom(String roomId) {
         log.info("Closing meeting room: {}", roomId);
         
-        // 회의실 상태 업데이트
-        MeetingRoomDto meetingRoom = redisTemplate.opsForValue().get("meeting:room:" + roomId);
-        if (meetingRoom != null) {
-            meetingRoom.close();
-            redisTemplate.opsForValue().set("meeting:room:" + roomId, meetingRoom);
-        }
-        
-        // 채팅 기록 삭제
-        chatService.clearChatHistory(roomId);
-        
-        // 시그널링 데이터 삭제
-        signalingService.clearSignalingData(roomId);
+        // 회의실 상태 업데이트, 채팅 기록과 시그널링 데이터 삭제를 한 번에 처리
+        redisCommands.closeRoom(roomId);
         
         // 참가자 데이터 삭제
         participantService.removeAllParticipants(roomId);
@@ -72,11 +62,10 @@ public class MeetingServiceImpl implements MeetingService {
 
     @Override
     public void handleParticipantJoin(String roomId, String userId, String userName) {
-        log.info("User {} ({}) joining room {}", userId, userName, roomId);
+        log.debug("User {} ({}) joining room {}", userId, userName, roomId);
         
         // 회의실 존재 여부 확인
-        MeetingRoomDto meetingRoom = redisTemplate.opsForValue().get("meeting:room:" + roomId);
-        if (meetingRoom == null) {
+        if (!redisCommands.roomExists(roomId)) {
             log.warn("Cannot join room {}: Room not found", roomId);
             throw new RuntimeException("Meeting room not found");
         }
@@ -87,18 +76,15 @@ public class MeetingServiceImpl implements MeetingService {
         // 참가자 상태 초기화
         participantService.updateParticipantState(roomId, userId, userName, false, false);
 
-        log.info(participantService.getParticipants(roomId).toString());
-
         log.info("User {} successfully joined room {}", userId, roomId);
     }
 
     @Override
     public void handleParticipantLeave(String roomId, String userId) {
-        log.info("User {} leaving room {}", userId, roomId);
+        log.debug("User {} leaving room {}", userId, roomId);
         
         // 회의실 존재 여부 확인
-        MeetingRoomDto meetingRoom = redisTemplate.opsForValue().get("meeting:room:" + roomId);
-        if (meetingRoom == null) {
+        if (!redisCommands.roomExists(roomId)) {
             log.warn("Cannot leave room {}: Room not found", roomId);
             return; // 회의실이 없으면 그냥 리턴
         }
@@ -131,8 +117,8 @@ public class MeetingServiceImpl implements MeetingService {
     }
 
     @Override
-    public List<ChatMessage> getChatMessages(String roomId) {
-        return chatService.getMessages(roomId);
+    public List<ChatMessage> getChatMessages(String roomId, int offset, int limit) {
+        return chatService.getMessages(roomId, offset, limit);
     }
 
     @Override
@@ -167,7 +153,6 @@ public class MeetingServiceImpl implements MeetingService {
 
     @Override
     public List<String> getParticipants(String roomId) {
-        log.info("Meeting room: {}", participantService.getParticipants(roomId));
         return participantService.getParticipants(roomId);
     }
 
@@ -186,10 +171,15 @@ public class MeetingServiceImpl implements MeetingService {
         return signalingService.getCandidates(roomId);
     }
 
+    @Override
+    public List<PeerSignal> getPendingSignals(String roomId, String peerId) {
+        return signalingService.getPendingSignals(roomId, peerId);
+    }
+
     @Override
     public MeetingRoomDto getMeetingRoom(String roomId) {
         log.info("Getting meeting room info: {}", roomId);
-        MeetingRoomDto meetingRoom = redisTemplate.opsForValue().get("meeting:room:" + roomId);
+        MeetingRoomDto meetingRoom = redisCommands.findRoom(roomId);
         if (meetingRoom == null) {
             log.warn("Meeting room not found: {}", roomId);
             throw new RuntimeException("Meeting room not found");
@@ -1,77 +1,133 @@
 package org.example.plain.domain.meeting.service.impl;
 
-import lombok.RequiredArgsConstructor;
 import org.example.plain.domain.meeting.dto.ParticipantState;
 import org.example.plain.domain.meeting.service.ParticipantService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
+/**
+ * 참가자 상태를 이 노드의 메모리에만 두는 구현 (meeting.participants.store=local, 기본값)
+ * 여러 노드로 운영할 때는 RedisParticipantServiceImpl 을 사용한다.
+ * 회의실마다 Room 하나에 입장 순서대로 참가자와 상태를 두고, 입장/퇴장/상태 변경은 O(1)로 처리한다.
+ * 조회는 변경이 있을 때만 다시 만드는 불변 스냅샷을 반환한다.
+ */
 @Service
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "meeting.participants.store", havingValue = "local", matchIfMissing = true)
 public class ParticipantServiceImpl implements ParticipantService {
-    private final Map<String, LinkedHashSet<String>> roomParticipants = new ConcurrentHashMap<>();
-    private final Map<String, ParticipantState> participantStates = new ConcurrentHashMap<>();
+    private final Map<String, Room> rooms = new ConcurrentHashMap<>();
 
     @Override
     public void addParticipant(String roomId, String participantId) {
-        roomParticipants.computeIfAbsent(roomId, k -> new LinkedHashSet<>()).add(participantId);
+        // compute 로 처리해 마지막 참가자가 나가며 회의실이 지워지는 것과 겹치지 않게 한다
+        rooms.compute(roomId, (id, room) -> {
+            Room target = room != null ? room : new Room();
+            target.join(participantId);
+            return target;
+        });
     }
 
     @Override
     public void removeParticipant(String roomId, String participantId) {
-        LinkedHashSet<String> participants = roomParticipants.get(roomId);
-        if (participants != null) {
-            participants.remove(participantId);
-            if (participants.isEmpty()) {
-                roomParticipants.remove(roomId);
-            }
-        }
-        participantStates.remove(roomId + ":" + participantId);
+        rooms.computeIfPresent(roomId, (id, room) -> room.leave(participantId) ? null : room);
     }
 
     @Override
     public List<String> getParticipants(String roomId) {
-        return new ArrayList<>(roomParticipants.getOrDefault(roomId, new LinkedHashSet<>()));
+        Room room = rooms.get(roomId);
+        return room != null ? room.snapshot().participants() : List.of();
     }
 
     @Override
     public void updateParticipantState(String roomId, String userId, String userName, boolean isMuted, boolean isVideoOff) {
-        LinkedHashSet<String> participants = roomParticipants.get(roomId);
-        if (participants != null && participants.contains(userId)) {
-            ParticipantState state = ParticipantState.builder()
+        Room room = rooms.get(roomId);
+        if (room != null) {
+            room.updateState(userId, ParticipantState.builder()
                     .userId(userId)
                     .userName(userName)
                     .isMuted(isMuted)
                     .isVideoOff(isVideoOff)
-                    .build();
-            participantStates.put(roomId + ":" + userId, state);
+                    .build());
         }
     }
 
     @Override
     public List<ParticipantState> getParticipantStates(String roomId) {
-        return roomParticipants.getOrDefault(roomId, new LinkedHashSet<>()).stream()
-                .map(userId -> participantStates.get(roomId + ":" + userId))
-                .filter(state -> state != null)
-                .collect(Collectors.toList());
+        Room room = rooms.get(roomId);
+        return room != null ? room.snapshot().states() : List.of();
     }
 
     @Override
     public boolean isRoomEmpty(String roomId) {
-        LinkedHashSet<String> participants = roomParticipants.get(roomId);
-        return participants == null || participants.isEmpty();
+        return !rooms.containsKey(roomId);
     }
 
     @Override
     public void removeAllParticipants(String roomId) {
-        roomParticipants.remove(roomId);
-        participantStates.keySet().removeIf(key -> key.startsWith(roomId + ":"));
+        rooms.remove(roomId);
+    }
+
+    /**
+     * 한 회의실의 참가자 (참가자 ID -> 상태, 상태가 아직 없으면 null)
+     * 변경은 Room 에 대한 lock 안에서만 하고, 조회는 volatile 스냅샷을 읽는다.
+     */
+    private static final class Room {
+        private final LinkedHashMap<String, ParticipantState> participants = new LinkedHashMap<>();
+        private volatile Snapshot snapshot;
+
+        synchronized void join(String userId) {
+            if (!participants.containsKey(userId)) {
+                participants.put(userId, null);
+                snapshot = null;
+            }
+        }
+
+        /**
+         * @return 마지막 참가자가 나가 회의실이 비었으면 true
+         */
+        synchronized boolean leave(String userId) {
+            if (participants.containsKey(userId)) {
+                participants.remove(userId);
+                snapshot = null;
+            }
+            return participants.isEmpty();
+        }
+
+        synchronized void updateState(String userId, ParticipantState state) {
+            if (participants.containsKey(userId)) {
+                participants.put(userId, state);
+                snapshot = null;
+            }
+        }
+
+        Snapshot snapshot() {
+            Snapshot current = snapshot;
+            if (current != null) {
+                return current;
+            }
+            synchronized (this) {
+                if (snapshot == null) {
+                    List<ParticipantState> states = new ArrayList<>(participants.size());
+                    for (ParticipantState state : participants.values()) {
+                        if (state != null) {
+                            states.add(state);
+                        }
+                    }
+                    snapshot = new Snapshot(List.copyOf(participants.keySet()), List.copyOf(states));
+                }
+                return snapshot;
+            }
+        }
+    }
+
+    private record Snapshot(
+            List<String> participants,
+            List<ParticipantState> states
+    ) {
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,267 @@
+package org.example.plain.domain.meeting.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.plain.common.metrics.MetricsSource;
+import org.example.plain.domain.meeting.dto.ParticipantState;
+import org.example.plain.domain.meeting.repository.MeetingRedisCommands;
+import org.example.plain.domain.meeting.service.ParticipantService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 참가자 상태를 Redis 에 두는 구현 (meeting.participants.store=redis)
+ * 회의실마다 해시 하나(meeting:room:{roomId}:participants, 참가자 ID -> 입장 시각|상태)를 사용하고,
+ * 입장/퇴장/상태 변경은 Lua 스크립트로 원자적으로 처리한다. 변경이 없는 회의실은 idle-ttl 이 지나면 사라진다.
+ * 조회 결과는 노드마다 near-cache 에 두고, Redis keyspace 알림을 받으면 해당 회의실 캐시를 무효화한다.
+ * near-cache 를 쓰려면 Redis 서버의 notify-keyspace-events 에 Khgx(또는 KA) 가 설정되어 있어야 한다.
+ * 설정이 없으면 near-cache 없이 동작하며, meeting.participants.configure-keyspace-events=true 일 때만 직접 설정한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "meeting.participants.store", havingValue = "redis")
+public class RedisParticipantServiceImpl implements ParticipantService, MessageListener, MetricsSource {
+    private static final String KEYSPACE_PREFIX = "__keyspace@";
+    private static final String ROOM_KEY_PREFIX = MeetingRedisCommands.roomKey("");
+    private static final String PARTICIPANTS_KEY_SUFFIX = ":participants";
+    /** keyspace 알림에 필요한 플래그: K(keyspace), h(hash), g(DEL/EXPIRE), x(만료) */
+    private static final String REQUIRED_EVENT_FLAGS = "Khgx";
+
+    private final MeetingRedisCommands redisCommands;
+    private final Duration idleTtl;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    /** 회의실별 캐시 슬롯. 읽는 중인 회의실은 빈 슬롯을 두고, 무효화는 슬롯을 지운다. */
+    private final Map<String, Slot> nearCache = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public RedisParticipantServiceImpl(
+            MeetingRedisCommands redisCommands,
+            RedisConnectionFactory connectionFactory,
+            @Value("${meeting.participants.idle-ttl-seconds:3600}") long idleTtlSeconds,
+            @Value("${meeting.participants.near-cache:true}") boolean nearCacheEnabled,
+            @Value("${meeting.participants.configure-keyspace-events:false}") boolean configureKeyspaceEvents) {
+        this.redisCommands = redisCommands;
+        this.idleTtl = Duration.ofSeconds(idleTtlSeconds);
+
+        if (nearCacheEnabled && keyspaceEventsReady(connectionFactory, configureKeyspaceEvents)) {
+            listenerContainer = new RedisMessageListenerContainer();
+            listenerContainer.setConnectionFactory(connectionFactory);
+            // 무효화는 맵에서 지우기만 하므로 이벤트마다 스레드를 만들지 않고 구독 스레드에서 바로 처리한다
+            listenerContainer.setTaskExecutor(new SyncTaskExecutor());
+            listenerContainer.addMessageListener(this,
+                    new PatternTopic(KEYSPACE_PREFIX + "*__:" + ROOM_KEY_PREFIX + "*" + PARTICIPANTS_KEY_SUFFIX));
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+        } else {
+            listenerContainer = null;
+        }
+    }
+
+    /**
+     * 서버의 notify-keyspace-events 에 필요한 플래그가 있는지 시작 시점에 확인합니다.
+     * 공유 Redis 의 서버 설정은 운영에서 관리하므로, configure 가 켜져 있을 때만 빠진 플래그를 추가합니다.
+     * 플래그가 없으면 다른 노드의 변경을 알 수 없으므로 near-cache 를 끕니다.
+     */
+    private static boolean keyspaceEventsReady(RedisConnectionFactory connectionFactory, boolean configure) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            Properties config = connection.serverCommands().getConfig("notify-keyspace-events");
+            String current = config != null ? config.getProperty("notify-keyspace-events", "") : "";
+            StringBuilder missing = new StringBuilder();
+            for (char flag : REQUIRED_EVENT_FLAGS.toCharArray()) {
+                boolean coveredByAll = flag != 'K' && current.indexOf('A') >= 0;
+                if (current.indexOf(flag) < 0 && !coveredByAll) {
+                    missing.append(flag);
+                }
+            }
+            if (missing.isEmpty()) {
+                return true;
+            }
+            if (!configure) {
+                log.warn("Redis notify-keyspace-events='{}' lacks '{}', participant near-cache disabled. "
+                        + "Configure the server or set meeting.participants.configure-keyspace-events=true",
+                        current, missing);
+                return false;
+            }
+            connection.serverCommands().setConfig("notify-keyspace-events", current + missing);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Cannot check keyspace notifications, participant near-cache disabled: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void addParticipant(String roomId, String userId) {
+        redisCommands.joinParticipant(roomId, userId, idleTtl);
+        invalidate(roomId);
+    }
+
+    @Override
+    public void removeParticipant(String roomId, String userId) {
+        redisCommands.leaveParticipant(roomId, userId, idleTtl);
+        invalidate(roomId);
+    }
+
+    @Override
+    public void removeAllParticipants(String roomId) {
+        redisCommands.clearParticipants(roomId);
+        invalidate(roomId);
+    }
+
+    @Override
+    public void updateParticipantState(String roomId, String userId, String userName, boolean isMuted, boolean isVideoOff) {
+        String state = (isMuted ? "1" : "0") + (isVideoOff ? "1" : "0") + "|" + (userName != null ? userName : "");
+        if (redisCommands.updateParticipant(roomId, userId, state, idleTtl)) {
+            invalidate(roomId);
+        }
+    }
+
+    @Override
+    public List<ParticipantState> getParticipantStates(String roomId) {
+        return view(roomId).states();
+    }
+
+    @Override
+    public List<String> getParticipants(String roomId) {
+        return view(roomId).participants();
+    }
+
+    @Override
+    public boolean isRoomEmpty(String roomId) {
+        return view(roomId).participants().isEmpty();
+    }
+
+    private RoomView view(String roomId) {
+        if (listenerContainer == null) {
+            return read(roomId);
+        }
+        Slot cached = nearCache.get(roomId);
+        if (cached != null && cached.view != null) {
+            hits.increment();
+            return cached.view;
+        }
+        misses.increment();
+        Slot token = nearCache.computeIfAbsent(roomId, key -> new Slot(null));
+        if (token.view != null) {
+            return token.view;
+        }
+        RoomView loaded = read(roomId);
+        // 읽는 동안 이 회의실이 무효화되었다면 빈 슬롯이 지워졌으므로 채우지 않는다
+        nearCache.replace(roomId, token, new Slot(loaded));
+        return loaded;
+    }
+
+    private RoomView read(String roomId) {
+        List<Map.Entry<String, String>> entries = new ArrayList<>(redisCommands.readParticipants(roomId).entrySet());
+        entries.sort(Comparator.comparing((Map.Entry<String, String> entry) -> joinedAt(entry.getValue()))
+                .thenComparing(Map.Entry::getKey));
+
+        List<String> participants = new ArrayList<>(entries.size());
+        List<ParticipantState> states = new ArrayList<>(entries.size());
+        for (Map.Entry<String, String> entry : entries) {
+            participants.add(entry.getKey());
+            ParticipantState state = state(entry.getKey(), entry.getValue());
+            if (state != null) {
+                states.add(state);
+            }
+        }
+        return new RoomView(List.copyOf(participants), List.copyOf(states));
+    }
+
+    /**
+     * 저장된 값: 입장 시각 또는 "입장 시각|음소거 비디오꺼짐|이름"
+     */
+    private static long joinedAt(String value) {
+        int separator = value.indexOf('|');
+        return Long.parseLong(separator < 0 ? value : value.substring(0, separator));
+    }
+
+    private static ParticipantState state(String userId, String value) {
+        int separator = value.indexOf('|');
+        if (separator < 0) {
+            return null;
+        }
+        String flags = value.substring(separator + 1, separator + 3);
+        return ParticipantState.builder()
+                .userId(userId)
+                .userName(value.substring(separator + 4))
+                .isMuted(flags.charAt(0) == '1')
+                .isVideoOff(flags.charAt(1) == '1')
+                .build();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String key = channel.substring(channel.indexOf("__:") + 3);
+        if (key.startsWith(ROOM_KEY_PREFIX) && key.endsWith(PARTICIPANTS_KEY_SUFFIX)) {
+            invalidate(key.substring(ROOM_KEY_PREFIX.length(), key.length() - PARTICIPANTS_KEY_SUFFIX.length()));
+        }
+    }
+
+    private void invalidate(String roomId) {
+        Slot removed = nearCache.remove(roomId);
+        if (removed != null && removed.view != null) {
+            invalidations.increment();
+        }
+    }
+
+    @Override
+    public NearCacheMetrics getMetrics() {
+        return new NearCacheMetrics(hits.sum(), misses.sum(), invalidations.sum(), nearCache.size());
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    /**
+     * 같은 회의실이라도 슬롯마다 다른 객체로 비교해야 하므로 record 가 아닌 클래스로 둔다.
+     */
+    private static final class Slot {
+        private final RoomView view;
+
+        private Slot(RoomView view) {
+            this.view = view;
+        }
+    }
+
+    private record RoomView(
+            List<String> participants,
+            List<ParticipantState> states
+    ) {
+    }
+
+    public record NearCacheMetrics(
+            long hits,
+            long misses,
+            long invalidations,
+            int cachedRooms
+    ) {
+    }
+}
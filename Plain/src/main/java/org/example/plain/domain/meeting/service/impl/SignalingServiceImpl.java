@@ -1,58 +1,124 @@
 package org.example.plain.domain.meeting.service.impl;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.plain.common.concurrent.DaemonThreadFactory;
+import org.example.plain.domain.meeting.dto.CandidateBatch;
+import org.example.plain.domain.meeting.dto.PeerSignal;
 import org.example.plain.domain.meeting.dto.SignalMessage;
+import org.example.plain.domain.meeting.repository.MeetingRedisCommands;
 import org.example.plain.domain.meeting.service.SignalingService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 시그널링 데이터를 Redis 에 보관한다.
+ * to 가 있는 시그널은 참가자 쌍(from -> to)마다 따로 저장해 여러 참가자의 offer 가 서로 덮어쓰지 않게 하고,
+ * to 가 없는 시그널은 이전처럼 회의실 단위 키에 저장한다.
+ * 모든 키는 ttl 이 지나면 만료되고 candidate 는 최근 max-candidates 개만 남는다.
+ * 별도 스레드가 주기적으로 회의실이 사라진 시그널링 데이터를 정리한다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class SignalingServiceImpl implements SignalingService {
+    private static final int SWEEP_SCAN_COUNT = 100;
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final MeetingRedisCommands redisCommands;
+    private final Duration ttl;
+    private final int maxCandidates;
+    private final ScheduledExecutorService sweeper;
+
+    public SignalingServiceImpl(
+            RedisTemplate<String, String> redisTemplate,
+            MeetingRedisCommands redisCommands,
+            @Value("${meeting.signaling.ttl-seconds:120}") long ttlSeconds,
+            @Value("${meeting.signaling.max-candidates:50}") int maxCandidates,
+            @Value("${meeting.signaling.sweep-interval-seconds:60}") long sweepIntervalSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.redisCommands = redisCommands;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.maxCandidates = maxCandidates;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(DaemonThreadFactory.named("meeting-signaling-sweeper"));
+        sweeper.scheduleWithFixedDelay(this::sweepQuietly, sweepIntervalSeconds, sweepIntervalSeconds, TimeUnit.SECONDS);
+    }
 
     @Override
     public void handleSignal(SignalMessage message) {
-        String roomKey = "meeting:room:" + message.getRoomId();
-        
+        if (message.getData() == null) {
+            log.debug("Ignoring signal without data - roomId: {}, from: {}", message.getRoomId(), message.getSenderId());
+            return;
+        }
         switch (message.getType()) {
-            case "offer":
-                redisTemplate.opsForValue().set(roomKey + ":offer", message.getData());
-                break;
-            case "answer":
-                redisTemplate.opsForValue().set(roomKey + ":answer", message.getData());
-                break;
-            case "candidate":
-                redisTemplate.opsForList().rightPush(roomKey + ":candidates", message.getData());
-                break;
+            case "offer", "answer", "candidate" -> redisCommands.saveSignal(message.getRoomId(), message.getSenderId(),
+                    message.getTo(), message.getType(), List.of(message.getData()), ttl, maxCandidates);
+            default -> log.debug("Ignoring unknown signal type: {}", message.getType());
         }
     }
 
+    @Override
+    public void handleCandidates(CandidateBatch batch) {
+        redisCommands.saveSignal(batch.roomId(), batch.senderId(), batch.to(), "candidate", batch.candidates(),
+                ttl, maxCandidates);
+    }
+
+    @Override
+    public List<PeerSignal> getPendingSignals(String roomId, String peerId) {
+        return redisCommands.readSignalInbox(roomId, peerId);
+    }
+
     @Override
     public String getOffer(String roomId) {
-        String key = "meeting:room:" + roomId + ":offer";
-        return redisTemplate.opsForValue().get(key);
+        return redisTemplate.opsForValue().get(MeetingRedisCommands.offerKey(roomId));
     }
 
     @Override
     public String getAnswer(String roomId) {
-        String key = "meeting:room:" + roomId + ":answer";
-        return redisTemplate.opsForValue().get(key);
+        return redisTemplate.opsForValue().get(MeetingRedisCommands.answerKey(roomId));
     }
 
     @Override
     public List<String> getCandidates(String roomId) {
-        String key = "meeting:room:" + roomId + ":candidates";
-        return redisTemplate.opsForList().range(key, 0, -1);
+        return redisTemplate.opsForList().range(MeetingRedisCommands.candidatesKey(roomId), 0, -1);
     }
 
     @Override
     public void clearSignalingData(String roomId) {
-        String roomKey = "meeting:room:" + roomId;
-        redisTemplate.delete(roomKey + ":offer");
-        redisTemplate.delete(roomKey + ":answer");
-        redisTemplate.delete(roomKey + ":candidates");
+        redisCommands.clearSignaling(roomId);
+    }
+
+    /**
+     * 시그널링 색인이 있는 모든 회의실을 정리합니다.
+     * @return 정리한 키 수
+     */
+    public long sweep() {
+        long removed = 0;
+        for (String roomId : redisCommands.scanSignalingRooms(SWEEP_SCAN_COUNT)) {
+            removed += redisCommands.sweepSignaling(roomId);
+        }
+        return removed;
+    }
+
+    private void sweepQuietly() {
+        try {
+            long removed = sweep();
+            if (removed > 0) {
+                log.info("Swept {} stale signaling keys", removed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to sweep signaling data: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
     }
-} 
\ No newline at end of file
+}
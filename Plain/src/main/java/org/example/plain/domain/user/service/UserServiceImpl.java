@@ -1,7 +1,6 @@
 package org.example.plain.domain.user.service;
 
 import org.example.plain.common.enums.Role;
-import org.example.plain.domain.file.dto.FileData;
 import org.example.plain.domain.file.dto.FileInfo;
 import org.example.plain.domain.file.dto.UserFileData;
 import org.example.plain.domain.file.entity.ImageFileEntity;
@@ -9,6 +8,7 @@ import org.example.plain.domain.file.entity.UserFileEntity;
 import org.example.plain.domain.file.interfaces.CloudFileService;
 import org.example.plain.domain.file.interfaces.FileDatabaseService;
 import org.example.plain.domain.file.repository.UserFileRepository;
+import org.example.plain.domain.file.service.FileUploadPipeline;
 import org.example.plain.domain.user.dto.UserRequest;
 import org.example.plain.domain.user.dto.UserResponse;
 import org.example.plain.domain.user.entity.EmailVerification;
@@ -33,6 +33,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
     private final CloudFileService cloudFileService;
+    private final FileUploadPipeline uploadPipeline;
 
     private final FileDatabaseService userImageService;
     private final UserFileRepository userFileRepository;
@@ -41,11 +42,13 @@ public class UserServiceImpl implements UserService {
     public UserServiceImpl(UserRepository userRepository,
                            BCryptPasswordEncoder bCryptPasswordEncoder,
                            CloudFileService cloudFileService,
+                           FileUploadPipeline uploadPipeline,
                            @Qualifier("userImageFileDatabaseServiceImpl") FileDatabaseService userImageService,
                            UserFileRepository userFileRepository, EmailVerificationRepository emailVerificationRepository) {
         this.userRepository = userRepository;
         this.bCryptPasswordEncoder = bCryptPasswordEncoder;
         this.cloudFileService = cloudFileService;
+        this.uploadPipeline = uploadPipeline;
         this.userImageService = userImageService;
         this.userFileRepository = userFileRepository;
         this.emailVerificationRepository = emailVerificationRepository;
@@ -84,20 +87,14 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new HttpClientErrorException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
 
         try {
-            // 2. 파일 정보 설정
-            FileData fileData = FileData.builder()
-                    .file(file)
-                    .filename(file.getOriginalFilename())
-                    .build();
-            
-            // 3. 클라우드에 파일 업로드
-            FileInfo fileInfo = cloudFileService.uploadSingleFile(fileData, userId, "profile");
+            // 2. 파일을 스테이징하고 S3 업로드는 커밋 뒤에 진행 (같은 내용의 이미지는 다시 올리지 않음)
+            FileInfo fileInfo = uploadPipeline.stage(file, ImageFileEntity.class, userId, "profile");
 
             UserFileData userFileData = UserFileData.builder()
                     .userId(userId)
                     .build();
 
-            // 4. 데이터베이스에 파일 정보 저장
+            // 3. 데이터베이스에 파일 정보 저장
             userImageService.save(
                     fileInfo.getFilename(), 
                     fileInfo.getFileUrl(), 
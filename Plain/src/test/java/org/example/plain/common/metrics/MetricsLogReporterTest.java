@@ -0,0 +1,32 @@
+package org.example.plain.common.metrics;
+
+import org.example.plain.common.websocket.OutboundMessageDispatcher;
+import org.example.plain.common.websocket.OverflowPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsLogReporterTest {
+
+    @Test
+    @DisplayName("등록된 모든 컴포넌트의 지표를 클래스 이름으로 모은다")
+    void reportsEverySource() throws InterruptedException {
+        OutboundMessageDispatcher dispatcher = new OutboundMessageDispatcher(4, OverflowPolicy.DROP_OLDEST, 1);
+        MetricsSource fixed = () -> Map.of("hits", 3L);
+        MetricsLogReporter reporter = new MetricsLogReporter(List.of(dispatcher, fixed), 0);
+        try {
+            Map<String, Object> report = reporter.report();
+
+            assertThat(report).containsKey("OutboundMessageDispatcher");
+            assertThat(report.get("OutboundMessageDispatcher")).isEqualTo(dispatcher.getMetrics());
+            assertThat(report).containsValue(Map.of("hits", 3L));
+        } finally {
+            reporter.shutdown();
+            dispatcher.shutdown();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.plain.common.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.plain.domain.meeting.dto.MeetingInboundMessage;
+import org.example.plain.domain.meeting.dto.MeetingStateBroadcast;
+import org.example.plain.domain.meeting.dto.MeetingSystemMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BroadcastFrameTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("한 번 직렬화한 프레임을 모든 세션이 그대로 공유한다")
+    void frameIsSharedByAllRecipients() throws Exception {
+        RoomSessionRegistry registry = new RoomSessionRegistry();
+        List<StubWebSocketSession> sessions = List.of(
+                new StubWebSocketSession("a", "/ws/meeting/room1"),
+                new StubWebSocketSession("b", "/ws/meeting/room1"));
+        sessions.forEach(session -> registry.register("room1", session));
+
+        BroadcastFrame frame = BroadcastFrame.of(objectMapper, MeetingSystemMessage.of("홍길동님이 입장하셨습니다."));
+        registry.broadcast("room1", session -> {
+            try {
+                session.sendMessage(frame.message());
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        });
+
+        assertThat(sessions.get(0).getSentMessages().get(0)).isSameAs(frame.message());
+        assertThat(sessions.get(1).getSentMessages().get(0)).isSameAs(frame.message());
+        assertThat(new String(frame.payload(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"type\":\"system\",\"message\":\"홍길동님이 입장하셨습니다.\"}");
+        assertThat(frame.length()).isEqualTo(frame.message().getPayloadLength());
+    }
+
+    @Test
+    @DisplayName("회의실 메시지 DTO는 기존 JSON 필드 이름을 그대로 사용한다")
+    void meetingMessagesKeepWireFormat() throws Exception {
+        MeetingInboundMessage inbound = objectMapper.readValue(
+                "{\"type\":\"state\",\"isMuted\":true,\"isVideoOff\":false,\"extra\":1}", MeetingInboundMessage.class);
+        assertThat(inbound.isMuted()).isTrue();
+        assertThat(inbound.isVideoOff()).isFalse();
+
+        JsonNode state = objectMapper.readTree(
+                objectMapper.writeValueAsBytes(MeetingStateBroadcast.of("user1", true, false)));
+        assertThat(state.get("type").asText()).isEqualTo("state");
+        assertThat(state.get("userId").asText()).isEqualTo("user1");
+        assertThat(state.get("isMuted").asBoolean()).isTrue();
+        assertThat(state.get("isVideoOff").asBoolean()).isFalse();
+        assertThat(state.size()).isEqualTo(4);
+    }
+}
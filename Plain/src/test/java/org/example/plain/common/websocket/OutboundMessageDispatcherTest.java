@@ -0,0 +1,123 @@
+package org.example.plain.common.websocket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class OutboundMessageDispatcherTest {
+
+    private OutboundMessageDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("느린 세션이 있어도 다른 세션에는 바로 전달된다")
+    void slowSessionDoesNotBlockOthers() {
+        dispatcher = new OutboundMessageDispatcher(16, OverflowPolicy.DROP_OLDEST, 4);
+        StubWebSocketSession slow = new StubWebSocketSession("slow", "/ws/meeting/room");
+        dispatcher.register(slow);
+        StubWebSocketSession fast = new StubWebSocketSession("fast", "/ws/meeting/room");
+        dispatcher.register(fast);
+        slow.setSendDelayMillis(500);
+
+        long start = System.nanoTime();
+        dispatcher.send(slow, new TextMessage("1"));
+        dispatcher.send(fast, new TextMessage("1"));
+        long enqueueMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(enqueueMillis).isLessThan(200);
+        await().atMost(Duration.ofMillis(300)).until(() -> fast.getSentMessages().size() == 1);
+        assertThat(slow.getSentMessages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("세션별 전송 순서가 유지된다")
+    void preservesPerSessionOrder() {
+        dispatcher = new OutboundMessageDispatcher(256, OverflowPolicy.DROP_OLDEST, 4);
+        StubWebSocketSession session = new StubWebSocketSession("s", "/ws/chat/room");
+        dispatcher.register(session);
+
+        for (int i = 0; i < 200; i++) {
+            dispatcher.send(session, new TextMessage(String.valueOf(i)));
+        }
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> session.getSentMessages().size() == 200);
+        for (int i = 0; i < 200; i++) {
+            assertThat(session.getSentMessages().get(i).getPayload()).isEqualTo(String.valueOf(i));
+        }
+        assertThat(dispatcher.getMetrics().delivered()).isEqualTo(200);
+        assertThat(dispatcher.getMetrics().timeToDeliver().count()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST 정책은 큐가 가득 차면 오래된 메시지를 버린다")
+    void dropOldestKeepsNewestMessages() {
+        dispatcher = new OutboundMessageDispatcher(2, OverflowPolicy.DROP_OLDEST, 1);
+        StubWebSocketSession session = new StubWebSocketSession("s", "/ws/chat/room");
+        dispatcher.register(session);
+        session.setSendDelayMillis(500);
+
+        // 첫 메시지는 writer가 바로 꺼내 전송 중이므로 큐에는 이후 메시지만 남는다
+        dispatcher.send(session, new TextMessage("0"));
+        awaitWriterBusy();
+        for (int i = 1; i <= 5; i++) {
+            assertThat(dispatcher.send(session, new TextMessage(String.valueOf(i)))).isTrue();
+        }
+
+        await().atMost(Duration.ofSeconds(3)).until(() -> session.getSentMessages().size() == 3);
+        assertThat(session.getSentMessages())
+                .extracting(message -> (Object) message.getPayload())
+                .containsExactly("0", "4", "5");
+        assertThat(dispatcher.getMetrics().dropped()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("DISCONNECT 정책은 큐가 가득 찬 느린 세션의 연결을 끊는다")
+    void disconnectsSlowConsumer() {
+        dispatcher = new OutboundMessageDispatcher(2, OverflowPolicy.DISCONNECT, 1);
+        StubWebSocketSession session = new StubWebSocketSession("s", "/ws/chat/room");
+        dispatcher.register(session);
+        session.setSendDelayMillis(500);
+
+        dispatcher.send(session, new TextMessage("0"));
+        awaitWriterBusy();
+        dispatcher.send(session, new TextMessage("1"));
+        dispatcher.send(session, new TextMessage("2"));
+
+        assertThat(dispatcher.send(session, new TextMessage("3"))).isFalse();
+        assertThat(session.getCloseStatus()).isEqualTo(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(dispatcher.getMetrics().disconnected()).isEqualTo(1);
+        assertThat(dispatcher.getMetrics().queueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("unregister 된 세션에는 큐를 다시 만들지 않고 보내지 않는다")
+    void doesNotSendToUnregisteredSession() {
+        dispatcher = new OutboundMessageDispatcher(16, OverflowPolicy.DROP_OLDEST, 1);
+        StubWebSocketSession session = new StubWebSocketSession("s", "/ws/chat/room");
+        dispatcher.register(session);
+        dispatcher.unregister(session);
+
+        assertThat(dispatcher.send(session, new TextMessage("late"))).isFalse();
+
+        assertThat(dispatcher.getMetrics().sessions()).isZero();
+        assertThat(session.getSentMessages()).isEmpty();
+    }
+
+    private void awaitWriterBusy() {
+        await().pollDelay(Duration.ZERO)
+                .pollInterval(Duration.ofMillis(1))
+                .atMost(Duration.ofMillis(400))
+                .until(() -> dispatcher.getMetrics().queueDepth() == 0);
+    }
+}
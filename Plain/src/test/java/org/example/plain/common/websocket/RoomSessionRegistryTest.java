@@ -0,0 +1,145 @@
+package org.example.plain.common.websocket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomSessionRegistryTest {
+
+    private RoomSessionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new RoomSessionRegistry();
+    }
+
+    @Test
+    @DisplayName("세션은 등록한 방에서만 조회된다")
+    void sessionsAreIndexedByRoom() {
+        StubWebSocketSession a = new StubWebSocketSession("a", "/ws/chat/room1");
+        StubWebSocketSession b = new StubWebSocketSession("b", "/ws/chat/room1");
+        StubWebSocketSession c = new StubWebSocketSession("c", "/ws/chat/room2");
+
+        registry.register("room1", a);
+        registry.register("room1", b);
+        registry.register("room2", c);
+
+        assertThat(registry.sessions("room1")).containsExactlyInAnyOrder(a, b);
+        assertThat(registry.sessions("room2")).containsExactly(c);
+        assertThat(registry.sessions("room3")).isEmpty();
+        assertThat(registry.roomOf(c)).isEqualTo("room2");
+        assertThat(registry.sessionCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("마지막 세션이 나가면 방도 제거된다")
+    void emptyRoomIsRemoved() {
+        StubWebSocketSession a = new StubWebSocketSession("a", "/ws/chat/room1");
+        registry.register("room1", a);
+
+        assertThat(registry.unregister(a)).isEqualTo("room1");
+        assertThat(registry.roomCount()).isZero();
+        assertThat(registry.stats("room1")).isNull();
+        assertThat(registry.unregister(a)).isNull();
+    }
+
+    @Test
+    @DisplayName("브로드캐스트 결과가 방별 통계에 누적된다")
+    void broadcastStatsArePerRoom() {
+        registry.register("room1", new StubWebSocketSession("a", "/ws/chat/room1"));
+        registry.register("room2", new StubWebSocketSession("b", "/ws/chat/room2"));
+
+        registry.recordBroadcast("room1", 3, 1);
+        registry.recordBroadcast("room1", 2, 0);
+
+        RoomSessionRegistry.RoomStats stats = registry.stats("room1");
+        assertThat(stats.sessions()).isEqualTo(1);
+        assertThat(stats.broadcasts()).isEqualTo(2);
+        assertThat(stats.deliveries()).isEqualTo(5);
+        assertThat(stats.failures()).isEqualTo(1);
+        assertThat(registry.stats("room2").broadcasts()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 방에 동시에 브로드캐스트해도 모든 세션이 같은 순서로 받는다")
+    void concurrentBroadcastsKeepRoomOrder() throws Exception {
+        List<StubWebSocketSession> sessions = List.of(
+                new StubWebSocketSession("a", "/ws/meeting/room1"),
+                new StubWebSocketSession("b", "/ws/meeting/room1"),
+                new StubWebSocketSession("c", "/ws/meeting/room1"));
+        sessions.forEach(session -> registry.register("room1", session));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 200; i++) {
+            TextMessage message = new TextMessage(String.valueOf(i));
+            executor.execute(() -> registry.broadcast("room1", session -> {
+                try {
+                    session.sendMessage(message);
+                    return true;
+                } catch (Exception e) {
+                    return false;
+                }
+            }));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        List<?> expected = sessions.get(0).getSentMessages();
+        assertThat(expected).hasSize(200);
+        assertThat(sessions.get(1).getSentMessages()).isEqualTo(expected);
+        assertThat(sessions.get(2).getSentMessages()).isEqualTo(expected);
+        assertThat(registry.stats("room1").deliveries()).isEqualTo(600);
+    }
+
+    @Test
+    @DisplayName("사용자별 색인으로 지정한 참여자의 세션에만 보낸다")
+    void sendToIndexedUser() {
+        StubWebSocketSession host = new StubWebSocketSession("a", "/ws/meeting/room1");
+        StubWebSocketSession guestTab1 = new StubWebSocketSession("b", "/ws/meeting/room1");
+        StubWebSocketSession guestTab2 = new StubWebSocketSession("c", "/ws/meeting/room1");
+        registry.register("room1", "host", host);
+        registry.register("room1", "guest", guestTab1);
+        registry.register("room1", "guest", guestTab2);
+
+        TextMessage message = new TextMessage("offer");
+        assertThat(registry.sendTo("room1", "guest", session -> send(session, message))).isEqualTo(2);
+        assertThat(host.getSentMessages()).isEmpty();
+
+        registry.unregister(guestTab1);
+        registry.unregister(guestTab2);
+        assertThat(registry.sendTo("room1", "guest", session -> send(session, message))).isZero();
+        assertThat(registry.sendTo("room2", "host", session -> send(session, message))).isZero();
+    }
+
+    @Test
+    @DisplayName("보낸 세션을 제외하고 브로드캐스트한다")
+    void broadcastExcludingSender() {
+        StubWebSocketSession a = new StubWebSocketSession("a", "/ws/meeting/room1");
+        StubWebSocketSession b = new StubWebSocketSession("b", "/ws/meeting/room1");
+        registry.register("room1", "userA", a);
+        registry.register("room1", "userB", b);
+
+        assertThat(registry.broadcast("room1", a, session -> send(session, new TextMessage("candidate")))).isEqualTo(1);
+        assertThat(a.getSentMessages()).isEmpty();
+        assertThat(b.getSentMessages()).hasSize(1);
+        assertThat(registry.stats("room1").deliveries()).isEqualTo(1);
+    }
+
+    private static boolean send(WebSocketSession session, TextMessage message) {
+        try {
+            session.sendMessage(message);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
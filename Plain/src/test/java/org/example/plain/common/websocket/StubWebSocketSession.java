@@ -0,0 +1,146 @@
+package org.example.plain.common.websocket;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트와 벤치마크에서 사용하는 가벼운 WebSocketSession 구현체
+ * 전송된 메시지를 기록하고, 필요하면 전송마다 지연을 줄 수 있다.
+ */
+public class StubWebSocketSession implements WebSocketSession {
+    private final String id;
+    private final URI uri;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final List<WebSocketMessage<?>> sentMessages = new CopyOnWriteArrayList<>();
+    private final boolean recordMessages;
+    private volatile long sendDelayMillis;
+    private volatile boolean open = true;
+    private volatile CloseStatus closeStatus;
+
+    public StubWebSocketSession(String id, String path) {
+        this(id, path, true);
+    }
+
+    public StubWebSocketSession(String id, String path, boolean recordMessages) {
+        this.id = id;
+        this.uri = URI.create("ws://localhost" + path);
+        this.recordMessages = recordMessages;
+    }
+
+    public void setSendDelayMillis(long sendDelayMillis) {
+        this.sendDelayMillis = sendDelayMillis;
+    }
+
+    public List<WebSocketMessage<?>> getSentMessages() {
+        return new ArrayList<>(sentMessages);
+    }
+
+    public CloseStatus getCloseStatus() {
+        return closeStatus;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public URI getUri() {
+        return uri;
+    }
+
+    @Override
+    public HttpHeaders getHandshakeHeaders() {
+        return HttpHeaders.EMPTY;
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public Principal getPrincipal() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return null;
+    }
+
+    @Override
+    public String getAcceptedProtocol() {
+        return null;
+    }
+
+    @Override
+    public void setTextMessageSizeLimit(int messageSizeLimit) {
+    }
+
+    @Override
+    public int getTextMessageSizeLimit() {
+        return 0;
+    }
+
+    @Override
+    public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+    }
+
+    @Override
+    public int getBinaryMessageSizeLimit() {
+        return 0;
+    }
+
+    @Override
+    public List<WebSocketExtension> getExtensions() {
+        return List.of();
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        if (sendDelayMillis > 0) {
+            try {
+                Thread.sleep(sendDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (recordMessages) {
+            sentMessages.add(message);
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        close(CloseStatus.NORMAL);
+    }
+
+    @Override
+    public void close(CloseStatus status) {
+        this.open = false;
+        this.closeStatus = status;
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.plain.common.websocket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class WebSocketHeartbeatTest {
+    private final OutboundMessageDispatcher dispatcher = new OutboundMessageDispatcher(16, OverflowPolicy.DROP_OLDEST, 1);
+    private WebSocketHeartbeat heartbeat;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        heartbeat.shutdown();
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("응답하는 세션에는 ping 을 보낸다")
+    void pingsResponsiveSessions() {
+        heartbeat = new WebSocketHeartbeat(dispatcher, 0, 60);
+        StubWebSocketSession session = new StubWebSocketSession("s", "/ws/meeting/room");
+        dispatcher.register(session);
+        heartbeat.track(session);
+
+        int closed = heartbeat.beat();
+
+        assertThat(closed).isZero();
+        await().atMost(Duration.ofSeconds(2))
+                .until(() -> session.getSentMessages().stream().anyMatch(PingMessage.class::isInstance));
+        assertThat(session.isOpen()).isTrue();
+        assertThat(heartbeat.getMetrics().pings()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("timeout 동안 응답이 없는 세션은 닫고 더 이상 확인하지 않는다")
+    void closesUnresponsiveSessions() {
+        heartbeat = new WebSocketHeartbeat(dispatcher, 0, 0);
+        StubWebSocketSession session = new StubWebSocketSession("s", "/ws/meeting/room");
+        heartbeat.track(session);
+
+        int closed = heartbeat.beat();
+
+        assertThat(closed).isEqualTo(1);
+        assertThat(session.getCloseStatus()).isEqualTo(CloseStatus.SESSION_NOT_RELIABLE);
+        WebSocketHeartbeat.HeartbeatMetrics metrics = heartbeat.getMetrics();
+        assertThat(metrics.trackedSessions()).isZero();
+        assertThat(metrics.timedOut()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.plain.domain.chat.handler;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import org.example.plain.common.websocket.BroadcastFrame;
+import org.example.plain.common.websocket.OutboundMessageDispatcher;
+import org.example.plain.common.websocket.OverflowPolicy;
+import org.example.plain.common.websocket.StubWebSocketSession;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.web.socket.TextMessage;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 하나의 Redis 에 연결된 두 애플리케이션 컨텍스트(노드) 사이의 채팅방 fan-out 을 검증한다.
+ */
+class ChatRoomBroadcasterClusterTest {
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    @DisplayName("한 노드에서 보낸 메시지를 같은 방 세션이 있는 모든 노드가 받는다")
+    void deliversAcrossNodes() {
+        ChatRoomBroadcaster broadcasterA = nodeA.getBean(ChatRoomBroadcaster.class);
+        ChatRoomBroadcaster broadcasterB = nodeB.getBean(ChatRoomBroadcaster.class);
+        StubWebSocketSession a1 = new StubWebSocketSession("a1", "/ws/chat/room1");
+        StubWebSocketSession b1 = new StubWebSocketSession("b1", "/ws/chat/room1");
+        StubWebSocketSession b2 = new StubWebSocketSession("b2", "/ws/chat/room2");
+
+        broadcasterA.register("room1", a1);
+        broadcasterB.register("room1", b1);
+        broadcasterB.register("room2", b2);
+        awaitSubscribers("chat:room:room1", 2);
+
+        broadcasterA.broadcast("room1", BroadcastFrame.of(new TextMessage("hello")));
+
+        await().atMost(Duration.ofSeconds(5)).until(() ->
+                a1.getSentMessages().size() == 1 && b1.getSentMessages().size() == 1);
+        assertThat(a1.getSentMessages().get(0).getPayload()).isEqualTo("hello");
+        assertThat(b1.getSentMessages().get(0).getPayload()).isEqualTo("hello");
+        assertThat(b2.getSentMessages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 방의 메시지는 모든 노드에서 보낸 순서대로 전달된다")
+    void preservesOrderPerRoom() {
+        ChatRoomBroadcaster broadcasterA = nodeA.getBean(ChatRoomBroadcaster.class);
+        ChatRoomBroadcaster broadcasterB = nodeB.getBean(ChatRoomBroadcaster.class);
+        StubWebSocketSession a1 = new StubWebSocketSession("a1", "/ws/chat/room1");
+        StubWebSocketSession b1 = new StubWebSocketSession("b1", "/ws/chat/room1");
+        broadcasterA.register("room1", a1);
+        broadcasterB.register("room1", b1);
+        awaitSubscribers("chat:room:room1", 2);
+
+        List<String> sent = IntStream.range(0, 50).mapToObj(i -> "m" + i).toList();
+        sent.forEach(payload -> broadcasterA.broadcast("room1", BroadcastFrame.of(new TextMessage(payload))));
+
+        await().atMost(Duration.ofSeconds(5)).until(() ->
+                a1.getSentMessages().size() == sent.size() && b1.getSentMessages().size() == sent.size());
+        assertThat(a1.getSentMessages()).extracting(message -> (Object) message.getPayload()).containsExactlyElementsOf(sent);
+        assertThat(b1.getSentMessages()).extracting(message -> (Object) message.getPayload()).containsExactlyElementsOf(sent);
+    }
+
+    @Test
+    @DisplayName("노드의 마지막 세션이 나가면 그 노드는 방 채널 구독을 해제한다")
+    void unsubscribesWhenRoomIsEmptyOnNode() {
+        ChatRoomBroadcaster broadcasterA = nodeA.getBean(ChatRoomBroadcaster.class);
+        ChatRoomBroadcaster broadcasterB = nodeB.getBean(ChatRoomBroadcaster.class);
+        StubWebSocketSession a1 = new StubWebSocketSession("a1", "/ws/chat/room1");
+        StubWebSocketSession b1 = new StubWebSocketSession("b1", "/ws/chat/room1");
+
+        broadcasterA.register("room1", a1);
+        broadcasterB.register("room1", b1);
+        awaitSubscribers("chat:room:room1", 2);
+
+        assertThat(broadcasterB.unregister(b1)).isEqualTo("room1");
+        awaitSubscribers("chat:room:room1", 1);
+    }
+
+    private void awaitSubscribers(String channel, long expected) {
+        RedisClient client = RedisClient.create(RedisURI.create("localhost", redisPort));
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            await().atMost(Duration.ofSeconds(5)).until(() ->
+                    connection.sync().pubsubNumsub(channel).getOrDefault(channel, 0L) == expected);
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    private AnnotationConfigApplicationContext startNode() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        TestPropertyValues.of("chat.fanout.mode=redis", "test.redis.port=" + redisPort).applyTo(context);
+        context.register(NodeConfig.class, ChatRoomBroadcaster.class);
+        context.refresh();
+        return context;
+    }
+
+    @Configuration
+    static class NodeConfig {
+
+        @Bean
+        LettuceConnectionFactory redisConnectionFactory(@Value("${test.redis.port}") int port) {
+            return new LettuceConnectionFactory("localhost", port);
+        }
+
+        @Bean
+        RedisTemplate<String, String> redisTemplate(RedisConnectionFactory connectionFactory) {
+            RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+            redisTemplate.setConnectionFactory(connectionFactory);
+            redisTemplate.setKeySerializer(new StringRedisSerializer());
+            redisTemplate.setValueSerializer(new StringRedisSerializer());
+            return redisTemplate;
+        }
+
+        @Bean(destroyMethod = "shutdown")
+        OutboundMessageDispatcher outboundMessageDispatcher() {
+            return new OutboundMessageDispatcher(64, OverflowPolicy.DROP_OLDEST, 2);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.example.plain.common.enums.Role;
 import org.example.plain.domain.chat.dto.ChatMessageDTO;
+import org.example.plain.domain.chat.dto.ChatMessagePage;
 import org.example.plain.domain.chat.dto.ChatRoomDTO;
 import org.example.plain.domain.chat.entity.ChatStatus;
 import org.example.plain.domain.classLecture.entity.ClassLecture;
@@ -132,7 +133,7 @@ class ChatIntegrationTest {
                 .andExpect(status().isOk())
                 .andReturn();
 
-        List<ChatMessageDTO> messages = parseResponseList(getResult, ChatMessageDTO.class);
+        List<ChatMessageDTO> messages = parseResponse(getResult, ChatMessagePage.class).getMessages();
         assertThat(messages).isNotEmpty();
         assertThat(messages.get(0).getContent()).isEqualTo("Hello, World!");
     }
@@ -0,0 +1,155 @@
+package org.example.plain.domain.chat.repository;
+
+import org.example.plain.domain.chat.dto.ChatMessageDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ChatMessageWriteBehindTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private ChatMessageWriteBehind writeBehind;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writeBehind.shutdown();
+    }
+
+    @Test
+    @DisplayName("batch-size 만큼 쌓이면 한 번의 batch insert 로 기록하고 chat_stamp 는 방마다 한 번만 갱신한다")
+    @SuppressWarnings("unchecked")
+    void flushesBySizeAndCoalescesRoomStamps() {
+        writeBehind = new ChatMessageWriteBehind(jdbcTemplate, transactionManager, 4, 60_000, 1_000, 3, 100);
+
+        writeBehind.append(message("m1", "room1"));
+        writeBehind.append(message("m2", "room2"));
+        writeBehind.append(message("m3", "room1"));
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT"), anyList());
+        writeBehind.append(message("m4", "room1"));
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> writeBehind.getMetrics().flushed() == 4);
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO chat_message"), rows.capture());
+        assertThat(rows.getValue()).extracting(row -> row[0]).containsExactly("m1", "m2", "m3", "m4");
+
+        ArgumentCaptor<List<Object[]>> stamps = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE chat_room"), stamps.capture());
+        assertThat(stamps.getValue()).extracting(row -> row[1]).containsExactly("room1", "room2");
+        assertThat(writeBehind.getMetrics().batches()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("flush 전의 메시지는 방별로 최신순 조회된다")
+    void pendingMessagesAreVisiblePerRoom() {
+        writeBehind = new ChatMessageWriteBehind(jdbcTemplate, transactionManager, 100, 60_000, 1_000, 3, 100);
+
+        writeBehind.append(message("m1", "room1"));
+        writeBehind.append(message("m2", "room2"));
+        writeBehind.append(message("m3", "room1"));
+
+        assertThat(writeBehind.pending("room1")).extracting(ChatMessageDTO::getMessageId)
+                .containsExactly("m3", "m1");
+        assertThat(writeBehind.pending("room3")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("flush 가 실패한 메시지는 로그에 남아 종료 시 다시 기록된다")
+    void failedBatchIsRetriedOnShutdown() throws InterruptedException {
+        writeBehind = new ChatMessageWriteBehind(jdbcTemplate, transactionManager, 100, 60_000, 1_000, 3, 100);
+        writeBehind.append(message("m1", "room1"));
+        writeBehind.append(message("m2", "room1"));
+
+        doThrow(new IllegalStateException("db down"))
+                .when(jdbcTemplate).batchUpdate(startsWith("INSERT"), anyList());
+        assertThatThrownBy(() -> writeBehind.flush()).isInstanceOf(IllegalStateException.class);
+        assertThat(writeBehind.getMetrics().pending()).isEqualTo(2);
+        assertThat(writeBehind.pending("room1")).hasSize(2);
+
+        reset(jdbcTemplate);
+        writeBehind.shutdown();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(startsWith("INSERT"), anyList());
+        assertThat(writeBehind.getMetrics().pending()).isZero();
+        assertThat(writeBehind.getMetrics().failures()).isEqualTo(1);
+        assertThatThrownBy(() -> writeBehind.append(message("m3", "room1")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("batch 에서 계속 실패하는 메시지만 dead-letter 로 옮기고 나머지는 기록한다")
+    @SuppressWarnings("unchecked")
+    void poisonMessageIsDeadLettered() {
+        writeBehind = new ChatMessageWriteBehind(jdbcTemplate, transactionManager, 100, 60_000, 1_000, 2, 100);
+        List<String> written = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            if (rows.stream().anyMatch(row -> row[0].equals("m2"))) {
+                throw new IllegalStateException("duplicate key");
+            }
+            rows.forEach(row -> written.add((String) row[0]));
+            return new int[rows.size()];
+        }).when(jdbcTemplate).batchUpdate(startsWith("INSERT"), anyList());
+
+        writeBehind.append(message("m1", "room1"));
+        writeBehind.append(message("m2", "room1"));
+        writeBehind.append(message("m3", "room1"));
+        assertThatThrownBy(() -> writeBehind.flush()).isInstanceOf(IllegalStateException.class);
+        assertThat(writeBehind.pending("room1")).extracting(ChatMessageDTO::getMessageId).containsExactly("m2");
+
+        writeBehind.append(message("m4", "room1"));
+        writeBehind.flush();
+
+        assertThat(written).containsExactly("m1", "m3", "m4");
+        assertThat(writeBehind.deadLetters()).extracting(ChatMessageDTO::getMessageId).containsExactly("m2");
+        assertThat(writeBehind.getMetrics().pending()).isZero();
+        assertThat(writeBehind.getMetrics().deadLettered()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로그가 max-pending 에 이르면 메시지를 넣기 전에 거절한다")
+    void rejectsBeforeEnqueueWhenFull() {
+        writeBehind = new ChatMessageWriteBehind(jdbcTemplate, transactionManager, 100, 60_000, 2, 3, 100);
+        writeBehind.append(message("m1", "room1"));
+        writeBehind.append(message("m2", "room1"));
+
+        assertThatThrownBy(() -> writeBehind.append(message("m3", "room1")))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(writeBehind.pending("room1")).extracting(ChatMessageDTO::getMessageId).containsExactly("m2", "m1");
+        assertThat(writeBehind.getMetrics().rejected()).isEqualTo(1);
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT"), anyList());
+    }
+
+    private ChatMessageDTO message(String messageId, String chatId) {
+        return ChatMessageDTO.builder()
+                .messageId(messageId)
+                .chatId(chatId)
+                .content("content")
+                .messageStamp(LocalDateTime.now())
+                .senderId("user")
+                .build();
+    }
+}
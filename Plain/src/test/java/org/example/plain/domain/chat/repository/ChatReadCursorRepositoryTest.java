@@ -0,0 +1,104 @@
+package org.example.plain.domain.chat.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.plain.domain.chat.dto.ChatUnreadCount;
+import org.example.plain.domain.chat.entity.ChatMessage;
+import org.example.plain.domain.chat.entity.ChatReadCursor;
+import org.example.plain.domain.chat.entity.ChatRoom;
+import org.example.plain.domain.chat.entity.id.ChatJoinId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 읽음 위치 upsert 와 채팅방별 읽지 않은 수 쿼리를 실제 DB (H2, MySQL 모드) 에 돌려 본다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chat_read_cursor;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ChatReadCursorRepositoryTest {
+    private static final LocalDateTime STAMP = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    @Autowired
+    private ChatReadCursorRepository chatReadCursorRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("읽음 위치는 (stamp, id) 순서로 앞으로만 움직인다")
+    void upsertOnlyMovesForward() {
+        chatReadCursorRepository.upsert("chat", "user", STAMP, "m2");
+
+        chatReadCursorRepository.upsert("chat", "user", STAMP.minusMinutes(1), "m9");
+        assertThat(cursor()).extracting(ChatReadCursor::getLastReadStamp, ChatReadCursor::getLastReadMessageId)
+                .containsExactly(STAMP, "m2");
+
+        chatReadCursorRepository.upsert("chat", "user", STAMP, "m1");
+        assertThat(cursor().getLastReadMessageId()).isEqualTo("m2");
+
+        chatReadCursorRepository.upsert("chat", "user", STAMP, "m3");
+        assertThat(cursor().getLastReadMessageId()).isEqualTo("m3");
+
+        chatReadCursorRepository.upsert("chat", "user", STAMP.plusMinutes(1), "m0");
+        assertThat(cursor()).extracting(ChatReadCursor::getLastReadStamp, ChatReadCursor::getLastReadMessageId)
+                .containsExactly(STAMP.plusMinutes(1), "m0");
+    }
+
+    @Test
+    @DisplayName("여러 채팅방의 읽지 않은 수를 한 번에 센다")
+    void countsUnreadPerRoom() {
+        ChatRoom read = room("read");
+        ChatRoom neverRead = room("neverRead");
+        message("r1", read, STAMP.minusMinutes(1));
+        message("r2", read, STAMP);
+        message("r3", read, STAMP);
+        message("r4", read, STAMP.plusMinutes(1));
+        message("n1", neverRead, STAMP);
+        message("n2", neverRead, STAMP);
+        entityManager.flush();
+        chatReadCursorRepository.upsert("read", "user", STAMP, "r2");
+
+        List<ChatUnreadCount> counts = chatMessageRepository.countUnreadByChatIds("user", List.of("read", "neverRead"));
+
+        assertThat(counts).extracting(ChatUnreadCount::chatId, ChatUnreadCount::count)
+                .containsExactlyInAnyOrder(tuple("read", 2L), tuple("neverRead", 2L));
+    }
+
+    private ChatReadCursor cursor() {
+        entityManager.clear();
+        return chatReadCursorRepository.findById(new ChatJoinId("chat", "user")).orElseThrow();
+    }
+
+    private ChatRoom room(String chatId) {
+        ChatRoom room = ChatRoom.builder()
+                .chatId(chatId)
+                .chatName(chatId)
+                .chatStamp(STAMP)
+                .build();
+        entityManager.persist(room);
+        return room;
+    }
+
+    private void message(String messageId, ChatRoom room, LocalDateTime stamp) {
+        entityManager.persist(ChatMessage.builder()
+                .messageId(messageId)
+                .chatRoom(room)
+                .content(messageId)
+                .messageStamp(stamp)
+                .build());
+    }
+}
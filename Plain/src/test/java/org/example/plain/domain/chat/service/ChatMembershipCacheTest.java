@@ -0,0 +1,184 @@
+package org.example.plain.domain.chat.service;
+
+import org.example.plain.domain.chat.service.ChatMembershipCache.Membership;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatMembershipCacheTest {
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+    private LettuceConnectionFactory connectionFactory;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, Set<String>> loader = chatId -> {
+        loads.incrementAndGet();
+        return "room1".equals(chatId) ? Set.of("user1", "user2") : null;
+    };
+
+    @Test
+    @DisplayName("한 번 읽은 방은 무효화 전까지 다시 읽지 않는다")
+    void cachesMembersUntilInvalidated() {
+        ChatMembershipCache cache = new ChatMembershipCache(null, false, 600);
+
+        assertThat(cache.lookup("room1", "user1", loader)).isEqualTo(Membership.MEMBER);
+        assertThat(cache.lookup("room1", "user3", loader)).isEqualTo(Membership.NOT_MEMBER);
+        assertThat(cache.lookup("room1", "user2", loader)).isEqualTo(Membership.MEMBER);
+        assertThat(loads).hasValue(1);
+
+        cache.invalidate("room1");
+        assertThat(cache.lookup("room1", "user1", loader)).isEqualTo(Membership.MEMBER);
+        assertThat(loads).hasValue(2);
+
+        ChatMembershipCache.CacheMetrics metrics = cache.getMetrics();
+        assertThat(metrics.hits()).isEqualTo(2);
+        assertThat(metrics.misses()).isEqualTo(2);
+        assertThat(metrics.invalidations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 방은 캐시하지 않는다")
+    void missingRoomIsNotCached() {
+        ChatMembershipCache cache = new ChatMembershipCache(null, false, 600);
+
+        assertThat(cache.lookup("unknown", "user1", loader)).isEqualTo(Membership.NO_ROOM);
+        assertThat(cache.lookup("unknown", "user1", loader)).isEqualTo(Membership.NO_ROOM);
+        assertThat(loads).hasValue(2);
+        assertThat(cache.getMetrics().cachedRooms()).isZero();
+    }
+
+    @Test
+    @DisplayName("읽는 도중 무효화된 참여자 목록은 로컬 캐시에도 남기지 않는다")
+    void localModeSkipsFillInvalidatedDuringLoad() {
+        ChatMembershipCache cache = new ChatMembershipCache(null, false, 600);
+        Function<String, Set<String>> staleLoader = chatId -> {
+            cache.invalidate(chatId);
+            return Set.of("user1");
+        };
+
+        assertThat(cache.lookup("room1", "user1", staleLoader)).isEqualTo(Membership.MEMBER);
+        assertThat(cache.getMetrics().cachedRooms()).isZero();
+
+        assertThat(cache.lookup("room1", "user1", loader)).isEqualTo(Membership.MEMBER);
+        assertThat(cache.lookup("room1", "user2", loader)).isEqualTo(Membership.MEMBER);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("참여하면 캐시된 방에 참여자를 더하고 다시 읽지 않는다")
+    void addMemberFillsCachedRoom() {
+        ChatMembershipCache cache = new ChatMembershipCache(null, false, 600);
+        assertThat(cache.lookup("room1", "user3", loader)).isEqualTo(Membership.NOT_MEMBER);
+
+        cache.addMember("room1", "user3");
+
+        assertThat(cache.lookup("room1", "user3", loader)).isEqualTo(Membership.MEMBER);
+        assertThat(cache.lookup("room1", "user1", loader)).isEqualTo(Membership.MEMBER);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("공유 모드에서도 참여하면 캐시된 Set 에 참여자를 더한다")
+    void sharedModeAddMemberFillsCachedSet() {
+        RedisTemplate<String, String> redisTemplate = redisTemplate();
+        ChatMembershipCache cache = new ChatMembershipCache(redisTemplate, true, 600);
+        assertThat(cache.lookup("room1", "user3", loader)).isEqualTo(Membership.NOT_MEMBER);
+
+        cache.addMember("room1", "user3");
+        cache.addMember("room2", "user3");
+
+        assertThat(cache.lookup("room1", "user3", loader)).isEqualTo(Membership.MEMBER);
+        assertThat(loads).hasValue(1);
+        assertThat(redisTemplate.hasKey("chat:members:room2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("공유 모드에서는 Redis Set 에 만료 시간과 함께 채우고 무효화하면 지운다")
+    void sharedModeUsesRedisSet() {
+        RedisTemplate<String, String> redisTemplate = redisTemplate();
+        ChatMembershipCache cache = new ChatMembershipCache(redisTemplate, true, 600);
+
+        assertThat(cache.lookup("room1", "user1", loader)).isEqualTo(Membership.MEMBER);
+        assertThat(cache.lookup("room1", "user3", loader)).isEqualTo(Membership.NOT_MEMBER);
+        assertThat(loads).hasValue(1);
+        assertThat(redisTemplate.getExpire("chat:members:room1")).isPositive();
+
+        assertThat(cache.lookup("room2", "user1", loader)).isEqualTo(Membership.NO_ROOM);
+        assertThat(redisTemplate.hasKey("chat:members:room2")).isFalse();
+
+        cache.invalidate("room1");
+        assertThat(redisTemplate.hasKey("chat:members:room1")).isFalse();
+        assertThat(cache.lookup("room1", "user1", loader)).isEqualTo(Membership.MEMBER);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("공유 모드에서 읽는 도중 무효화된 참여자 목록은 캐시하지 않는다")
+    void sharedModeSkipsFillInvalidatedDuringLoad() {
+        RedisTemplate<String, String> redisTemplate = redisTemplate();
+        ChatMembershipCache cache = new ChatMembershipCache(redisTemplate, true, 600);
+        Function<String, Set<String>> staleLoader = chatId -> {
+            // 읽은 뒤 다른 노드에서 user1 의 퇴장이 커밋되었다
+            cache.invalidate(chatId);
+            return Set.of("user1");
+        };
+
+        assertThat(cache.lookup("room1", "user1", staleLoader)).isEqualTo(Membership.MEMBER);
+        assertThat(redisTemplate.hasKey("chat:members:room1")).isFalse();
+
+        assertThat(cache.lookup("room1", "user1", chatId -> Set.of("user2"))).isEqualTo(Membership.NOT_MEMBER);
+        assertThat(cache.lookup("room1", "user2", loader)).isEqualTo(Membership.MEMBER);
+        assertThat(loads).hasValue(0);
+    }
+
+    private RedisTemplate<String, String> redisTemplate() {
+        connectionFactory = new LettuceConnectionFactory("localhost", redisPort);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.delete(List.of("chat:members:room1", "chat:members:room1:gen", "chat:members:room2",
+                "chat:members:room2:gen"));
+        return redisTemplate;
+    }
+}
@@ -1,11 +1,16 @@
 package org.example.plain.domain.chat.service;
 
+import org.example.plain.domain.chat.dto.ChatMessageCursor;
 import org.example.plain.domain.chat.dto.ChatMessageDTO;
+import org.example.plain.domain.chat.dto.ChatMessagePage;
 import org.example.plain.domain.chat.dto.ChatRoomDTO;
+import org.example.plain.domain.chat.dto.ChatUnreadCount;
 import org.example.plain.domain.chat.entity.*;
 import org.example.plain.domain.chat.entity.id.ChatJoinId;
 import org.example.plain.domain.chat.repository.ChatJoinRepository;
 import org.example.plain.domain.chat.repository.ChatMessageRepository;
+import org.example.plain.domain.chat.repository.ChatMessageWriteBehind;
+import org.example.plain.domain.chat.repository.ChatReadCursorRepository;
 import org.example.plain.domain.chat.repository.ChatRoomRepository;
 import org.example.plain.domain.classLecture.entity.ClassLecture;
 import org.example.plain.domain.classLecture.repository.ClassLectureRepository;
@@ -16,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.springframework.web.client.HttpClientErrorException;
 
 import java.time.LocalDateTime;
@@ -25,7 +31,9 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +49,10 @@ class ClassChatServiceTest {
     private ClassLectureRepository classLectureRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private ChatMessageWriteBehind chatMessageWriteBehind;
+    @Mock
+    private ChatReadCursorRepository chatReadCursorRepository;
 
     private ClassChatService classChatService;
 
@@ -57,7 +69,10 @@ class ClassChatServiceTest {
                 chatMessageRepository,
                 chatJoinRepository,
                 classLectureRepository,
-                userRepository
+                userRepository,
+                chatMessageWriteBehind,
+                chatReadCursorRepository,
+                new ChatMembershipCache(null, false, 600)
         );
 
         testUser = User.builder()
@@ -128,10 +143,8 @@ class ClassChatServiceTest {
         // given
         when(chatRoomRepository.findByChatId("testChat"))
                 .thenReturn(Optional.of(testChatRoom));
-        when(chatJoinRepository.findByChatRoomAndUserId("testChat", "testUser"))
-                .thenReturn(Optional.of(testChatJoin));
-        when(chatMessageRepository.save(any(ChatMessage.class)))
-                .thenReturn(testMessage);
+        when(chatJoinRepository.findByIdChatId("testChat"))
+                .thenReturn(List.of(testChatJoin));
 
         // when
         ChatMessageDTO result = classChatService.sendMessage("testChat", "testUser", "Test Message");
@@ -139,8 +152,95 @@ class ClassChatServiceTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.getContent()).isEqualTo("Test Message");
-        verify(chatMessageRepository).save(any(ChatMessage.class));
-        verify(chatRoomRepository).save(any(ChatRoom.class));
+        assertThat(result.getSenderId()).isEqualTo("testUser");
+        verify(chatMessageWriteBehind).append(result);
+        verify(chatMessageRepository, never()).save(any(ChatMessage.class));
+        verify(chatRoomRepository, never()).save(any(ChatRoom.class));
+    }
+
+    @Test
+    void sendMessage_UsesMembershipCache() {
+        // given
+        when(chatRoomRepository.findByChatId("testChat"))
+                .thenReturn(Optional.of(testChatRoom));
+        when(chatJoinRepository.findByIdChatId("testChat"))
+                .thenReturn(List.of(testChatJoin));
+        when(chatJoinRepository.findById(new ChatJoinId("testChat", "testUser")))
+                .thenReturn(Optional.of(testChatJoin));
+
+        // when
+        classChatService.sendMessage("testChat", "testUser", "first");
+        classChatService.sendMessage("testChat", "testUser", "second");
+        classChatService.leaveChatRoom("testChat", "testUser");
+        when(chatJoinRepository.findByIdChatId("testChat"))
+                .thenReturn(List.of());
+
+        // then
+        assertThatThrownBy(() -> classChatService.sendMessage("testChat", "testUser", "third"))
+                .isInstanceOf(HttpClientErrorException.class)
+                .hasMessageContaining("채팅방에 참여하지 않은 사용자입니다");
+        verify(chatJoinRepository, times(2)).findByIdChatId("testChat");
+        verify(chatJoinRepository, never()).findByChatRoomAndUserId(any(), any());
+    }
+
+    @Test
+    void getMessages_IncludesPendingMessages() {
+        // given
+        ChatMessageDTO pending = ChatMessageDTO.builder()
+                .messageId("pendingMessage")
+                .chatId("testChat")
+                .content("Pending Message")
+                .messageStamp(testMessage.getMessageStamp().plusSeconds(1))
+                .build();
+        when(chatMessageWriteBehind.pending("testChat"))
+                .thenReturn(List.of(pending));
+        when(chatMessageRepository.findLatest(eq("testChat"), any(Pageable.class)))
+                .thenReturn(List.of(testMessage));
+
+        // when
+        ChatMessagePage result = classChatService.getMessages("testChat", null, 50);
+
+        // then
+        assertThat(result.getMessages()).extracting(ChatMessageDTO::getMessageId)
+                .containsExactly("pendingMessage", testMessage.getMessageId());
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getMessages_PagesWithCursor() {
+        // given
+        LocalDateTime stamp = LocalDateTime.of(2024, 3, 1, 12, 0);
+        List<ChatMessage> firstPage = List.of(
+                message("m3", stamp.plusSeconds(2)),
+                message("m2", stamp.plusSeconds(1)),
+                message("m1", stamp));
+        when(chatMessageRepository.findLatest(eq("testChat"), any(Pageable.class)))
+                .thenReturn(firstPage);
+
+        // when
+        ChatMessagePage page = classChatService.getMessages("testChat", null, 2);
+
+        // then
+        assertThat(page.getMessages()).extracting(ChatMessageDTO::getMessageId).containsExactly("m3", "m2");
+        assertThat(page.isHasNext()).isTrue();
+
+        ChatMessageCursor cursor = ChatMessageCursor.decode(page.getNextCursor());
+        assertThat(cursor.messageId()).isEqualTo("m2");
+        assertThat(cursor.messageStamp()).isEqualTo(stamp.plusSeconds(1));
+
+        when(chatMessageRepository.findBefore(eq("testChat"), eq(stamp.plusSeconds(1)), eq("m2"), any(Pageable.class)))
+                .thenReturn(List.of(message("m1", stamp)));
+        ChatMessagePage next = classChatService.getMessages("testChat", page.getNextCursor(), 2);
+        assertThat(next.getMessages()).extracting(ChatMessageDTO::getMessageId).containsExactly("m1");
+        assertThat(next.isHasNext()).isFalse();
+    }
+
+    @Test
+    void getMessages_InvalidCursor() {
+        assertThatThrownBy(() -> classChatService.getMessages("testChat", "not-a-cursor", 20))
+                .isInstanceOf(HttpClientErrorException.class)
+                .hasMessageContaining("잘못된 페이지 커서입니다");
     }
 
     @Test
@@ -192,31 +292,150 @@ class ClassChatServiceTest {
     void getMessages_Success() {
         // given
         List<ChatMessage> messages = Arrays.asList(testMessage);
-        when(chatMessageRepository.findByChatRoomChatIdOrderByMessageStampDesc("testChat"))
+        when(chatMessageRepository.findLatest(eq("testChat"), any(Pageable.class)))
                 .thenReturn(messages);
 
         // when
-        List<ChatMessageDTO> result = classChatService.getMessages("testChat");
+        ChatMessagePage result = classChatService.getMessages("testChat", null, 50);
 
         // then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getContent()).isEqualTo("Test Message");
+        assertThat(result.getMessages()).hasSize(1);
+        assertThat(result.getMessages().get(0).getContent()).isEqualTo("Test Message");
     }
 
     @Test
     void markMessagesAsRead_Success() {
         // given
-        List<ChatMessage> unreadMessages = Arrays.asList(testMessage);
-        when(chatJoinRepository.findByChatRoomAndUserId("testChat", "testUser"))
-                .thenReturn(Optional.of(testChatJoin));
-        when(chatMessageRepository.findByChatRoomChatIdAndIsCheckedFalseOrderByMessageStampDesc("testChat"))
-                .thenReturn(unreadMessages);
+        when(chatRoomRepository.findByChatId("testChat"))
+                .thenReturn(Optional.of(testChatRoom));
+        when(chatJoinRepository.findByIdChatId("testChat"))
+                .thenReturn(List.of(testChatJoin));
+        when(chatMessageRepository.findLatest(eq("testChat"), any(Pageable.class)))
+                .thenReturn(List.of(testMessage));
 
         // when
         classChatService.markMessagesAsRead("testChat", "testUser");
 
         // then
-        verify(chatMessageRepository).saveAll(anyList());
-        assertThat(unreadMessages.get(0).isChecked()).isTrue();
+        verify(chatReadCursorRepository).upsert("testChat", "testUser",
+                testMessage.getMessageStamp(), testMessage.getMessageId());
+        verify(chatMessageRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void getUnreadMessages_PagesDownToLastRead() {
+        // given
+        LocalDateTime stamp = LocalDateTime.of(2024, 3, 1, 12, 0);
+        when(chatReadCursorRepository.findById(new ChatJoinId("testChat", "testUser")))
+                .thenReturn(Optional.of(ChatReadCursor.builder()
+                        .id(new ChatJoinId("testChat", "testUser"))
+                        .lastReadStamp(stamp)
+                        .lastReadMessageId("m0")
+                        .build()));
+        when(chatMessageRepository.findAfter(eq("testChat"), eq(stamp), eq("m0"), any(Pageable.class)))
+                .thenReturn(List.of(
+                        message("m3", stamp.plusSeconds(3)),
+                        message("m2", stamp.plusSeconds(2)),
+                        message("m1", stamp.plusSeconds(1))));
+
+        // when
+        ChatMessagePage page = classChatService.getUnreadMessages("testChat", "testUser", null, 2);
+
+        // then
+        assertThat(page.getMessages()).extracting(ChatMessageDTO::getMessageId).containsExactly("m3", "m2");
+        assertThat(page.isHasNext()).isTrue();
+
+        when(chatMessageRepository.findBetween(eq("testChat"), eq(stamp), eq("m0"),
+                eq(stamp.plusSeconds(2)), eq("m2"), any(Pageable.class)))
+                .thenReturn(List.of(message("m1", stamp.plusSeconds(1))));
+        ChatMessagePage next = classChatService.getUnreadMessages("testChat", "testUser", page.getNextCursor(), 2);
+        assertThat(next.getMessages()).extracting(ChatMessageDTO::getMessageId).containsExactly("m1");
+        assertThat(next.isHasNext()).isFalse();
+        assertThat(next.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getUnreadCount_CountsAfterLastRead() {
+        // given
+        LocalDateTime stamp = LocalDateTime.of(2024, 3, 1, 12, 0);
+        when(chatReadCursorRepository.findById(new ChatJoinId("testChat", "testUser")))
+                .thenReturn(Optional.of(ChatReadCursor.builder()
+                        .id(new ChatJoinId("testChat", "testUser"))
+                        .lastReadStamp(stamp)
+                        .lastReadMessageId("m1")
+                        .build()));
+        when(chatMessageRepository.countAfter("testChat", stamp, "m1"))
+                .thenReturn(3L);
+        when(chatMessageWriteBehind.pending("testChat"))
+                .thenReturn(List.of(
+                        ChatMessageDTO.builder().messageId("p1").messageStamp(stamp.plusMinutes(1)).build(),
+                        ChatMessageDTO.builder().messageId("m0").messageStamp(stamp.minusMinutes(1)).build()));
+
+        // when
+        long unread = classChatService.getUnreadCount("testChat", "testUser");
+
+        // then
+        assertThat(unread).isEqualTo(4);
+    }
+
+    @Test
+    void getUnreadCount_NeverRead() {
+        // given
+        when(chatMessageRepository.countByChatRoomChatId("testChat"))
+                .thenReturn(7L);
+
+        // when & then
+        assertThat(classChatService.getUnreadCount("testChat", "testUser")).isEqualTo(7);
+    }
+
+    @Test
+    void getMyChatRooms_CountsUnreadWithoutPerRoomQueries() {
+        // given
+        LocalDateTime stamp = LocalDateTime.of(2024, 3, 1, 12, 0);
+        ChatRoom otherRoom = ChatRoom.builder()
+                .chatId("otherChat")
+                .lecture(testLecture)
+                .chatName("Other Chat")
+                .chatStatus(ChatStatus.ACTIVE)
+                .chatStamp(stamp)
+                .build();
+        ChatJoin otherJoin = ChatJoin.builder()
+                .id(new ChatJoinId("otherChat", "testUser"))
+                .user(testUser)
+                .chatRoom(otherRoom)
+                .build();
+        when(chatJoinRepository.findByIdUserId("testUser"))
+                .thenReturn(List.of(testChatJoin, otherJoin));
+        when(chatReadCursorRepository.findByIdUserId("testUser"))
+                .thenReturn(List.of(ChatReadCursor.builder()
+                        .id(new ChatJoinId("testChat", "testUser"))
+                        .lastReadStamp(stamp)
+                        .lastReadMessageId("m1")
+                        .build()));
+        when(chatMessageRepository.countUnreadByChatIds("testUser", List.of("testChat", "otherChat")))
+                .thenReturn(List.of(new ChatUnreadCount("testChat", 2L)));
+        when(chatMessageWriteBehind.pending("testChat"))
+                .thenReturn(List.of(ChatMessageDTO.builder().messageId("p1").messageStamp(stamp.plusMinutes(1)).build()));
+        when(chatMessageWriteBehind.pending("otherChat"))
+                .thenReturn(List.of(ChatMessageDTO.builder().messageId("p2").messageStamp(stamp.minusMinutes(1)).build()));
+
+        // when
+        List<ChatRoomDTO> rooms = classChatService.getMyChatRooms("testUser");
+
+        // then
+        assertThat(rooms).extracting(ChatRoomDTO::getChatId, ChatRoomDTO::getUnreadCount)
+                .containsExactly(tuple("testChat", 3), tuple("otherChat", 1));
+        verify(chatReadCursorRepository, never()).findById(any());
+        verify(chatMessageRepository, never()).countAfter(any(), any(), any());
+        verify(chatMessageRepository, never()).countByChatRoomChatId(any());
+    }
+
+    private ChatMessage message(String messageId, LocalDateTime stamp) {
+        return ChatMessage.builder()
+                .messageId(messageId)
+                .chatRoom(testChatRoom)
+                .content(messageId)
+                .messageStamp(stamp)
+                .build();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+package org.example.plain.domain.file.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.plain.domain.file.entity.FileBlobEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 네이티브 upsert 와 참조 수 쿼리를 실제 DB (H2, MySQL 모드) 에 돌려 본다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:file_blob;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class FileBlobRepositoryTest {
+    private static final String HASH = "a".repeat(64);
+
+    @Autowired
+    private FileBlobRepository blobRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("다시 등록해도 처음 객체 키와 참조 수를 유지한다")
+    void registerKeepsExistingBlob() {
+        LocalDateTime now = LocalDateTime.now();
+        blobRepository.register(HASH, "blobs/" + HASH + "/first", 3, "application/pdf", now.minusMinutes(10));
+        blobRepository.retain(HASH, now.minusMinutes(10));
+
+        blobRepository.register(HASH, "blobs/" + HASH + "/second", 3, "application/pdf", now);
+        entityManager.clear();
+
+        FileBlobEntity blob = blobRepository.findById(HASH).orElseThrow();
+        assertThat(blob.getObjectKey()).isEqualTo("blobs/" + HASH + "/first");
+        assertThat(blob.getContentType()).isEqualTo("application/pdf");
+        assertThat(blob.getRefCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("참조 수는 0 아래로 내려가지 않고, 참조가 없고 grace 가 지난 blob 만 지운다")
+    void retainReleaseAndDeleteUnreferenced() {
+        LocalDateTime registeredAt = LocalDateTime.now().minusHours(1);
+        blobRepository.register(HASH, "blobs/" + HASH + "/gen", 3, "text/plain", registeredAt);
+
+        assertThat(blobRepository.retain(HASH, registeredAt)).isEqualTo(1);
+        assertThat(blobRepository.deleteUnreferenced(HASH, LocalDateTime.now())).isZero();
+
+        assertThat(blobRepository.release(HASH, registeredAt)).isEqualTo(1);
+        assertThat(blobRepository.release(HASH, registeredAt)).isZero();
+        entityManager.clear();
+        assertThat(blobRepository.findById(HASH).orElseThrow().getRefCount()).isZero();
+        assertThat(blobRepository.findTop100ByRefCountLessThanEqualAndUpdatedAtBefore(0, LocalDateTime.now()))
+                .extracting(FileBlobEntity::getHash)
+                .containsExactly(HASH);
+
+        // grace 기간 안이면 지우지 않는다
+        assertThat(blobRepository.deleteUnreferenced(HASH, registeredAt.minusMinutes(1))).isZero();
+        assertThat(blobRepository.deleteUnreferenced(HASH, LocalDateTime.now())).isEqualTo(1);
+        entityManager.clear();
+        assertThat(blobRepository.findById(HASH)).isEmpty();
+    }
+}
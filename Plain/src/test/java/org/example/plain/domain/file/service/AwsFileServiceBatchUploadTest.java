@@ -0,0 +1,71 @@
+package org.example.plain.domain.file.service;
+
+import org.example.plain.domain.file.dto.FileData;
+import org.example.plain.domain.file.dto.FileInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AwsFileServiceBatchUploadTest {
+    private static final String BUCKET = "plain-test-s3";
+
+    private final LocalS3Stub s3 = new LocalS3Stub();
+    private final S3MultipartUploader uploader = new S3MultipartUploader(s3, 64 * 1024, 2, 2, false);
+    private AwsFileServiceImpl fileService;
+
+    @BeforeEach
+    void setUp() {
+        fileService = new AwsFileServiceImpl(s3, uploader, null, 64);
+        ReflectionTestUtils.setField(fileService, "bucket", BUCKET);
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("파일을 입력 순서대로 올리고 결과를 돌려준다")
+    void uploadsInInputOrder() {
+        List<MultipartFile> files = files(10);
+
+        List<FileInfo> infos = fileService.uploadFiles(new FileData(null, null), files, "submission", "user1");
+
+        assertThat(infos).extracting(FileInfo::getFilename)
+                .containsExactlyElementsOf(files.stream().map(file -> "submission/user1/" + file.getOriginalFilename()).toList());
+        assertThat(s3.keys()).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("하나라도 실패하면 이번에 올린 파일만 지우고 실패를 던진다")
+    void deletesNewlyUploadedFilesOnFailure() {
+        List<MultipartFile> files = files(6);
+        fileService.uploadSingleFile(new FileData(files.get(0), null), "submission");
+        s3.failPutOnce("submission/file-3.txt");
+
+        assertThatThrownBy(() -> fileService.uploadFiles(new FileData(null, null), files, "submission"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("submission/file-3.txt");
+
+        // 호출 전에 이미 있던 파일은 남는다
+        assertThat(s3.keys()).containsExactly("submission/file-0.txt");
+    }
+
+    private static List<MultipartFile> files(int count) {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            files.add(new MockMultipartFile("file", "file-" + i + ".txt", "text/plain", ("content " + i).getBytes()));
+        }
+        return files;
+    }
+}
@@ -11,8 +11,10 @@ import org.example.plain.domain.file.interfaces.FileDatabaseService;
 import org.example.plain.domain.homework.entity.WorkEntity;
 import org.example.plain.domain.homework.entity.WorkMemberEntity;
 import org.example.plain.domain.file.repository.FileRepository;
+import org.example.plain.domain.file.repository.FileBlobRepository;
 import org.example.plain.domain.user.entity.User;
 import org.example.plain.repository.WorkMemberRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -51,6 +53,7 @@ class AwsFileServiceImplTest {
     @Mock
     private FileDatabaseService fileDatabaseService;
 
+    private S3MultipartUploader uploader;
     private AwsFileServiceImpl awsFileService;
 
     private User testUser;
@@ -62,7 +65,8 @@ class AwsFileServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        awsFileService = new AwsFileServiceImpl(amazonS3);
+        uploader = new S3MultipartUploader(amazonS3, 64 * 1024, 1, 1, false);
+        awsFileService = new AwsFileServiceImpl(amazonS3, uploader, new FileBlobStore(mock(FileBlobRepository.class)), 64);
         
         // Set bucket value using ReflectionTestUtils
         ReflectionTestUtils.setField(awsFileService, "bucket", BUCKET_NAME);
@@ -106,6 +110,11 @@ class AwsFileServiceImplTest {
         );
     }
 
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+    }
+
     @Test
     void uploadSingleFile_Success() {
         // given
@@ -0,0 +1,171 @@
+package org.example.plain.domain.file.service;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import org.example.plain.common.ResponseField;
+import org.example.plain.domain.file.dto.DirectUploadCompleteRequest;
+import org.example.plain.domain.file.dto.DirectUploadRequest;
+import org.example.plain.domain.file.dto.LectureFileData;
+import org.example.plain.domain.file.dto.PresignedUpload;
+import org.example.plain.domain.file.entity.FileUploadStatus;
+import org.example.plain.domain.file.interfaces.FileDatabaseService;
+import org.example.plain.domain.file.repository.FileBlobRepository;
+import org.example.plain.domain.lecture.entity.LectureEntity;
+import org.example.plain.domain.lecture.entity.LectureFileEntity;
+import org.example.plain.domain.lecture.repository.LectureFileRepository;
+import org.example.plain.domain.lecture.repository.LectureRepository;
+import org.example.plain.domain.lecture.service.impl.LectureFileBusinessImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AwsFileServicePresignTest {
+    private static final String BUCKET = "plain-test-s3";
+
+    private final LocalS3Stub s3 = new LocalS3Stub();
+    private final S3MultipartUploader uploader = new S3MultipartUploader(s3, 64 * 1024, 1, 1, false);
+    private final AwsFileServiceImpl fileService =
+            new AwsFileServiceImpl(s3, uploader, new FileBlobStore(mock(FileBlobRepository.class)), 64);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(fileService, "bucket", BUCKET);
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("presigned PUT 으로 올린 파일을 presigned GET 으로 내려받는다")
+    void uploadsAndDownloadsThroughPresignedUrls() throws Exception {
+        PresignedUpload upload = fileService.presignUpload("notes.pdf", "application/pdf", "lecture1");
+
+        s3.putPresigned(new URL(upload.getUploadUrl()), "application/pdf", "pdf".getBytes());
+
+        assertThat(upload.getKey()).matches("lecture1/[0-9a-f-]{36}/notes\\.pdf");
+        assertThat(fileService.exists(upload.getKey())).isTrue();
+        assertThat(s3.putObjects()).isZero();
+        String downloadUrl = fileService.presignDownload(upload.getFileUrl());
+        assertThat(s3.getPresigned(new URL(downloadUrl))).isEqualTo("pdf".getBytes());
+    }
+
+    @Test
+    @DisplayName("blob URL 은 원래 파일명과 Content-Type 으로 내려받도록 발급한다")
+    void presignsDownloadWithOriginalNameAndType() throws Exception {
+        String blobUrl = "https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/blobs/" + "a".repeat(64) + "/gen";
+        s3.putObject(new PutObjectRequest(BUCKET, "blobs/" + "a".repeat(64) + "/gen",
+                new ByteArrayInputStream("pdf".getBytes()), new ObjectMetadata()));
+
+        URL url = new URL(fileService.presignDownload(blobUrl, "lecture1/강의 노트.pdf", "application/pdf"));
+
+        String query = URLDecoder.decode(url.getQuery(), StandardCharsets.UTF_8);
+        assertThat(query).contains("response-content-type=application/pdf");
+        assertThat(query).contains("response-content-disposition=attachment;");
+        assertThat(query).contains("filename*=UTF-8''" + URLEncoder.encode("강의 노트.pdf", StandardCharsets.UTF_8).replace("+", "%20"));
+        assertThat(s3.getPresigned(url)).isEqualTo("pdf".getBytes());
+    }
+
+    @Test
+    @DisplayName("다른 Content-Type 이나 만료된 URL 로는 올릴 수 없다")
+    void rejectsMismatchedOrExpiredUpload() throws Exception {
+        PresignedUpload upload = fileService.presignUpload("notes.pdf", "application/pdf", "lecture1");
+        assertThatThrownBy(() -> s3.putPresigned(new URL(upload.getUploadUrl()), "text/html", "<script>".getBytes()))
+                .isInstanceOf(AmazonServiceException.class);
+
+        ReflectionTestUtils.setField(fileService, "uploadUrlExpirySeconds", -1L);
+        PresignedUpload expired = fileService.presignUpload("notes.pdf", "application/pdf", "lecture1");
+        assertThatThrownBy(() -> s3.putPresigned(new URL(expired.getUploadUrl()), "application/pdf", "pdf".getBytes()))
+                .isInstanceOf(AmazonServiceException.class)
+                .hasMessageContaining("expired");
+
+        assertThat(s3.keys()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("경로가 들어간 파일명으로는 URL 을 발급하지 않는다")
+    void rejectsFilenameWithPath() {
+        assertThatThrownBy(() -> fileService.presignUpload("../other/notes.pdf", "application/pdf", "lecture1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("같은 파일명으로 발급받아도 요청마다 다른 키를 받는다")
+    void issuesDistinctKeysForSameFilename() {
+        PresignedUpload first = fileService.presignUpload("notes.pdf", "application/pdf", "lecture1");
+        PresignedUpload second = fileService.presignUpload("notes.pdf", "application/pdf", "lecture1");
+
+        assertThat(first.getKey()).isNotEqualTo(second.getKey());
+    }
+
+    @Test
+    @DisplayName("발급한 형식이 아닌 키는 업로드 키로 인정하지 않는다")
+    void rejectsForeignUploadKeys() {
+        String valid = fileService.presignUpload("notes.pdf", "application/pdf", "lecture1").getKey();
+
+        assertThat(fileService.locateUpload(valid, "lecture1").getFilename()).isEqualTo(valid);
+        assertThatThrownBy(() -> fileService.locateUpload(valid, "lecture2"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> fileService.locateUpload("lecture1/notes.pdf", "lecture1"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> fileService.locateUpload(valid.replace("notes.pdf", "a/b.pdf"), "lecture1"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> fileService.locateUpload(valid.replace("notes.pdf", "a\\b.pdf"), "lecture1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("직접 올린 강의 파일은 완료 요청 때 S3 에 있을 때만 등록된다")
+    void completesLectureFileUpload() throws Exception {
+        LectureRepository lectureRepository = mock(LectureRepository.class);
+        FileDatabaseService fileDatabaseService = mock(FileDatabaseService.class);
+        LectureFileEntity saved = new LectureFileEntity();
+        when(lectureRepository.findById("lecture1")).thenReturn(Optional.of(LectureEntity.builder().id("lecture1").build()));
+        when(fileDatabaseService.save(any(), any(), any())).thenReturn(saved);
+        LectureFileRepository lectureFileRepository = mock(LectureFileRepository.class);
+        LectureFileBusinessImpl lectureFileService = new LectureFileBusinessImpl(fileService, null, null,
+                fileDatabaseService, lectureRepository, lectureFileRepository);
+
+        PresignedUpload upload = lectureFileService.createLectureFileUploadUrl("lecture1",
+                new DirectUploadRequest("notes.pdf", "application/pdf")).getBody();
+        DirectUploadCompleteRequest request = new DirectUploadCompleteRequest(upload.getKey());
+        assertThatThrownBy(() -> lectureFileService.completeLectureFileUpload("lecture1", request))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(fileDatabaseService, never()).save(any(), any(), any());
+
+        s3.putPresigned(new URL(upload.getUploadUrl()), "application/pdf", "pdf".getBytes());
+        ResponseField<String> result = lectureFileService.completeLectureFileUpload("lecture1", request);
+
+        assertThat(result.getBody()).isEqualTo(upload.getFileUrl());
+        verify(fileDatabaseService).save(eq(upload.getKey()), eq(upload.getFileUrl()), any(LectureFileData.class));
+        assertThat(saved.getUploadStatus()).isEqualTo(FileUploadStatus.READY);
+
+        // 같은 키로 다시 완료하면 새 행을 만들지 않는다
+        when(lectureFileRepository.findByFilenameAndFilePath(upload.getKey(), upload.getFileUrl()))
+                .thenReturn(Optional.of(saved));
+        assertThat(lectureFileService.completeLectureFileUpload("lecture1", request).getBody())
+                .isEqualTo(upload.getFileUrl());
+        verify(fileDatabaseService, times(1)).save(any(), any(), any());
+    }
+}
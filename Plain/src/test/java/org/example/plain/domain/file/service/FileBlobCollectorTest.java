@@ -0,0 +1,63 @@
+package org.example.plain.domain.file.service;
+
+import org.example.plain.domain.file.repository.FileBlobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FileBlobCollectorTest {
+    private static final String BUCKET = "plain-test-s3";
+
+    private final LocalS3Stub s3 = new LocalS3Stub();
+    private final FileBlobRepository blobRepository = mock(FileBlobRepository.class);
+    private final FileBlobCollector collector =
+            new FileBlobCollector(s3, blobRepository, mock(PlatformTransactionManager.class), 60, 3600);
+
+    private final S3MultipartUploader uploader = new S3MultipartUploader(s3, 64 * 1024, 1, 1, false);
+
+    @AfterEach
+    void tearDown() {
+        collector.shutdown();
+        uploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("참조가 없는 blob 만 지우고, 그 사이 다시 참조된 blob 은 남긴다")
+    void deletesOnlyUnreferencedBlobs() throws IOException {
+        ReflectionTestUtils.setField(collector, "bucket", BUCKET);
+        String unused = FileBlobStoreTest.sha256("unused");
+        String retained = FileBlobStoreTest.sha256("retained");
+        putObject(FileBlobStore.KEY_PREFIX + unused + "/1");
+        putObject(FileBlobStore.KEY_PREFIX + retained + "/1");
+        when(blobRepository.findTop100ByRefCountLessThanEqualAndUpdatedAtBefore(anyInt(), any())).thenReturn(List.of(
+                FileBlobStoreTest.blob(unused, FileBlobStore.KEY_PREFIX + unused + "/1"),
+                FileBlobStoreTest.blob(retained, FileBlobStore.KEY_PREFIX + retained + "/1")));
+        when(blobRepository.deleteUnreferenced(eq(unused), any())).thenReturn(1);
+        when(blobRepository.deleteUnreferenced(eq(retained), any())).thenReturn(0);
+
+        assertThat(collector.collect()).isEqualTo(1);
+
+        assertThat(s3.keys()).containsExactly(FileBlobStore.KEY_PREFIX + retained + "/1");
+        assertThat(collector.getMetrics().collected()).isEqualTo(1);
+        assertThat(collector.getMetrics().skipped()).isEqualTo(1);
+    }
+
+    private void putObject(String key) throws IOException {
+        AwsFileServiceImpl fileService = new AwsFileServiceImpl(s3, uploader, new FileBlobStore(blobRepository), 64);
+        ReflectionTestUtils.setField(fileService, "bucket", BUCKET);
+        fileService.uploadObject(key, new ByteArrayInputStream(key.getBytes()), key.length(), "text/plain");
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.plain.domain.file.service;
+
+import org.example.plain.domain.file.entity.FileBlobEntity;
+import org.example.plain.domain.file.entity.WorkFileEntity;
+import org.example.plain.domain.file.repository.FileBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FileBlobStoreTest {
+    private static final String BUCKET = "plain-test-s3";
+    private static final String HASH_A = sha256("a");
+    private static final String HASH_B = sha256("b");
+
+    private final FileBlobRepository blobRepository = mock(FileBlobRepository.class);
+    private final FileBlobStore blobStore = new FileBlobStore(blobRepository);
+
+    @BeforeEach
+    void setUp() {
+        when(blobRepository.retain(anyString(), any())).thenReturn(1);
+    }
+
+    @Test
+    @DisplayName("다른 blob 을 가리키게 되면 새 blob 을 잡고 이전 blob 을 놓는다")
+    void movesReferenceOnAttach() {
+        WorkFileEntity file = new WorkFileEntity();
+
+        assertThat(blobStore.attach(file, urlOf(HASH_A))).isTrue();
+        assertThat(blobStore.attach(file, urlOf(HASH_A))).isFalse();
+        assertThat(blobStore.attach(file, urlOf(HASH_B))).isTrue();
+
+        verify(blobRepository, times(1)).retain(eq(HASH_A), any());
+        verify(blobRepository).release(eq(HASH_A), any());
+        verify(blobRepository).retain(eq(HASH_B), any());
+        assertThat(file.getBlobHash()).isEqualTo(HASH_B);
+        assertThat(file.getFilePath()).isEqualTo(urlOf(HASH_B));
+    }
+
+    @Test
+    @DisplayName("같은 파일 행을 두 번 지워도 참조는 한 번만 줄어든다")
+    void detachesOnce() {
+        WorkFileEntity file = new WorkFileEntity();
+        blobStore.attach(file, urlOf(HASH_A));
+
+        blobStore.detach(file);
+        blobStore.detach(file);
+
+        verify(blobRepository, times(1)).release(eq(HASH_A), any());
+        assertThat(file.getBlobHash()).isNull();
+    }
+
+    @Test
+    @DisplayName("blob URL 인 파일을 지우면 객체는 남기고 참조만 놓는다")
+    void deleteFileReleasesBlob() throws IOException {
+        LocalS3Stub s3 = new LocalS3Stub();
+        S3MultipartUploader uploader = new S3MultipartUploader(s3, 64 * 1024, 1, 1, false);
+        AwsFileServiceImpl fileService = new AwsFileServiceImpl(s3, uploader, blobStore, 64);
+        ReflectionTestUtils.setField(fileService, "bucket", BUCKET);
+        String key = FileBlobStore.KEY_PREFIX + HASH_A + "/1";
+        fileService.uploadObject(key, new ByteArrayInputStream("a".getBytes()), 1, "text/plain");
+        WorkFileEntity file = new WorkFileEntity();
+        blobStore.attach(file, s3.getUrl(BUCKET, key).toString());
+
+        fileService.deleteFile(file);
+
+        assertThat(s3.keys()).containsExactly(key);
+        verify(blobRepository).release(eq(HASH_A), any());
+        uploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("blob URL 이 아니면 해시가 없다")
+    void parsesHashOnlyFromBlobUrl() {
+        assertThat(FileBlobStore.hashOf(urlOf(HASH_A))).isEqualTo(HASH_A);
+        assertThat(FileBlobStore.hashOf("https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/lecture1/notes.pdf")).isNull();
+        assertThat(FileBlobStore.hashOf("https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/blobs/notes.pdf/1")).isNull();
+
+        WorkFileEntity legacy = new WorkFileEntity();
+        assertThat(blobStore.attach(legacy, "https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/lecture1/notes.pdf")).isFalse();
+        verify(blobRepository, never()).retain(anyString(), any());
+    }
+
+    static FileBlobEntity blob(String hash, String objectKey) {
+        FileBlobEntity blob = new FileBlobEntity();
+        ReflectionTestUtils.setField(blob, "hash", hash);
+        ReflectionTestUtils.setField(blob, "objectKey", objectKey);
+        return blob;
+    }
+
+    static String sha256(String content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String urlOf(String hash) {
+        return "https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/" + FileBlobStore.KEY_PREFIX + hash + "/1";
+    }
+}
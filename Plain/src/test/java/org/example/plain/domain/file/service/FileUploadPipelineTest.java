@@ -0,0 +1,204 @@
+package org.example.plain.domain.file.service;
+
+import org.example.plain.domain.file.dto.FileInfo;
+import org.example.plain.domain.file.entity.FileBlobEntity;
+import org.example.plain.domain.file.entity.FileUploadStatus;
+import org.example.plain.domain.file.entity.FileUploadTaskEntity;
+import org.example.plain.domain.file.entity.WorkFileEntity;
+import org.example.plain.domain.file.repository.FileUploadTaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FileUploadPipelineTest {
+    private static final String BUCKET = "plain-test-s3";
+
+    @TempDir
+    Path stagingDir;
+
+    private final LocalS3Stub s3 = new LocalS3Stub();
+    private final Map<Long, FileUploadTaskEntity> tasks = new ConcurrentHashMap<>();
+    private final FileUploadStatusUpdater statusUpdater = mock(FileUploadStatusUpdater.class);
+    private final Map<String, FileBlobEntity> blobs = new ConcurrentHashMap<>();
+    private final S3MultipartUploader uploader = new S3MultipartUploader(s3, 64 * 1024, 1, 1, false);
+    private final FileBlobStore blobStore = blobStore();
+    private FileUploadPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        AwsFileServiceImpl fileService = new AwsFileServiceImpl(s3, uploader, blobStore, 64);
+        ReflectionTestUtils.setField(fileService, "bucket", BUCKET);
+        when(statusUpdater.mark(any(), any(), any())).thenReturn(1);
+        pipeline = new FileUploadPipeline(fileService, taskRepository(), statusUpdater, blobStore,
+                stagingDir.toString(), 2, 2, 0, 24, 3600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+        uploader.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("커밋된 뒤에 올리고 파일 행을 READY 로 바꾼다")
+    void uploadsAfterCommit() throws IOException {
+        TransactionSynchronizationManager.initSynchronization();
+
+        List<FileInfo> infos = pipeline.stage(List.of(file("a.txt"), file("b.txt")), WorkFileEntity.class, "assignment", "work1");
+
+        assertThat(infos).extracting(FileInfo::getFilename).containsExactly("assignment/work1/a.txt", "assignment/work1/b.txt");
+        assertThat(infos.get(0).getFileUrl()).contains("/blobs/" + FileBlobStoreTest.sha256("content of a.txt") + "/");
+        assertThat(s3.keys()).isEmpty();
+        assertThat(stagedFiles()).hasSize(2);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        await().atMost(Duration.ofSeconds(5)).until(tasks::isEmpty);
+        assertThat(s3.object(keyOf(infos.get(0)))).isEqualTo("content of a.txt".getBytes());
+        verify(statusUpdater).mark("WorkFileEntity", infos.get(1).getFileUrl(), FileUploadStatus.READY);
+        assertThat(stagedFiles()).isEmpty();
+        assertThat(pipeline.getMetrics().uploaded()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("롤백되면 올리지 않고 스테이징 파일을 지운다")
+    void discardsStagedFileOnRollback() throws IOException {
+        TransactionSynchronizationManager.initSynchronization();
+
+        pipeline.stage(file("a.txt"), WorkFileEntity.class, "assignment");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(stagedFiles()).isEmpty();
+        assertThat(s3.keys()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재시도를 모두 실패하면 FAILED 로 바꾼다")
+    void failsAfterMaxAttempts() throws IOException {
+        TransactionSynchronizationManager.initSynchronization();
+        FileInfo info = pipeline.stage(file("a.txt"), WorkFileEntity.class, "assignment");
+        FileUploadTaskEntity task = tasks.values().iterator().next();
+        s3.failPutOnce(keyOf(info));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        await().atMost(Duration.ofSeconds(5)).until(() -> task.getAttempts() == 1);
+        assertThat(task.getStatus()).isEqualTo(FileUploadStatus.PENDING);
+
+        s3.failPutOnce(keyOf(info));
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            pipeline.reconcile();
+            assertThat(task.getStatus()).isEqualTo(FileUploadStatus.FAILED);
+        });
+
+        verify(statusUpdater).mark("WorkFileEntity", info.getFileUrl(), FileUploadStatus.FAILED);
+        assertThat(s3.keys()).isEmpty();
+        assertThat(stagedFiles()).isEmpty();
+        assertThat(pipeline.getMetrics().retries()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 내용의 파일은 한 번만 올리고 같은 blob 을 가리킨다")
+    void deduplicatesSameContent() {
+        FileInfo first = pipeline.stage(file("notes.pdf"), WorkFileEntity.class, "class1");
+        await().atMost(Duration.ofSeconds(5)).until(tasks::isEmpty);
+        FileInfo second = pipeline.stage(file("notes.pdf"), WorkFileEntity.class, "class2");
+        await().atMost(Duration.ofSeconds(5)).until(tasks::isEmpty);
+
+        assertThat(first.getFilename()).isEqualTo("class1/notes.pdf");
+        assertThat(second.getFilename()).isEqualTo("class2/notes.pdf");
+        assertThat(second.getFileUrl()).isEqualTo(first.getFileUrl());
+        assertThat(s3.putObjects()).isEqualTo(1);
+        assertThat(pipeline.getMetrics().deduplicated()).isEqualTo(1);
+        verify(statusUpdater, times(2)).mark("WorkFileEntity", first.getFileUrl(), FileUploadStatus.READY);
+    }
+
+    @Test
+    @DisplayName("이름이 같아도 내용이 다르면 따로 올린다")
+    void uploadsDifferentContentWithSameName() {
+        FileInfo first = pipeline.stage(file("a.txt"), WorkFileEntity.class, "assignment");
+        FileInfo second = pipeline.stage(new MockMultipartFile("file", "a.txt", "text/plain", "changed".getBytes()),
+                WorkFileEntity.class, "assignment");
+        await().atMost(Duration.ofSeconds(5)).until(tasks::isEmpty);
+
+        assertThat(second.getFilename()).isEqualTo(first.getFilename());
+        assertThat(second.getFileUrl()).isNotEqualTo(first.getFileUrl());
+        assertThat(s3.object(keyOf(first))).isEqualTo("content of a.txt".getBytes());
+        assertThat(s3.object(keyOf(second))).isEqualTo("changed".getBytes());
+    }
+
+    private FileBlobStore blobStore() {
+        FileBlobStore blobStore = mock(FileBlobStore.class);
+        when(blobStore.register(any(), anyLong(), any())).thenAnswer(invocation -> blobs.computeIfAbsent(
+                invocation.getArgument(0), hash -> FileBlobStoreTest.blob(hash, FileBlobStore.KEY_PREFIX + hash + "/1")));
+        return blobStore;
+    }
+
+    private static String keyOf(FileInfo fileInfo) {
+        return URI.create(fileInfo.getFileUrl()).getPath().substring(1);
+    }
+
+    private FileUploadTaskRepository taskRepository() {
+        FileUploadTaskRepository repository = mock(FileUploadTaskRepository.class);
+        AtomicLong sequence = new AtomicLong();
+        when(repository.save(any())).thenAnswer(invocation -> {
+            FileUploadTaskEntity task = invocation.getArgument(0);
+            if (task.getId() == null) {
+                ReflectionTestUtils.setField(task, "id", sequence.incrementAndGet());
+            }
+            tasks.put(task.getId(), task);
+            return task;
+        });
+        when(repository.findById(any())).thenAnswer(invocation -> Optional.ofNullable(tasks.get(invocation.<Long>getArgument(0))));
+        doAnswer(invocation -> tasks.remove(invocation.<FileUploadTaskEntity>getArgument(0).getId()))
+                .when(repository).delete(any());
+        when(repository.findByStatusAndUpdatedAtBefore(any(), any())).thenAnswer(invocation -> tasks.values().stream()
+                .filter(task -> task.getStatus() == invocation.getArgument(0))
+                .filter(task -> !task.getUpdatedAt().isAfter(invocation.<LocalDateTime>getArgument(1)))
+                .toList());
+        when(repository.existsByStagedPath(any())).thenAnswer(invocation -> tasks.values().stream()
+                .anyMatch(task -> task.getStagedPath().equals(invocation.getArgument(0))));
+        return repository;
+    }
+
+    private List<Path> stagedFiles() throws IOException {
+        try (Stream<Path> files = Files.list(stagingDir)) {
+            return files.toList();
+        }
+    }
+
+    private static MockMultipartFile file(String name) {
+        return new MockMultipartFile("file", name, "text/plain", ("content of " + name).getBytes());
+    }
+}
@@ -0,0 +1,332 @@
+package org.example.plain.domain.file.service;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ListMultipartUploadsRequest;
+import com.amazonaws.services.s3.model.ListPartsRequest;
+import com.amazonaws.services.s3.model.MultipartUpload;
+import com.amazonaws.services.s3.model.MultipartUploadListing;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PartListing;
+import com.amazonaws.services.s3.model.PartSummary;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.ResponseHeaderOverrides;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 메모리 S3
+ * 객체 저장/조회/삭제와 멀티파트 업로드만 흉내 내며, 버킷은 구분하지 않는다.
+ * failPartOnce 로 특정 파트 업로드를, failPutOnce 로 특정 키의 putObject 를 한 번 실패시킬 수 있다.
+ * presigned URL 은 메서드, 키, Content-Type, 만료 시각으로 서명하며 putPresigned/getPresigned 가 클라이언트처럼 검증해 사용한다.
+ */
+public class LocalS3Stub extends AbstractAmazonS3 {
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, Upload> uploads = new ConcurrentHashMap<>();
+    private final Set<Integer> failingParts = ConcurrentHashMap.newKeySet();
+    private final Set<String> failingPuts = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger partUploads = new AtomicInteger();
+    private final AtomicInteger concurrentParts = new AtomicInteger();
+    private final AtomicInteger maxConcurrentParts = new AtomicInteger();
+    private final AtomicInteger putObjects = new AtomicInteger();
+    private final AtomicInteger concurrentPuts = new AtomicInteger();
+    private final AtomicInteger maxConcurrentPuts = new AtomicInteger();
+
+    public void failPartOnce(int partNumber) {
+        failingParts.add(partNumber);
+    }
+
+    public void failPutOnce(String key) {
+        failingPuts.add(key);
+    }
+
+    public byte[] object(String key) {
+        return objects.get(key);
+    }
+
+    public Set<String> keys() {
+        return objects.keySet();
+    }
+
+    public int pendingUploads() {
+        return uploads.size();
+    }
+
+    public int partUploads() {
+        return partUploads.get();
+    }
+
+    public int maxConcurrentParts() {
+        return maxConcurrentParts.get();
+    }
+
+    public int putObjects() {
+        return putObjects.get();
+    }
+
+    public int maxConcurrentPuts() {
+        return maxConcurrentPuts.get();
+    }
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest request) {
+        int concurrent = concurrentPuts.incrementAndGet();
+        maxConcurrentPuts.accumulateAndGet(concurrent, Math::max);
+        try {
+            Thread.sleep(5);
+            if (failingPuts.remove(request.getKey())) {
+                throw new AmazonServiceException("Injected failure for " + request.getKey());
+            }
+            putObjects.incrementAndGet();
+            byte[] bytes = readAll(request.getInputStream());
+            objects.put(request.getKey(), bytes);
+            PutObjectResult result = new PutObjectResult();
+            result.setETag(md5Hex(bytes));
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            concurrentPuts.decrementAndGet();
+        }
+    }
+
+    @Override
+    public boolean doesObjectExist(String bucketName, String key) {
+        return objects.containsKey(key);
+    }
+
+    @Override
+    public URL getUrl(String bucketName, String key) {
+        try {
+            return new URL("https://" + bucketName + ".s3.ap-northeast-2.amazonaws.com/" + key);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public void deleteObject(DeleteObjectRequest request) {
+        objects.remove(request.getKey());
+    }
+
+    @Override
+    public URL generatePresignedUrl(GeneratePresignedUrlRequest request) {
+        long expires = request.getExpiration().getTime();
+        String signature = sign(request.getMethod(), request.getKey(), request.getContentType(), expires);
+        StringBuilder overrides = new StringBuilder();
+        ResponseHeaderOverrides headers = request.getResponseHeaders();
+        if (headers != null && headers.getContentType() != null) {
+            overrides.append("&response-content-type=").append(URLEncoder.encode(headers.getContentType(), StandardCharsets.UTF_8));
+        }
+        if (headers != null && headers.getContentDisposition() != null) {
+            overrides.append("&response-content-disposition=").append(URLEncoder.encode(headers.getContentDisposition(), StandardCharsets.UTF_8));
+        }
+        try {
+            return new URL(getUrl(request.getBucketName(), request.getKey())
+                    + "?X-Amz-Expires=" + expires + "&X-Amz-Signature=" + signature + overrides);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * 클라이언트가 presigned PUT URL 로 직접 올리는 것을 흉내 낸다.
+     */
+    public void putPresigned(URL url, String contentType, byte[] body) {
+        objects.put(verifyPresigned(url, HttpMethod.PUT, contentType), body);
+    }
+
+    /**
+     * 클라이언트가 presigned GET URL 로 내려받는 것을 흉내 낸다.
+     */
+    public byte[] getPresigned(URL url) {
+        String key = verifyPresigned(url, HttpMethod.GET, null);
+        byte[] bytes = objects.get(key);
+        if (bytes == null) {
+            throw new AmazonServiceException("NoSuchKey " + key);
+        }
+        return bytes;
+    }
+
+    private String verifyPresigned(URL url, HttpMethod method, String contentType) {
+        Map<String, String> query = new HashMap<>();
+        for (String pair : url.getQuery().split("&")) {
+            int split = pair.indexOf('=');
+            query.put(pair.substring(0, split), pair.substring(split + 1));
+        }
+        String key = url.getPath().substring(1);
+        long expires = Long.parseLong(query.get("X-Amz-Expires"));
+        if (!sign(method, key, contentType, expires).equals(query.get("X-Amz-Signature"))) {
+            throw new AmazonServiceException("SignatureDoesNotMatch");
+        }
+        if (expires < System.currentTimeMillis()) {
+            throw new AmazonServiceException("Request has expired");
+        }
+        return key;
+    }
+
+    private static String sign(HttpMethod method, String key, String contentType, long expires) {
+        return md5Hex((method + "\n" + key + "\n" + contentType + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new Upload(request.getKey()));
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setUploadId(uploadId);
+        result.setKey(request.getKey());
+        return result;
+    }
+
+    @Override
+    public UploadPartResult uploadPart(UploadPartRequest request) {
+        int concurrent = concurrentParts.incrementAndGet();
+        maxConcurrentParts.accumulateAndGet(concurrent, Math::max);
+        try {
+            // 동시 업로드가 드러나도록 조금 기다린다
+            Thread.sleep(5);
+            if (failingParts.remove(request.getPartNumber())) {
+                throw new AmazonServiceException("Injected failure for part " + request.getPartNumber());
+            }
+            Upload upload = upload(request.getUploadId());
+            byte[] bytes = readAll(request.getInputStream());
+            String etag = md5Hex(bytes);
+            upload.parts.put(request.getPartNumber(), bytes);
+            partUploads.incrementAndGet();
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag(etag);
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            concurrentParts.decrementAndGet();
+        }
+    }
+
+    @Override
+    public MultipartUploadListing listMultipartUploads(ListMultipartUploadsRequest request) {
+        MultipartUploadListing listing = new MultipartUploadListing();
+        List<MultipartUpload> result = new ArrayList<>();
+        uploads.forEach((uploadId, upload) -> {
+            if (request.getPrefix() == null || upload.key.startsWith(request.getPrefix())) {
+                MultipartUpload summary = new MultipartUpload();
+                summary.setKey(upload.key);
+                summary.setUploadId(uploadId);
+                summary.setInitiated(upload.initiated);
+                result.add(summary);
+            }
+        });
+        listing.setMultipartUploads(result);
+        return listing;
+    }
+
+    @Override
+    public PartListing listParts(ListPartsRequest request) {
+        PartListing listing = new PartListing();
+        upload(request.getUploadId()).parts.forEach((partNumber, bytes) -> {
+            PartSummary summary = new PartSummary();
+            summary.setPartNumber(partNumber);
+            summary.setSize(bytes.length);
+            summary.setETag(md5Hex(bytes));
+            listing.getParts().add(summary);
+        });
+        listing.setTruncated(false);
+        return listing;
+    }
+
+    @Override
+    public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        Upload upload = uploads.remove(request.getUploadId());
+        if (upload == null) {
+            throw new AmazonServiceException("NoSuchUpload");
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (PartETag etag : request.getPartETags()) {
+            byte[] part = upload.parts.get(etag.getPartNumber());
+            if (part == null || !md5Hex(part).equals(etag.getETag())) {
+                throw new AmazonServiceException("InvalidPart " + etag.getPartNumber());
+            }
+            out.write(part, 0, part.length);
+        }
+        objects.put(upload.key, out.toByteArray());
+        CompleteMultipartUploadResult result = new CompleteMultipartUploadResult();
+        result.setKey(upload.key);
+        result.setETag(md5Hex(out.toByteArray()) + "-" + request.getPartETags().size());
+        return result;
+    }
+
+    @Override
+    public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+        uploads.remove(request.getUploadId());
+    }
+
+    private Upload upload(String uploadId) {
+        Upload upload = uploads.get(uploadId);
+        if (upload == null) {
+            throw new AmazonServiceException("NoSuchUpload");
+        }
+        return upload;
+    }
+
+    private static byte[] readAll(InputStream in) {
+        try (in) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String md5Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Upload {
+        private final String key;
+        private final Date initiated = new Date();
+        private final Map<Integer, byte[]> parts = new ConcurrentSkipListMap<>();
+
+        private Upload(String key) {
+            this.key = key;
+        }
+    }
+}
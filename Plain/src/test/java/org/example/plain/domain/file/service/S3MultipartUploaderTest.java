@@ -0,0 +1,99 @@
+package org.example.plain.domain.file.service;
+
+import org.example.plain.domain.file.dto.FileData;
+import org.example.plain.domain.file.dto.FileInfo;
+import org.example.plain.domain.file.repository.FileBlobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class S3MultipartUploaderTest {
+    private static final String BUCKET = "plain-test-s3";
+    private static final int PART_SIZE = 64 * 1024;
+
+    private final LocalS3Stub s3 = new LocalS3Stub();
+    private final S3MultipartUploader uploader = new S3MultipartUploader(s3, PART_SIZE, 3, 8, false);
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("파트를 나눠 병렬로 올리고 순서대로 합친다")
+    void uploadsPartsInParallel() throws IOException {
+        byte[] content = randomBytes(PART_SIZE * 10 + 123);
+
+        uploader.upload(BUCKET, "lecture/video.mp4", new ByteArrayInputStream(content), content.length, "video/mp4");
+
+        assertThat(s3.object("lecture/video.mp4")).isEqualTo(content);
+        assertThat(s3.partUploads()).isEqualTo(11);
+        assertThat(s3.maxConcurrentParts()).isBetween(2, 3);
+        assertThat(s3.pendingUploads()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패한 업로드는 다시 올릴 때 이미 올라간 파트를 건너뛴다")
+    void resumesFailedUpload() throws IOException {
+        byte[] content = randomBytes(PART_SIZE * 6);
+        s3.failPartOnce(4);
+
+        assertThatThrownBy(() -> uploader.upload(BUCKET, "lecture/video.mp4", new ByteArrayInputStream(content),
+                content.length, "video/mp4")).isInstanceOf(IOException.class);
+        assertThat(s3.object("lecture/video.mp4")).isNull();
+        assertThat(s3.pendingUploads()).isEqualTo(1);
+        int uploadedBeforeRetry = s3.partUploads();
+
+        uploader.upload(BUCKET, "lecture/video.mp4", new ByteArrayInputStream(content), content.length, "video/mp4");
+
+        assertThat(s3.object("lecture/video.mp4")).isEqualTo(content);
+        assertThat(s3.partUploads() - uploadedBeforeRetry).isEqualTo(6 - uploadedBeforeRetry);
+        assertThat(uploader.getMetrics().resumedParts()).isEqualTo(uploadedBeforeRetry);
+        assertThat(s3.pendingUploads()).isZero();
+    }
+
+    @Test
+    @DisplayName("스트림이 크기보다 짧으면 완료하지 않고 실패한다")
+    void failsOnShortStream() {
+        byte[] content = randomBytes(PART_SIZE * 2);
+
+        assertThatThrownBy(() -> uploader.upload(BUCKET, "short.bin", new ByteArrayInputStream(content),
+                content.length + PART_SIZE, "application/octet-stream"))
+                .isInstanceOf(IOException.class);
+        assertThat(s3.object("short.bin")).isNull();
+    }
+
+    @Test
+    @DisplayName("CloudFileService 는 threshold 이상인 파일만 멀티파트로 올린다")
+    void cloudFileServiceSelectsMultipartAboveThreshold() {
+        AwsFileServiceImpl fileService = new AwsFileServiceImpl(s3, uploader, new FileBlobStore(mock(FileBlobRepository.class)), 1);
+        ReflectionTestUtils.setField(fileService, "bucket", BUCKET);
+        MockMultipartFile small = new MockMultipartFile("file", "notes.txt", "text/plain", randomBytes(1024));
+        MockMultipartFile large = new MockMultipartFile("file", "video.mp4", "video/mp4", randomBytes(1024 * 1024 + 1));
+
+        FileInfo smallInfo = fileService.uploadSingleFile(new FileData(small, "notes.txt"), "lecture");
+        FileInfo largeInfo = fileService.uploadSingleFile(new FileData(large, "video.mp4"), "lecture");
+
+        assertThat(s3.putObjects()).isEqualTo(1);
+        assertThat(s3.partUploads()).isEqualTo(17);
+        assertThat(smallInfo.getFilename()).isEqualTo("lecture/notes.txt");
+        assertThat(largeInfo.getFileUrl()).endsWith("/lecture/video.mp4");
+        assertThat(s3.object("lecture/video.mp4")).hasSize(1024 * 1024 + 1);
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
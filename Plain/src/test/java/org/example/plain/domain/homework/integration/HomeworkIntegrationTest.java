@@ -23,6 +23,7 @@ import org.example.plain.domain.classMember.entity.ClassMemberId;
 import org.example.plain.domain.classMember.repository.ClassMemberRepository;
 import org.example.plain.domain.classLecture.repository.ClassLectureRepository;
 import org.example.plain.domain.user.service.JWTUtil;
+import org.example.plain.domain.homework.dto.response.SubmissionFileResponse;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -421,7 +422,7 @@ public class HomeworkIntegrationTest {
             submissionService.submit(submitField);
 
             // then
-            List<String> submissions = submissionService.getSubmissionFiles(TEST_WORK_ID, TEST_STUDENT_ID);
+            List<SubmissionFileResponse> submissions = submissionService.getSubmissionFiles(TEST_WORK_ID, TEST_STUDENT_ID);
             assertThat(submissions).isNotEmpty();
         }
 
@@ -10,6 +10,7 @@ import org.example.plain.domain.file.dto.SubmitFileInfo;
 import org.example.plain.domain.file.entity.WorkFileEntity;
 import org.example.plain.domain.file.interfaces.CloudFileService;
 import org.example.plain.domain.file.interfaces.FileDatabaseService;
+import org.example.plain.domain.file.service.FileUploadPipeline;
 import org.example.plain.domain.homework.dto.Work;
 import org.example.plain.domain.homework.dto.WorkSubmitField;
 import org.example.plain.domain.homework.dto.response.WorkResponse;
@@ -20,6 +21,7 @@ import org.example.plain.domain.homework.interfaces.WorkService;
 import org.example.plain.domain.user.entity.User;
 import org.example.plain.repository.BoardRepository;
 import org.example.plain.repository.WorkMemberRepository;
+import org.example.plain.domain.homework.dto.response.SubmissionFileResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,6 +41,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +52,9 @@ class SubmissionServiceImplTest {
     @Mock
     private CloudFileService fileService;
 
+    @Mock
+    private FileUploadPipeline uploadPipeline;
+
     @Mock
     private WorkMemberRepository workMemberRepository;
 
@@ -77,7 +84,7 @@ class SubmissionServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        submissionService = new SubmissionServiceImpl(fileService,fileDatabaseService, workMemberRepository, groupMemberRepository, boardRepository);
+        submissionService = new SubmissionServiceImpl(fileService, uploadPipeline, fileDatabaseService, workMemberRepository, groupMemberRepository, boardRepository);
 
         testUser = User.builder()
                 .id("testUser")
@@ -165,7 +172,7 @@ class SubmissionServiceImplTest {
                 .thenReturn(Optional.of(testWorkMember));
         when(groupMemberRepository.findById(any(ClassMemberId.class)))
                 .thenReturn(Optional.of(testClassMember));
-        when(fileService.uploadFiles(any(SubmitFileData.class), any()))
+        when(uploadPipeline.stage(anyList(), eq(WorkFileEntity.class), any(String[].class)))
                 .thenReturn(fileInfos);
 
         // when
@@ -173,7 +180,7 @@ class SubmissionServiceImplTest {
 
         // then
         verify(workMemberRepository).save(any(WorkMemberEntity.class));
-        verify(fileService).uploadFiles(any(SubmitFileData.class), any());
+        verify(uploadPipeline).stage(anyList(), eq(WorkFileEntity.class), any(String[].class));
         
         WorkMemberEntity savedEntity = testWorkMember;
         assertThat(savedEntity.isSubmited()).isTrue();
@@ -200,7 +207,7 @@ class SubmissionServiceImplTest {
                 .hasMessageContaining("클래스 멤버가 아닙니다");
 
         verify(workMemberRepository, never()).save(any(WorkMemberEntity.class));
-        verify(fileService, never()).uploadFiles(any(), any());
+        verify(uploadPipeline, never()).stage(anyList(), any(), any(String[].class));
     }
 
     @Test
@@ -223,7 +230,7 @@ class SubmissionServiceImplTest {
                 .hasMessageContaining("과제 제출 기한이 지났습니다");
 
         verify(workMemberRepository, never()).save(any(WorkMemberEntity.class));
-        verify(fileService, never()).uploadFiles(any(), any());
+        verify(uploadPipeline, never()).stage(anyList(), any(), any(String[].class));
     }
 
     @Test
@@ -236,11 +243,11 @@ class SubmissionServiceImplTest {
                 .thenReturn(Optional.of(testClassMember));
 
         // when
-        List<String> result = submissionService.getSubmissionFiles("testWorkId", "testUser");
+        List<SubmissionFileResponse> result = submissionService.getSubmissionFiles("testWorkId", "testUser");
 
         // then
         assertThat(result).hasSize(2);
-        assertThat(result).containsExactly(
+        assertThat(result).extracting(SubmissionFileResponse::getFilePath).containsExactly(
             "https://test-bucket.s3.amazonaws.com/test1.txt",
             "https://test-bucket.s3.amazonaws.com/test2.txt"
         );
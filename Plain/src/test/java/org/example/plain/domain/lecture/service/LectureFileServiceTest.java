@@ -2,8 +2,11 @@ package org.example.plain.domain.lecture.service;
 
 import org.example.plain.common.ResponseField;
 import org.example.plain.domain.file.dto.FileInfo;
+import org.example.plain.domain.file.entity.FileUploadStatus;
 import org.example.plain.domain.file.interfaces.CloudFileService;
 import org.example.plain.domain.file.interfaces.FileDatabaseService;
+import org.example.plain.domain.file.service.FileBlobStore;
+import org.example.plain.domain.file.service.FileUploadPipeline;
 import org.example.plain.domain.lecture.dto.LectureFileResponse;
 import org.example.plain.domain.lecture.entity.LectureEntity;
 import org.example.plain.domain.lecture.entity.LectureFileEntity;
@@ -31,6 +34,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +55,12 @@ public class LectureFileServiceTest {
     @Mock
     private FileDatabaseService fileDatabaseService;
 
+    @Mock
+    private FileUploadPipeline uploadPipeline;
+
+    @Mock
+    private FileBlobStore blobStore;
+
     private User instructor;
     private LectureEntity lecture;
     private LectureFileEntity lectureFile;
@@ -96,7 +106,8 @@ public class LectureFileServiceTest {
         FileInfo fileInfo = new FileInfo("test-file.pdf", "https://example.com/files/test-file.pdf");
         
         when(lectureRepository.findById(lectureId)).thenReturn(Optional.of(lecture));
-        when(cloudFileService.uploadSingleFile(any(), anyString())).thenReturn(fileInfo);
+        when(uploadPipeline.stage(any(MultipartFile.class), eq(LectureFileEntity.class), anyString())).thenReturn(fileInfo);
+        when(fileDatabaseService.save(anyString(), anyString(), any())).thenReturn(lectureFile);
         
         // When
         ResponseField<String> result = lectureFileService.uploadLectureFile(lectureId, file);
@@ -105,6 +116,8 @@ public class LectureFileServiceTest {
         assertEquals(HttpStatus.OK, result.getStatus());
         assertEquals(fileInfo.getFileUrl(), result.getBody());
         verify(fileDatabaseService, times(1)).save(anyString(), anyString(), any());
+        verify(cloudFileService, never()).uploadSingleFile(any(), any(String[].class));
+        verify(uploadPipeline).attach(lectureFile, fileInfo);
     }
     
     @Test
@@ -128,14 +141,18 @@ public class LectureFileServiceTest {
     @DisplayName("강의 파일 조회 성공")
     void getLectureFileSuccess() {
         // Given
+        String presignedUrl = lectureFile.getFilePath() + "?X-Amz-Signature=signature";
         when(lectureFileRepository.findByIdAndLectureId(fileId, lectureId)).thenReturn(Optional.of(lectureFile));
+        when(blobStore.contentTypeOf(lectureFile.getFilePath())).thenReturn("application/pdf");
+        when(cloudFileService.presignDownload(lectureFile.getFilePath(), lectureFile.getFilename(), "application/pdf"))
+                .thenReturn(presignedUrl);
         
         // When
         ResponseField<String> result = lectureFileService.getLectureFile(lectureId, fileId);
         
         // Then
         assertEquals(HttpStatus.OK, result.getStatus());
-        assertEquals(lectureFile.getFilePath(), result.getBody());
+        assertEquals(presignedUrl, result.getBody());
     }
     
     @Test
@@ -162,6 +179,32 @@ public class LectureFileServiceTest {
         assertEquals(HttpStatus.OK, result.getStatus());
         assertEquals(1, result.getBody().size());
     }
+
+    @Test
+    @DisplayName("강의 파일 목록 조회 - 업로드에 실패한 파일은 상태와 함께 내려준다")
+    void getLectureFilesExposesUploadStatus() {
+        // Given
+        LectureFileEntity failed = LectureFileEntity.builder()
+                .id("failedFileId")
+                .filename("failed.pdf")
+                .filePath("https://test-bucket.s3.amazonaws.com/failed.pdf")
+                .uploadStatus(FileUploadStatus.FAILED)
+                .build();
+        when(lectureFileRepository.findByLectureId(lectureId)).thenReturn(Arrays.asList(lectureFile, failed));
+        when(cloudFileService.presignDownload(eq(lectureFile.getFilePath()), eq(lectureFile.getFilename()), any()))
+                .thenReturn("https://presigned/test.pdf");
+
+        // When
+        ResponseField<List<LectureFileResponse>> result = lectureFileService.getLectureFiles(lectureId);
+
+        // Then
+        assertEquals(FileUploadStatus.READY, result.getBody().get(0).getUploadStatus());
+        assertEquals("https://presigned/test.pdf", result.getBody().get(0).getFilePath());
+        assertEquals(FileUploadStatus.FAILED, result.getBody().get(1).getUploadStatus());
+        assertNull(result.getBody().get(1).getFilePath());
+        verify(cloudFileService, never()).presignDownload(eq(failed.getFilePath()), anyString(), any());
+        verify(blobStore, times(1)).contentTypesOf(any());
+    }
     
     @Test
     @DisplayName("강의 파일 삭제 성공")
@@ -0,0 +1,168 @@
+package org.example.plain.domain.meeting.handler;
+
+import org.example.plain.domain.meeting.dto.CandidateBatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+
+class CandidateCoalescerTest {
+    private static final String ROOM_ID = "room";
+
+    private final List<CandidateBatch> delivered = new CopyOnWriteArrayList<>();
+    private CandidateCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() {
+        if (coalescer != null) {
+            coalescer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("window 안에 들어온 candidate 는 받는 사람별로 묶어서 한 번에 내보낸다")
+    void batchesWithinWindow() {
+        coalescer = new CandidateCoalescer(50, 100, 2);
+
+        coalescer.submit(ROOM_ID, "alice", "bob", "c1", delivered::add);
+        coalescer.submit(ROOM_ID, "alice", "bob", "c2", delivered::add);
+        coalescer.submit(ROOM_ID, "alice", "carol", "c3", delivered::add);
+        coalescer.submit(ROOM_ID, "alice", "bob", "c4", delivered::add);
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> delivered.size() == 2);
+        assertThat(delivered)
+                .extracting(CandidateBatch::to, CandidateBatch::candidates)
+                .containsExactlyInAnyOrder(
+                        tuple("bob", List.of("c1", "c2", "c4")),
+                        tuple("carol", List.of("c3")));
+
+        CandidateCoalescer.CoalescerMetrics metrics = coalescer.getMetrics();
+        assertThat(metrics.candidates()).isEqualTo(4);
+        assertThat(metrics.frames()).isEqualTo(2);
+        assertThat(metrics.framesSaved()).isEqualTo(2);
+        assertThat(metrics.pendingBatches()).isZero();
+    }
+
+    @Test
+    @DisplayName("max-batch 개가 모이면 window 를 기다리지 않고 바로 내보낸다")
+    void flushesWhenBatchIsFull() {
+        coalescer = new CandidateCoalescer(60_000, 3, 2);
+
+        coalescer.submit(ROOM_ID, "alice", "bob", "c1", delivered::add);
+        coalescer.submit(ROOM_ID, "alice", "bob", "c2", delivered::add);
+        assertThat(delivered).isEmpty();
+
+        coalescer.submit(ROOM_ID, "alice", "bob", "c3", delivered::add);
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> delivered.size() == 1);
+        assertThat(delivered.get(0).candidates()).containsExactly("c1", "c2", "c3");
+        assertThat(coalescer.getMetrics().sizeFlushes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("flushPair 는 해당 쌍의 대기 중인 candidate 만 바로 내보낸다")
+    void flushPairEmitsPendingBatch() {
+        coalescer = new CandidateCoalescer(60_000, 100, 2);
+        coalescer.submit(ROOM_ID, "alice", "bob", "c1", delivered::add);
+        coalescer.submit(ROOM_ID, "bob", "alice", "c2", delivered::add);
+
+        coalescer.flushPair(ROOM_ID, "alice", "bob", () -> { });
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> delivered.size() == 1);
+        assertThat(delivered.get(0).senderId()).isEqualTo("alice");
+        assertThat(delivered.get(0).type()).isEqualTo("candidates");
+        assertThat(coalescer.getMetrics().pendingBatches()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("flushPair 다음 작업은 타이머가 내보내는 중인 묶음이 전달된 뒤에 실행된다")
+    void flushPairRunsNextAfterInFlightTimerFlush() throws Exception {
+        coalescer = new CandidateCoalescer(10, 100, 2);
+        List<String> events = new CopyOnWriteArrayList<>();
+        CountDownLatch emitting = new CountDownLatch(1);
+        coalescer.submit(ROOM_ID, "alice", "bob", "c1", batch -> {
+            emitting.countDown();
+            sleep(200);
+            events.add("candidates:" + batch.candidates());
+        });
+        assertThat(emitting.await(2, TimeUnit.SECONDS)).isTrue();
+
+        long start = System.nanoTime();
+        coalescer.flushPair(ROOM_ID, "alice", "bob", () -> events.add("offer"));
+
+        // 호출한 스레드는 느린 sink 를 기다리지 않는다
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis()).isLessThan(100);
+        await().atMost(Duration.ofSeconds(2)).until(() -> events.size() == 2);
+        assertThat(events).containsExactly("candidates:[c1]", "offer");
+    }
+
+    @Test
+    @DisplayName("flushPair 는 대기 중인 묶음을 다음 작업보다 먼저 내보낸다")
+    void flushPairEmitsPendingBeforeNext() {
+        coalescer = new CandidateCoalescer(60_000, 100, 2);
+        List<String> events = new CopyOnWriteArrayList<>();
+        coalescer.submit(ROOM_ID, "alice", "bob", "c1", batch -> events.add("candidates:" + batch.candidates()));
+        coalescer.submit(ROOM_ID, "alice", "bob", "c2", batch -> events.add("unused"));
+
+        coalescer.flushPair(ROOM_ID, "alice", "bob", () -> events.add("offer"));
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> events.size() == 2);
+        assertThat(events).containsExactly("candidates:[c1, c2]", "offer");
+    }
+
+    @Test
+    @DisplayName("느린 sink 는 submit 을 호출한 스레드를 막지 않는다")
+    void slowSinkDoesNotBlockSubmitter() throws Exception {
+        coalescer = new CandidateCoalescer(0, 100, 2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            coalescer.submit(ROOM_ID, "alice", "bob", "c" + i, batch -> {
+                try {
+                    release.await(2, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                delivered.add(batch);
+            });
+        }
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis()).isLessThan(100);
+        release.countDown();
+        await().atMost(Duration.ofSeconds(2)).until(() -> delivered.size() == 5);
+        assertThat(delivered).extracting(batch -> batch.candidates().get(0))
+                .containsExactly("c0", "c1", "c2", "c3", "c4");
+    }
+
+    @Test
+    @DisplayName("window 가 0 이면 candidate 마다 바로 내보낸다")
+    void disabledWindowEmitsImmediately() {
+        coalescer = new CandidateCoalescer(0, 100, 2);
+
+        coalescer.submit(ROOM_ID, "alice", null, "c1", delivered::add);
+        coalescer.submit(ROOM_ID, "alice", null, "c2", delivered::add);
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> delivered.size() == 2);
+        assertThat(delivered).extracting(CandidateBatch::candidates)
+                .containsExactly(List.of("c1"), List.of("c2"));
+        assertThat(coalescer.getMetrics().framesSaved()).isZero();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
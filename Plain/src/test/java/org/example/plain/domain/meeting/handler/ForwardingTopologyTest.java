@@ -0,0 +1,65 @@
+package org.example.plain.domain.meeting.handler;
+
+import org.example.plain.domain.meeting.dto.CandidateBatch;
+import org.example.plain.domain.meeting.dto.SignalMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForwardingTopologyTest {
+    private static final String ROOM_ID = "lecture";
+
+    private final StubMediaForwarder forwarder = new StubMediaForwarder();
+    private final ForwardingTopology topology = new ForwardingTopology(forwarder);
+    private final List<Object[]> sent = new ArrayList<>();
+    private final SignalRelay relay = (to, frame) -> sent.add(new Object[]{to, frame});
+
+    @Test
+    @DisplayName("offer 는 다른 참가자가 아닌 포워더로 보내고, 포워더의 answer 를 보낸 사람에게만 돌려준다")
+    void offerIsAnsweredByForwarder() {
+        topology.onJoin(ROOM_ID, "student", relay);
+
+        topology.onSignal(new SignalMessage("offer", ROOM_ID, "student", "teacher", "sdp-1"), relay);
+
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0)[0]).isEqualTo("student");
+        SignalMessage answer = (SignalMessage) sent.get(0)[1];
+        assertThat(answer.getType()).isEqualTo("answer");
+        assertThat(answer.getSenderId()).isEqualTo(ForwardingTopology.FORWARDER_ID);
+        assertThat(answer.getData()).isEqualTo("answer:sdp-1");
+    }
+
+    @Test
+    @DisplayName("candidate 묶음과 재협상 answer 는 포워더로만 전달된다")
+    void candidatesAndAnswersGoToForwarder() {
+        topology.onJoin(ROOM_ID, "student", relay);
+
+        topology.onCandidates(CandidateBatch.of(ROOM_ID, "student", null, List.of("c1", "c2")), relay);
+        topology.onSignal(new SignalMessage("answer", ROOM_ID, "student", null, "sdp-2"), relay);
+
+        assertThat(sent).isEmpty();
+        assertThat(forwarder.candidates.get(StubMediaForwarder.key(ROOM_ID, "student"))).containsExactly("c1", "c2");
+        assertThat(forwarder.answers.get(StubMediaForwarder.key(ROOM_ID, "student"))).isEqualTo("sdp-2");
+    }
+
+    @Test
+    @DisplayName("포워더가 보낸 시그널은 해당 참가자에게 포워더 이름으로 전달되고, 퇴장하면 연결을 닫는다")
+    void forwarderSignalsReachParticipant() {
+        topology.onJoin(ROOM_ID, "student", relay);
+
+        forwarder.push(ROOM_ID, "student", "offer", "renegotiate");
+
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0)[0]).isEqualTo("student");
+        SignalMessage offer = (SignalMessage) sent.get(0)[1];
+        assertThat(offer.getSenderId()).isEqualTo(ForwardingTopology.FORWARDER_ID);
+        assertThat(offer.getTo()).isEqualTo("student");
+
+        topology.onLeave(ROOM_ID, "student");
+        assertThat(forwarder.sinks).isEmpty();
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.plain.domain.meeting.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.plain.domain.meeting.dto.CandidateBatch;
+import org.example.plain.domain.meeting.dto.MeetingChatBroadcast;
+import org.example.plain.domain.meeting.dto.MeetingInboundMessage;
+import org.example.plain.domain.meeting.dto.MeetingStateBroadcast;
+import org.example.plain.domain.meeting.dto.SignalMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MeetingBinaryCodecTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("상태 변경은 JSON 보다 훨씬 작은 프레임으로 왕복한다")
+    void stateRoundTrip() throws Exception {
+        MeetingStateBroadcast state = MeetingStateBroadcast.of("user-1", true, false);
+
+        byte[] binary = MeetingBinaryCodec.encode(state);
+        MeetingBinaryCodec.Frame frame = MeetingBinaryCodec.decode(binary);
+
+        assertThat(frame.type()).isEqualTo("state");
+        assertThat(frame.first()).isEqualTo("user-1");
+        assertThat(frame.isMuted()).isTrue();
+        assertThat(frame.isVideoOff()).isFalse();
+        assertThat(binary.length).isLessThan(objectMapper.writeValueAsBytes(state).length / 4);
+    }
+
+    @Test
+    @DisplayName("시그널과 candidate 묶음은 보낸 사람, 받는 사람, 데이터를 보존한다")
+    void signalRoundTrip() {
+        MeetingBinaryCodec.Frame signal = MeetingBinaryCodec.decode(MeetingBinaryCodec.encode(
+                new SignalMessage("offer", "room", "alice", "bob", "v=0\r\no=- 1 2 IN IP4 127.0.0.1")));
+        MeetingBinaryCodec.Frame batch = MeetingBinaryCodec.decode(MeetingBinaryCodec.encode(
+                CandidateBatch.of("room", "alice", null, List.of("c1", "후보2"))));
+        MeetingBinaryCodec.Frame chat = MeetingBinaryCodec.decode(MeetingBinaryCodec.encode(
+                MeetingChatBroadcast.of("alice", "앨리스", "안녕하세요")));
+
+        assertThat(signal.type()).isEqualTo("offer");
+        assertThat(signal.first()).isEqualTo("alice");
+        assertThat(signal.second()).isEqualTo("bob");
+        assertThat(signal.body()).isEqualTo("v=0\r\no=- 1 2 IN IP4 127.0.0.1");
+        assertThat(batch.type()).isEqualTo("candidates");
+        assertThat(batch.second()).isNull();
+        assertThat(batch.items()).containsExactly("c1", "후보2");
+        assertThat(chat.second()).isEqualTo("앨리스");
+        assertThat(chat.body()).isEqualTo("안녕하세요");
+    }
+
+    @Test
+    @DisplayName("클라이언트 프레임은 JSON 으로 받은 것과 같은 MeetingInboundMessage 가 된다")
+    void inboundRoundTrip() throws Exception {
+        MeetingInboundMessage state = new MeetingInboundMessage("state", null, null, null, false, true);
+        MeetingInboundMessage candidate = new MeetingInboundMessage("candidate", "c1", "bob", null, false, false);
+        MeetingInboundMessage chat = new MeetingInboundMessage("chat", null, null, "hi", false, false);
+
+        for (MeetingInboundMessage message : List.of(state, candidate, chat)) {
+            MeetingInboundMessage fromJson = objectMapper.readValue(objectMapper.writeValueAsBytes(message), MeetingInboundMessage.class);
+            assertThat(MeetingBinaryCodec.decodeInbound(MeetingBinaryCodec.encodeInbound(message))).isEqualTo(fromJson);
+        }
+    }
+
+    @Test
+    @DisplayName("잘린 프레임과 알 수 없는 타입은 IllegalArgumentException 으로 거부한다")
+    void rejectsMalformedFrames() {
+        byte[] frame = MeetingBinaryCodec.encode(new SignalMessage("offer", "room", "alice", "bob", "sdp"));
+
+        assertThatThrownBy(() -> MeetingBinaryCodec.decode(Arrays.copyOf(frame, frame.length - 2)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MeetingBinaryCodec.decode(new byte[]{1, 42, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MeetingBinaryCodec.encode("plain text"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.plain.domain.meeting.handler;
+
+import org.example.plain.domain.meeting.service.MeetingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MeetingRoomReaperTest {
+    private final MeetingService meetingService = mock(MeetingService.class);
+    private final ParticipantLifecycleExecutor lifecycleExecutor = new ParticipantLifecycleExecutor(2);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        lifecycleExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("grace 기간이 지난 빈 회의실은 종료한다")
+    void closesRoomEmptyPastGrace() {
+        MeetingRoomReaper reaper = new MeetingRoomReaper(meetingService, lifecycleExecutor, 0, 0);
+        when(meetingService.isRoomEmpty("room")).thenReturn(true);
+        reaper.markEmpty("room");
+
+        assertThat(reaper.reap()).isEqualTo(1);
+
+        verify(meetingService, timeout(2000)).closeMeetingRoom("room");
+        await().atMost(Duration.ofSeconds(2)).until(() -> reaper.getMetrics().reaped() == 1);
+        assertThat(reaper.getMetrics().emptyRooms()).isZero();
+        reaper.shutdown();
+    }
+
+    @Test
+    @DisplayName("grace 기간 안에 다시 입장한 회의실은 종료하지 않는다")
+    void keepsRoomThatWasRejoined() {
+        MeetingRoomReaper reaper = new MeetingRoomReaper(meetingService, lifecycleExecutor, 3600, 0);
+        reaper.markEmpty("room");
+
+        assertThat(reaper.reap()).isZero();
+        reaper.markOccupied("room");
+
+        assertThat(reaper.getMetrics().emptyRooms()).isZero();
+        verify(meetingService, never()).closeMeetingRoom(anyString());
+        reaper.shutdown();
+    }
+
+    @Test
+    @DisplayName("다른 노드에 참가자가 남아 있으면 종료하지 않는다")
+    void keepsRoomWithRemoteParticipants() throws Exception {
+        MeetingRoomReaper reaper = new MeetingRoomReaper(meetingService, lifecycleExecutor, 0, 0);
+        when(meetingService.isRoomEmpty("room")).thenReturn(false);
+        reaper.markEmpty("room");
+
+        reaper.reap();
+        lifecycleExecutor.submit("room", () -> { }).get();
+
+        verify(meetingService, never()).closeMeetingRoom(anyString());
+        reaper.shutdown();
+    }
+}
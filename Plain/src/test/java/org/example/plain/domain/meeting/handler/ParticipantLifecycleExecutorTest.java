@@ -0,0 +1,96 @@
+package org.example.plain.domain.meeting.handler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ParticipantLifecycleExecutorTest {
+    private final ParticipantLifecycleExecutor executor = new ParticipantLifecycleExecutor(4);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 회의실의 작업은 제출한 순서대로 하나씩 실행된다")
+    void runsTasksOfRoomInOrder() {
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int order = i;
+            futures.add(executor.submit("room", () -> {
+                if (order % 7 == 0) {
+                    sleep(1);
+                }
+                executed.add(order);
+            }));
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        assertThat(executed).hasSize(200).isSorted();
+        await().atMost(Duration.ofSeconds(2)).until(() -> executor.getMetrics().busyRooms() == 0);
+    }
+
+    @Test
+    @DisplayName("다른 회의실의 작업은 앞선 회의실 작업을 기다리지 않는다")
+    void roomsDoNotBlockEachOther() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> blocked = executor.submit("slow", () -> awaitQuietly(release));
+
+        CompletableFuture<Void> other = executor.submit("fast", () -> { });
+
+        other.get(2, TimeUnit.SECONDS);
+        assertThat(blocked).isNotDone();
+        release.countDown();
+        blocked.get(2, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("실패한 작업 뒤의 작업도 실행되고 실패 수가 집계된다")
+    void continuesAfterFailure() throws Exception {
+        CompletableFuture<Void> failing = executor.submit("room", () -> {
+            throw new IllegalStateException("room not found");
+        });
+        List<String> executed = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> next = executor.submit("room", () -> executed.add("leave"));
+
+        next.get(2, TimeUnit.SECONDS);
+
+        assertThat(failing).isCompletedExceptionally();
+        assertThat(executed).containsExactly("leave");
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> {
+            ParticipantLifecycleExecutor.LifecycleMetrics metrics = executor.getMetrics();
+            assertThat(metrics.failed()).isEqualTo(1);
+            assertThat(metrics.completed()).isEqualTo(1);
+        });
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
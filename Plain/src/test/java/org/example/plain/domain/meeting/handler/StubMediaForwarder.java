@@ -0,0 +1,57 @@
+package org.example.plain.domain.meeting.handler;
+
+import org.example.plain.domain.meeting.dto.SignalMessage;
+import org.example.plain.domain.meeting.service.MediaForwarder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 테스트용 미디어 포워더
+ * offer 에는 "answer:" 를 붙인 SDP 로 답하고, 받은 candidate 와 참가자 연결을 기록한다.
+ */
+class StubMediaForwarder implements MediaForwarder {
+    final Map<String, Consumer<SignalMessage>> sinks = new ConcurrentHashMap<>();
+    final Map<String, List<String>> candidates = new ConcurrentHashMap<>();
+    final Map<String, String> answers = new ConcurrentHashMap<>();
+
+    @Override
+    public void open(String roomId, String userId, Consumer<SignalMessage> sink) {
+        sinks.put(key(roomId, userId), sink);
+    }
+
+    @Override
+    public String offer(String roomId, String userId, String sdp) {
+        return "answer:" + sdp;
+    }
+
+    @Override
+    public void answer(String roomId, String userId, String sdp) {
+        answers.put(key(roomId, userId), sdp);
+    }
+
+    @Override
+    public void addCandidates(String roomId, String userId, List<String> received) {
+        candidates.computeIfAbsent(key(roomId, userId), key -> new ArrayList<>()).addAll(received);
+    }
+
+    @Override
+    public void close(String roomId, String userId) {
+        sinks.remove(key(roomId, userId));
+        candidates.remove(key(roomId, userId));
+    }
+
+    /**
+     * 포워더가 참가자에게 시그널을 보낸 것처럼 sink 를 호출합니다.
+     */
+    void push(String roomId, String userId, String type, String data) {
+        sinks.get(key(roomId, userId)).accept(new SignalMessage(type, roomId, null, data));
+    }
+
+    static String key(String roomId, String userId) {
+        return roomId + "/" + userId;
+    }
+}
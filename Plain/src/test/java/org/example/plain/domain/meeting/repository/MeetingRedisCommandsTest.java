@@ -0,0 +1,129 @@
+package org.example.plain.domain.meeting.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.plain.common.metrics.LatencyHistogram;
+import org.example.plain.domain.meeting.dto.MeetingRoomDto;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MeetingRedisCommandsTest {
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private MeetingRedisCommands redisCommands;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory("localhost", redisPort);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        RedisTemplate<String, MeetingRoomDto> roomTemplate = new RedisTemplate<>();
+        roomTemplate.setConnectionFactory(connectionFactory);
+        roomTemplate.setKeySerializer(new StringRedisSerializer());
+        roomTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(objectMapper, MeetingRoomDto.class));
+        roomTemplate.afterPropertiesSet();
+
+        redisCommands = new MeetingRedisCommands(redisTemplate, roomTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("회의실 종료는 상태 변경과 채팅/시그널링 삭제를 한 번에 처리한다")
+    void closeRoom() {
+        MeetingRoomDto room = MeetingRoomDto.create("room1", "host", "주간 회의");
+        redisCommands.saveRoom(room);
+        redisCommands.appendChat("room1", "hello".getBytes(StandardCharsets.UTF_8), 10);
+        redisTemplate.opsForValue().set(MeetingRedisCommands.offerKey("room1"), "offer");
+        redisTemplate.opsForValue().set(MeetingRedisCommands.answerKey("room1"), "answer");
+        redisTemplate.opsForList().rightPush(MeetingRedisCommands.candidatesKey("room1"), "candidate");
+        redisCommands.saveSignal("room1", "host", "guest", "offer", List.of("pair-offer"), Duration.ofMinutes(1), 10);
+
+        assertThat(redisCommands.closeRoom("room1")).isTrue();
+
+        MeetingRoomDto closed = redisCommands.findRoom("room1");
+        assertThat(closed.isActive()).isFalse();
+        assertThat(closed.getStatus()).isEqualTo("CLOSED");
+        assertThat(closed.getTitle()).isEqualTo("주간 회의");
+        assertThat(closed.getCreatedAt()).isEqualTo(room.getCreatedAt());
+        assertThat(redisTemplate.countExistingKeys(List.of(
+                MeetingRedisCommands.chatKey("room1"),
+                MeetingRedisCommands.offerKey("room1"),
+                MeetingRedisCommands.answerKey("room1"),
+                MeetingRedisCommands.candidatesKey("room1"),
+                MeetingRedisCommands.peerSignalKey("room1", "host", "guest", "offer"),
+                MeetingRedisCommands.signalInboxKey("room1", "guest"),
+                MeetingRedisCommands.signalIndexKey("room1")))).isZero();
+    }
+
+    @Test
+    @DisplayName("없는 회의실을 종료해도 남은 데이터는 지우고 false 를 반환한다")
+    void closeMissingRoom() {
+        redisTemplate.opsForValue().set(MeetingRedisCommands.offerKey("room2"), "offer");
+
+        assertThat(redisCommands.closeRoom("room2")).isFalse();
+        assertThat(redisCommands.roomExists("room2")).isFalse();
+        assertThat(redisTemplate.hasKey(MeetingRedisCommands.offerKey("room2"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("명령 종류별로 지연 시간을 기록한다")
+    void recordsLatencyPerOperation() {
+        redisCommands.roomExists("room3");
+        redisCommands.roomExists("room3");
+        redisCommands.clearSignaling("room3");
+
+        Map<MeetingRedisCommands.Operation, LatencyHistogram.Snapshot> metrics = redisCommands.getMetrics();
+        assertThat(metrics.get(MeetingRedisCommands.Operation.ROOM_EXISTS).count()).isEqualTo(2);
+        assertThat(metrics.get(MeetingRedisCommands.Operation.CLEAR_SIGNALING).count()).isEqualTo(1);
+        assertThat(metrics.get(MeetingRedisCommands.Operation.CLOSE_ROOM).count()).isZero();
+    }
+}
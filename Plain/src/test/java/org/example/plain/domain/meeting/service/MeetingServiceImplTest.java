@@ -3,6 +3,7 @@ package org.example.plain.domain.meeting.service;
 import org.example.plain.domain.meeting.dto.ChatMessage;
 import org.example.plain.domain.meeting.dto.ParticipantState;
 import org.example.plain.domain.meeting.dto.SignalMessage;
+import org.example.plain.domain.meeting.repository.MeetingRedisCommands;
 import org.example.plain.domain.meeting.service.impl.MeetingServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -43,6 +44,9 @@ class MeetingServiceImplTest {
     @Mock
     private SignalingService signalingService;
 
+    @Mock
+    private MeetingRedisCommands redisCommands;
+
     @InjectMocks
     private MeetingServiceImpl meetingService;
 
@@ -63,6 +67,9 @@ class MeetingServiceImplTest {
         @Test
         @DisplayName("참가자 입장 처리")
         void handleParticipantJoin() {
+            // given
+            when(redisCommands.roomExists(TEST_ROOM_ID)).thenReturn(true);
+
             // when
             meetingService.handleParticipantJoin(TEST_ROOM_ID, TEST_USER_ID, TEST_USER_NAME);
 
@@ -74,6 +81,9 @@ class MeetingServiceImplTest {
         @Test
         @DisplayName("참가자 퇴장 처리")
         void handleParticipantLeave() {
+            // given
+            when(redisCommands.roomExists(TEST_ROOM_ID)).thenReturn(true);
+
             // when
             meetingService.handleParticipantLeave(TEST_ROOM_ID, TEST_USER_ID);
 
@@ -179,14 +189,14 @@ class MeetingServiceImplTest {
                     createChatMessage(CHAT_TYPE, TEST_MESSAGE),
                     createChatMessage(SYSTEM_TYPE, "User joined the room")
             );
-            when(chatService.getMessages(TEST_ROOM_ID)).thenReturn(expectedMessages);
+            when(chatService.getMessages(TEST_ROOM_ID, 0, 50)).thenReturn(expectedMessages);
 
             // when
-            List<ChatMessage> messages = meetingService.getChatMessages(TEST_ROOM_ID);
+            List<ChatMessage> messages = meetingService.getChatMessages(TEST_ROOM_ID, 0, 50);
 
             // then
             assertThat(messages).isEqualTo(expectedMessages);
-            verify(chatService).getMessages(TEST_ROOM_ID);
+            verify(chatService).getMessages(TEST_ROOM_ID, 0, 50);
         }
 
         @Test
@@ -0,0 +1,69 @@
+package org.example.plain.domain.meeting.service.impl;
+
+import org.example.plain.domain.meeting.dto.ChatMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatMessageCodecTest {
+
+    @Test
+    @DisplayName("인코딩한 레코드를 같은 메시지로 복원한다")
+    void roundTrip() {
+        ChatMessage message = ChatMessage.builder()
+                .type("chat")
+                .roomId("room1")
+                .senderId("user-1")
+                .senderName("홍길동")
+                .message("안녕하세요 😀")
+                .timestamp(LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_000_000))
+                .build();
+
+        ChatMessage decoded = ChatMessageCodec.decode("room1", ChatMessageCodec.encode(message));
+
+        assertThat(decoded).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("null 필드도 그대로 복원한다")
+    void nullFields() {
+        ChatMessage message = ChatMessage.builder().roomId("room1").message("hi").build();
+
+        ChatMessage decoded = ChatMessageCodec.decode("room1", ChatMessageCodec.encode(message));
+
+        assertThat(decoded).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("이전 toString 형식 항목은 문자열 그대로 message 로 읽는다")
+    void legacyRecord() {
+        String legacy = "ChatMessage(type=chat, roomId=room1, senderId=u, senderName=n, message=hi, timestamp=null)";
+
+        ChatMessage decoded = ChatMessageCodec.decode("room1", legacy.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(decoded.getType()).isEqualTo("chat");
+        assertThat(decoded.getMessage()).isEqualTo(legacy);
+    }
+
+    @Test
+    @DisplayName("바이너리 레코드는 기존 toString 저장 형식보다 작다")
+    void smallerThanLegacyFormat() {
+        ChatMessage message = ChatMessage.builder()
+                .type("chat")
+                .roomId("3f2b8c7e-4d1a-4b5e-9c3f-2a1b0c9d8e7f")
+                .senderId("user-1")
+                .senderName("홍길동")
+                .message("오늘 회의 자료 공유드립니다.")
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        int legacy = message.toString().getBytes(StandardCharsets.UTF_8).length;
+        int compact = ChatMessageCodec.encode(message).length;
+
+        assertThat(compact).isLessThan(legacy / 2);
+    }
+}
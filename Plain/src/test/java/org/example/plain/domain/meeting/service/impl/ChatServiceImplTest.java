@@ -0,0 +1,109 @@
+package org.example.plain.domain.meeting.service.impl;
+
+import org.example.plain.domain.meeting.dto.ChatMessage;
+import org.example.plain.domain.meeting.repository.MeetingRedisCommands;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatServiceImplTest {
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+
+    private LettuceConnectionFactory connectionFactory;
+    private ChatServiceImpl chatService;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory("localhost", redisPort);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        chatService = new ChatServiceImpl(new MeetingRedisCommands(redisTemplate, null), 5);
+        chatService.clearChatHistory("room1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("최근 N개의 메시지만 남긴다")
+    void keepsMostRecentMessages() {
+        for (int i = 0; i < 8; i++) {
+            chatService.saveMessage(message(i));
+        }
+
+        assertThat(chatService.getMessages("room1", 0, 100))
+                .extracting(ChatMessage::getMessage)
+                .containsExactly("3", "4", "5", "6", "7");
+    }
+
+    @Test
+    @DisplayName("최신 메시지부터 offset/limit 으로 나눠 읽고 타입을 복원한다")
+    void readsPages() {
+        for (int i = 0; i < 5; i++) {
+            chatService.saveMessage(message(i));
+        }
+
+        assertThat(chatService.getMessages("room1", 0, 2))
+                .extracting(ChatMessage::getMessage)
+                .containsExactly("3", "4");
+        assertThat(chatService.getMessages("room1", 2, 2))
+                .extracting(ChatMessage::getMessage)
+                .containsExactly("1", "2");
+        assertThat(chatService.getMessages("room1", 4, 2))
+                .extracting(ChatMessage::getMessage)
+                .containsExactly("0");
+        assertThat(chatService.getMessages("room1", 5, 2)).isEmpty();
+
+        ChatMessage latest = chatService.getMessages("room1", 0, 1).get(0);
+        assertThat(latest.getRoomId()).isEqualTo("room1");
+        assertThat(latest.getSenderId()).isEqualTo("user-4");
+        assertThat(latest.getTimestamp()).isNotNull();
+    }
+
+    private ChatMessage message(int i) {
+        return ChatMessage.builder()
+                .type("chat")
+                .roomId("room1")
+                .senderId("user-" + i)
+                .senderName("name")
+                .message(String.valueOf(i))
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.plain.domain.meeting.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParticipantServiceImplTest {
+
+    private final ParticipantServiceImpl participantService = new ParticipantServiceImpl();
+
+    @Test
+    @DisplayName("입장 순서를 유지하고 변경 전까지 같은 스냅샷을 반환한다")
+    void snapshotReads() {
+        participantService.addParticipant("room1", "host");
+        participantService.addParticipant("room1", "guest");
+        participantService.addParticipant("room1", "host");
+        participantService.updateParticipantState("room1", "guest", "게스트", true, false);
+        participantService.updateParticipantState("room1", "stranger", "외부인", false, false);
+
+        List<String> participants = participantService.getParticipants("room1");
+        assertThat(participants).containsExactly("host", "guest");
+        assertThat(participantService.getParticipants("room1")).isSameAs(participants);
+        assertThat(participantService.getParticipantStates("room1"))
+                .extracting(state -> state.getUserId())
+                .containsExactly("guest");
+
+        participantService.removeParticipant("room1", "host");
+        assertThat(participantService.getParticipants("room1")).containsExactly("guest");
+        assertThat(participantService.getParticipants("missing")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("마지막 참가자가 나가면 회의실이 비고, 동시에 입장한 참가자는 사라지지 않는다")
+    void concurrentJoinAndLeave() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                String userId = "user-" + thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        participantService.addParticipant("room1", userId);
+                        participantService.updateParticipantState("room1", userId, userId, false, false);
+                        participantService.removeParticipant("room1", userId);
+                    }
+                    participantService.addParticipant("room1", userId);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(participantService.getParticipants("room1")).hasSize(8);
+        for (int thread = 0; thread < 8; thread++) {
+            participantService.removeParticipant("room1", "user-" + thread);
+        }
+        assertThat(participantService.isRoomEmpty("room1")).isTrue();
+    }
+}
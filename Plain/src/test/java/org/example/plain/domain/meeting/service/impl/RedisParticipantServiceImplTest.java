@@ -0,0 +1,160 @@
+package org.example.plain.domain.meeting.service.impl;
+
+import org.example.plain.domain.meeting.dto.ParticipantState;
+import org.example.plain.domain.meeting.repository.MeetingRedisCommands;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class RedisParticipantServiceImplTest {
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private MeetingRedisCommands redisCommands;
+    /** 같은 Redis 를 쓰는 두 노드 */
+    private RedisParticipantServiceImpl nodeA;
+    private RedisParticipantServiceImpl nodeB;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory("localhost", redisPort);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        redisCommands = new MeetingRedisCommands(redisTemplate, null);
+        nodeA = new RedisParticipantServiceImpl(redisCommands, connectionFactory, 60, true, true);
+        nodeB = new RedisParticipantServiceImpl(redisCommands, connectionFactory, 60, true, true);
+        nodeA.removeAllParticipants("room1");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.shutdown();
+        nodeB.shutdown();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("입장 순서대로 참가자를 반환하고 상태는 갱신된 참가자만 반환한다")
+    void joinOrderAndStates() {
+        nodeA.addParticipant("room1", "host");
+        nodeB.addParticipant("room1", "guest");
+        nodeA.addParticipant("room1", "host");
+        nodeB.updateParticipantState("room1", "guest", "게스트|1", true, false);
+        nodeB.updateParticipantState("room1", "stranger", "외부인", false, false);
+
+        assertThat(nodeA.getParticipants("room1")).containsExactly("host", "guest");
+        assertThat(nodeA.getParticipantStates("room1")).singleElement().satisfies(state -> {
+            assertThat(state.getUserId()).isEqualTo("guest");
+            assertThat(state.getUserName()).isEqualTo("게스트|1");
+            assertThat(state.isMuted()).isTrue();
+            assertThat(state.isVideoOff()).isFalse();
+        });
+        assertThat(redisTemplate.getExpire(MeetingRedisCommands.participantsKey("room1"))).isPositive();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경은 keyspace 알림으로 near-cache 에서 무효화된다")
+    void invalidatesNearCacheAcrossNodes() {
+        nodeA.addParticipant("room1", "host");
+        nodeA.addParticipant("room1", "guest");
+        // 입장 알림이 모두 도착한 뒤에는 캐시에서 읽는다
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(nodeB.getParticipants("room1")).containsExactly("host", "guest");
+            assertThat(nodeB.getMetrics().hits()).isPositive();
+        });
+
+        nodeA.removeParticipant("room1", "guest");
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(nodeB.getParticipants("room1")).containsExactly("host"));
+
+        nodeA.removeParticipant("room1", "host");
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(nodeB.isRoomEmpty("room1")).isTrue());
+        assertThat(redisTemplate.hasKey(MeetingRedisCommands.participantsKey("room1"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("회의실 전체 삭제는 참가자 해시를 지운다")
+    void removeAllParticipants() {
+        nodeA.addParticipant("room1", "host");
+        nodeA.updateParticipantState("room1", "host", "호스트", false, true);
+
+        nodeA.removeAllParticipants("room1");
+
+        assertThat(nodeA.getParticipants("room1")).isEmpty();
+        assertThat(nodeA.getParticipantStates("room1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("설정 변경을 허용하지 않으면 서버 설정을 바꾸지 않고 near-cache 없이 동작한다")
+    void leavesServerConfigUntouchedByDefault() throws Exception {
+        setKeyspaceEvents("");
+        RedisParticipantServiceImpl node = new RedisParticipantServiceImpl(redisCommands, connectionFactory, 60, true, false);
+        try {
+            assertThat(keyspaceEvents()).isEmpty();
+
+            node.addParticipant("room1", "host");
+            assertThat(node.getParticipants("room1")).containsExactly("host");
+            nodeA.addParticipant("room1", "guest");
+            assertThat(node.getParticipants("room1")).containsExactly("host", "guest");
+            assertThat(node.getMetrics().hits()).isZero();
+        } finally {
+            node.shutdown();
+            setKeyspaceEvents("Khgx");
+        }
+    }
+
+    private void setKeyspaceEvents(String flags) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().setConfig("notify-keyspace-events", flags);
+        }
+    }
+
+    private String keyspaceEvents() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            return connection.serverCommands().getConfig("notify-keyspace-events")
+                    .getProperty("notify-keyspace-events", "");
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.plain.domain.meeting.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.plain.domain.meeting.dto.MeetingRoomDto;
+import org.example.plain.domain.meeting.dto.PeerSignal;
+import org.example.plain.domain.meeting.dto.SignalMessage;
+import org.example.plain.domain.meeting.repository.MeetingRedisCommands;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignalingServiceImplTest {
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private MeetingRedisCommands redisCommands;
+    private SignalingServiceImpl signalingService;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory("localhost", redisPort);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        RedisTemplate<String, MeetingRoomDto> roomTemplate = new RedisTemplate<>();
+        roomTemplate.setConnectionFactory(connectionFactory);
+        roomTemplate.setKeySerializer(new StringRedisSerializer());
+        roomTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(objectMapper, MeetingRoomDto.class));
+        roomTemplate.afterPropertiesSet();
+
+        redisCommands = new MeetingRedisCommands(redisTemplate, roomTemplate);
+        signalingService = new SignalingServiceImpl(redisTemplate, redisCommands, 60, 3, 3600);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        redisCommands.saveRoom(MeetingRoomDto.create("room1", "host", "회의"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        signalingService.shutdown();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("참가자 쌍마다 따로 저장해 받는 참가자에게 온 시그널만 돌려준다")
+    void pendingSignalsPerPeer() {
+        signalingService.handleSignal(signal("alice", "carol", "offer", "offer-a"));
+        signalingService.handleSignal(signal("bob", "carol", "offer", "offer-b"));
+        signalingService.handleSignal(signal("alice", "bob", "offer", "offer-a-to-b"));
+        for (int i = 0; i < 5; i++) {
+            signalingService.handleSignal(signal("alice", "carol", "candidate", "cand-" + i));
+        }
+
+        List<PeerSignal> pending = signalingService.getPendingSignals("room1", "carol");
+
+        assertThat(pending).extracting(PeerSignal::from).containsExactlyInAnyOrder("alice", "bob");
+        PeerSignal fromAlice = pending.stream().filter(s -> s.from().equals("alice")).findFirst().orElseThrow();
+        assertThat(fromAlice.offer()).isEqualTo("offer-a");
+        assertThat(fromAlice.answer()).isNull();
+        assertThat(fromAlice.candidates()).containsExactly("cand-2", "cand-3", "cand-4");
+        assertThat(redisTemplate.getExpire(MeetingRedisCommands.peerSignalKey("room1", "alice", "carol", "offer")))
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("새 offer 는 같은 쌍의 이전 candidate 를 버린다")
+    void newOfferResetsCandidates() {
+        signalingService.handleSignal(signal("alice", "bob", "offer", "offer-1"));
+        signalingService.handleSignal(signal("alice", "bob", "candidate", "old"));
+        signalingService.handleSignal(signal("alice", "bob", "offer", "offer-2"));
+
+        PeerSignal fromAlice = signalingService.getPendingSignals("room1", "bob").get(0);
+        assertThat(fromAlice.offer()).isEqualTo("offer-2");
+        assertThat(fromAlice.candidates()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("회의실이 사라지면 sweeper 가 시그널링 키를 모두 지운다")
+    void sweepAbandonedRoom() {
+        signalingService.handleSignal(signal("alice", "bob", "offer", "offer"));
+        signalingService.handleSignal(signal("alice", null, "candidate", "legacy"));
+
+        assertThat(signalingService.sweep()).isZero();
+        assertThat(signalingService.getCandidates("room1")).containsExactly("legacy");
+
+        redisTemplate.delete(MeetingRedisCommands.roomKey("room1"));
+
+        assertThat(signalingService.sweep()).isPositive();
+        assertThat(signalingService.getPendingSignals("room1", "bob")).isEmpty();
+        assertThat(signalingService.getCandidates("room1")).isEmpty();
+        assertThat(redisTemplate.hasKey(MeetingRedisCommands.signalIndexKey("room1"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("시그널링 정리는 이전 방식 키와 참가자 쌍 키를 함께 지운다")
+    void clearSignalingData() {
+        signalingService.handleSignal(signal("alice", null, "offer", "legacy-offer"));
+        signalingService.handleSignal(signal("alice", "bob", "answer", "answer"));
+
+        signalingService.clearSignalingData("room1");
+
+        assertThat(signalingService.getOffer("room1")).isNull();
+        assertThat(signalingService.getPendingSignals("room1", "bob")).isEmpty();
+    }
+
+    private SignalMessage signal(String from, String to, String type, String data) {
+        return SignalMessage.builder()
+                .roomId("room1")
+                .senderId(from)
+                .to(to)
+                .type(type)
+                .data(data)
+                .build();
+    }
+}
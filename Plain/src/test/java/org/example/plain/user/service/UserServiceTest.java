@@ -29,11 +29,13 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.example.plain.domain.file.interfaces.CloudFileService;
 import org.example.plain.domain.file.interfaces.FileDatabaseService;
 import org.example.plain.domain.file.repository.UserFileRepository;
+import org.example.plain.domain.file.service.FileUploadPipeline;
 import org.example.plain.domain.file.dto.FileInfo;
 import org.example.plain.domain.file.entity.FileEntity;
 import org.example.plain.domain.file.entity.ImageFileEntity;
 import org.example.plain.domain.file.entity.UserFileEntity;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
 
 @SpringJUnitConfig
 public class UserServiceTest {
@@ -45,6 +47,8 @@ public class UserServiceTest {
     @MockBean
     private CloudFileService cloudFileService;
     @MockBean
+    private FileUploadPipeline uploadPipeline;
+    @MockBean
     private FileDatabaseService userImageService;
     @MockBean
     private UserFileRepository userFileRepository;
@@ -75,6 +79,7 @@ public class UserServiceTest {
             userRepository,
             bCryptPasswordEncoder,
             cloudFileService,
+            uploadPipeline,
             userImageService,
             userFileRepository,
             emailVerificationRepository
@@ -179,9 +184,9 @@ public class UserServiceTest {
         Mockito.when(userRepository.findById(userId))
                .thenReturn(Optional.of(mockUser));
         
-        // 2. 파일 업로드 mock (CloudFileService)
+        // 2. 파일 스테이징 mock (FileUploadPipeline)
         FileInfo mockFileInfo = new FileInfo("test-image.jpg", "https://example.com/images/test-image.jpg");
-        Mockito.when(cloudFileService.uploadSingleFile(Mockito.any(), Mockito.eq(userId), Mockito.eq("profile")))
+        Mockito.when(uploadPipeline.stage(Mockito.any(MultipartFile.class), Mockito.eq(ImageFileEntity.class), Mockito.eq(userId), Mockito.eq("profile")))
                .thenReturn(mockFileInfo);
         
         // 3. 파일 저장 mock (FileDatabaseService)
@@ -204,8 +209,8 @@ public class UserServiceTest {
         // userRepository.findById가 호출되었는지 확인
         Mockito.verify(userRepository).findById(userId);
         
-        // cloudFileService.uploadSingleFile이 호출되었는지 확인
-        Mockito.verify(cloudFileService).uploadSingleFile(Mockito.any(), Mockito.eq(userId), Mockito.eq("profile"));
+        // uploadPipeline.stage가 호출되었는지 확인
+        Mockito.verify(uploadPipeline).stage(Mockito.any(MultipartFile.class), Mockito.eq(ImageFileEntity.class), Mockito.eq(userId), Mockito.eq("profile"));
         
         // userImageService.save가 호출되었는지 확인
         Mockito.verify(userImageService).save(
@@ -245,7 +250,7 @@ public class UserServiceTest {
         
         // userRepository.findById만 호출되고 다른 메소드는 호출되지 않아야 함
         Mockito.verify(userRepository).findById(userId);
-        Mockito.verify(cloudFileService, Mockito.never()).uploadSingleFile(Mockito.any(), Mockito.anyString(), Mockito.anyString());
+        Mockito.verify(uploadPipeline, Mockito.never()).stage(Mockito.any(MultipartFile.class), Mockito.any(), Mockito.any(String[].class));
         Mockito.verify(userImageService, Mockito.never()).save(Mockito.anyString(), Mockito.anyString(), Mockito.any());
     }
     